@@ -0,0 +1,20 @@
+package software.xdev.vaadin.editable_label.benchmark;
+
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextField;
+
+
+/**
+ * Exposes the internal hot paths of the label so that they can be measured directly.
+ */
+public class BenchmarkEditableLabelTextField extends EditableLabelTextField
+{
+	public void updateLabelTextTo(final String value)
+	{
+		this.updateLabelText(value);
+	}
+	
+	public void commitValue(final String value)
+	{
+		this.updateValue(value, true);
+	}
+}
@@ -0,0 +1,109 @@
+package software.xdev.vaadin.editable_label.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.textfield.BigDecimalField;
+import com.vaadin.flow.component.textfield.NumberField;
+import com.vaadin.flow.component.textfield.TextArea;
+import com.vaadin.flow.component.textfield.TextField;
+
+import software.xdev.vaadin.editable_label.predefined.EditableLabelBigDecimalField;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelComboBox;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelDatePicker;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelNumberField;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextArea;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextField;
+
+
+/**
+ * Measures the construction of the predefined labels - with an eager and a lazy initialized editor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConstructionBenchmark
+{
+	@Benchmark
+	public EditableLabelTextField textField()
+	{
+		return new EditableLabelTextField();
+	}
+	
+	@Benchmark
+	public EditableLabelTextField textFieldLazy()
+	{
+		return new EditableLabelTextField(TextField::new, null);
+	}
+	
+	@Benchmark
+	public EditableLabelTextArea textArea()
+	{
+		return new EditableLabelTextArea();
+	}
+	
+	@Benchmark
+	public EditableLabelTextArea textAreaLazy()
+	{
+		return new EditableLabelTextArea(TextArea::new, null);
+	}
+	
+	@Benchmark
+	public EditableLabelNumberField numberField()
+	{
+		return new EditableLabelNumberField();
+	}
+	
+	@Benchmark
+	public EditableLabelNumberField numberFieldLazy()
+	{
+		return new EditableLabelNumberField(NumberField::new, null);
+	}
+	
+	@Benchmark
+	public EditableLabelBigDecimalField bigDecimalField()
+	{
+		return new EditableLabelBigDecimalField();
+	}
+	
+	@Benchmark
+	public EditableLabelBigDecimalField bigDecimalFieldLazy()
+	{
+		return new EditableLabelBigDecimalField(BigDecimalField::new, null);
+	}
+	
+	@Benchmark
+	public EditableLabelDatePicker datePicker()
+	{
+		return new EditableLabelDatePicker();
+	}
+	
+	@Benchmark
+	public EditableLabelDatePicker datePickerLazy()
+	{
+		return new EditableLabelDatePicker(DatePicker::new, null);
+	}
+	
+	@Benchmark
+	public EditableLabelComboBox<String> comboBox()
+	{
+		return new EditableLabelComboBox<>();
+	}
+	
+	@Benchmark
+	public EditableLabelComboBox<String> comboBoxLazy()
+	{
+		return new EditableLabelComboBox<String>(ComboBox::new, null);
+	}
+}
@@ -0,0 +1,85 @@
+package software.xdev.vaadin.editable_label.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+
+
+/**
+ * Measures the hot paths of an existing label.
+ * <p/>
+ * Each operation includes simulating the response to the client as some work (e.g. rendering the label) is deferred
+ * until then.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LabelBenchmark
+{
+	private static final String VALUE_A = "Some text";
+	private static final String VALUE_B = "Some other text";
+	
+	private BrowserlessUI ui;
+	private BenchmarkEditableLabelTextField label;
+	private boolean toggle;
+	
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		this.ui = new BrowserlessUI();
+		this.label = new BenchmarkEditableLabelTextField();
+		this.label.setValue(VALUE_A);
+		this.ui.add(this.label);
+		this.ui.flushResponse();
+	}
+	
+	private String nextValue()
+	{
+		this.toggle = !this.toggle;
+		return this.toggle ? VALUE_B : VALUE_A;
+	}
+	
+	@Benchmark
+	public void updateLabelText()
+	{
+		this.label.updateLabelTextTo(this.nextValue());
+		this.ui.flushResponse();
+	}
+	
+	@Benchmark
+	public void editModeRoundTrip()
+	{
+		this.label.setEditMode(true);
+		this.label.setEditMode(false);
+		this.ui.flushResponse();
+	}
+	
+	@Benchmark
+	public void updateValueEqual()
+	{
+		this.label.commitValue(this.label.getValue());
+		this.ui.flushResponse();
+	}
+	
+	@Benchmark
+	public void updateValueNotEqual()
+	{
+		this.label.commitValue(this.nextValue());
+		this.ui.flushResponse();
+	}
+}
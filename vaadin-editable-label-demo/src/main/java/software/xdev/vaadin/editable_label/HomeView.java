@@ -15,6 +15,7 @@ import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.Composite;
 import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.datepicker.DatePicker;
 import com.vaadin.flow.component.formlayout.FormLayout;
 import com.vaadin.flow.component.html.H4;
@@ -24,6 +25,7 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.EmailField;
 import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextAreaVariant;
+import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 
@@ -59,6 +61,8 @@ public class HomeView extends Composite<VerticalLayout>
 			this.getPredefinedComponents(),
 			new H4("Custom Component"),
 			this.getCustomComponent(),
+			new H4("Group with shared editor"),
+			this.getGroupComponents(),
 			new H4("Event"),
 			this.valueChangeEventTa);
 	}
@@ -86,6 +90,10 @@ public class HomeView extends Composite<VerticalLayout>
 				entry(
 					"TextField with empty value",
 					new EditableLabelTextField()),
+				entry(
+					"TextField with lazy editor",
+					new EditableLabelTextField(TextField::new, null)
+						.withValue("The editor is created when editing")),
 				entry(
 					"Textarea",
 					new EditableLabelTextArea()
@@ -182,6 +190,24 @@ public class HomeView extends Composite<VerticalLayout>
 		return hl;
 	}
 	
+	private HorizontalLayout getGroupComponents()
+	{
+		final EditableLabelGroup<ComboBox<Vehicle>, Vehicle> group = new EditableLabelGroup<>(new ComboBox<>());
+		group.getEditor().setItems(Vehicle.values());
+		
+		final HorizontalLayout hl = new HorizontalLayout();
+		for(final Vehicle vehicle : Vehicle.values())
+		{
+			final EditableLabelComboBox<Vehicle> label =
+				group.add(new EditableLabelComboBox<Vehicle>(group::getEditor, null))
+					.withValue(vehicle)
+					.withLabelGenerator(Vehicle::getEmoji);
+			this.registerValueChangeEvent("Group-" + vehicle.name(), label);
+			hl.add(label);
+		}
+		return hl;
+	}
+	
 	private void registerValueChangeEvent(final String source, final AbstractEditableLabel<?, ?, ?> ael)
 	{
 		ael.addValueChangeListener(ev -> {
@@ -0,0 +1,22 @@
+package software.xdev.vaadin.editable_label.loadtest;
+
+/**
+ * The measured interactions of a user with a label.
+ * <p/>
+ * The duration of an interaction includes creating the response for the client.
+ */
+public enum Interaction
+{
+	/**
+	 * Clicking the edit button
+	 */
+	EDIT,
+	/**
+	 * Clicking the save button after a new value was typed into the editor
+	 */
+	SAVE,
+	/**
+	 * Clicking the close button
+	 */
+	CANCEL
+}
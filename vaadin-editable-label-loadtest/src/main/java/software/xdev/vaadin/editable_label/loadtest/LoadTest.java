@@ -0,0 +1,184 @@
+package software.xdev.vaadin.editable_label.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+
+/**
+ * Simulates thousands of concurrent user sessions on the server side - without a browser.
+ * <p/>
+ * Each session displays a {@link LoadTestView} and runs on its own virtual thread where it repeatedly edits, saves
+ * and cancels all labels of the view (see {@link SimulatedSession}).
+ * <p/>
+ * Reports for each mode (labels with eager or lazy initialized editors):
+ * <ul>
+ *     <li>the retained heap per session</li>
+ *     <li>the throughput of interactions</li>
+ *     <li>the latency percentiles per {@link Interaction}</li>
+ * </ul>
+ * <p/>
+ * Usage: <code>LoadTest [sessions] [iterations] [modes]</code> - modes is a comma separated list of
+ * <code>eager</code> and <code>lazy</code>
+ */
+@SuppressWarnings("PMD.SystemPrintln")
+public final class LoadTest
+{
+	private static final int DEFAULT_SESSIONS = 2_000;
+	private static final int DEFAULT_ITERATIONS = 20;
+	private static final String DEFAULT_MODES = "eager,lazy";
+	
+	/**
+	 * Maximum time to wait for a single session (to be created or to run all its iterations)
+	 */
+	private static final long SESSION_TIMEOUT_MINUTES = 10;
+	
+	private static final double P50 = 0.5;
+	private static final double P99 = 0.99;
+	
+	private LoadTest()
+	{
+	}
+	
+	public static void main(final String[] args) throws InterruptedException, ExecutionException, TimeoutException
+	{
+		final int sessions = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SESSIONS;
+		final int iterations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+		final String modes = args.length > 2 ? args[2] : DEFAULT_MODES;
+		
+		for(final String mode : modes.split(","))
+		{
+			final boolean lazyEditors = switch(mode.trim().toLowerCase(Locale.ENGLISH))
+			{
+				case "eager" -> false;
+				case "lazy" -> true;
+				default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+			};
+			run(mode.trim(), lazyEditors, sessions, iterations);
+		}
+	}
+	
+	static void run(
+		final String mode,
+		final boolean lazyEditors,
+		final int sessionCount,
+		final int iterations) throws InterruptedException, ExecutionException, TimeoutException
+	{
+		System.out.printf("%n=== Mode: %s - %d sessions, %d iterations ===%n", mode, sessionCount, iterations);
+		
+		try(final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor())
+		{
+			// Warmup so that the JIT and one time initializations are not measured
+			final int warmupSessions = Math.min(sessionCount, 100);
+			runSessions(executor, createSessions(executor, lazyEditors, warmupSessions), iterations);
+			
+			final long heapBefore = usedHeapAfterGC();
+			final List<SimulatedSession> sessions = createSessions(executor, lazyEditors, sessionCount);
+			final long heapAfter = usedHeapAfterGC();
+			System.out.printf("Heap per session: %,d bytes%n", (heapAfter - heapBefore) / sessionCount);
+			
+			final long start = System.nanoTime();
+			runSessions(executor, sessions, iterations);
+			final long durationNanos = System.nanoTime() - start;
+			
+			report(sessions, durationNanos);
+		}
+	}
+	
+	private static List<SimulatedSession> createSessions(
+		final ExecutorService executor,
+		final boolean lazyEditors,
+		final int sessionCount) throws InterruptedException, ExecutionException, TimeoutException
+	{
+		final List<Future<SimulatedSession>> futures = new ArrayList<>(sessionCount);
+		for(int i = 0; i < sessionCount; i++)
+		{
+			futures.add(executor.submit(() -> new SimulatedSession(lazyEditors)));
+		}
+		
+		final List<SimulatedSession> sessions = new ArrayList<>(sessionCount);
+		for(final Future<SimulatedSession> future : futures)
+		{
+			sessions.add(future.get(SESSION_TIMEOUT_MINUTES, TimeUnit.MINUTES));
+		}
+		return sessions;
+	}
+	
+	private static void runSessions(
+		final ExecutorService executor,
+		final List<SimulatedSession> sessions,
+		final int iterations) throws InterruptedException, ExecutionException, TimeoutException
+	{
+		final List<Future<?>> futures = new ArrayList<>(sessions.size());
+		for(final SimulatedSession session : sessions)
+		{
+			futures.add(executor.submit(() -> session.run(iterations)));
+		}
+		for(final Future<?> future : futures)
+		{
+			// Propagates failures of a session
+			future.get(SESSION_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+		}
+	}
+	
+	private static void report(final List<SimulatedSession> sessions, final long durationNanos)
+	{
+		long totalInteractions = 0;
+		System.out.printf("%-8s %12s %12s %12s %12s%n", "", "count", "p50 [µs]", "p99 [µs]", "max [µs]");
+		for(final Interaction interaction : Interaction.values())
+		{
+			final long[] latencies = sessions.stream()
+				.map(session -> session.getLatencies(interaction))
+				.flatMapToLong(Arrays::stream)
+				.sorted()
+				.toArray();
+			totalInteractions += latencies.length;
+			
+			System.out.printf(
+				"%-8s %12d %12.1f %12.1f %12.1f%n",
+				interaction.name().toLowerCase(Locale.ENGLISH),
+				latencies.length,
+				percentileMicros(latencies, P50),
+				percentileMicros(latencies, P99),
+				percentileMicros(latencies, 1.0));
+		}
+		
+		System.out.printf(
+			"Throughput: %,.0f interactions/s (%,d interactions in %,d ms)%n",
+			totalInteractions / (durationNanos / (double)TimeUnit.SECONDS.toNanos(1)),
+			totalInteractions,
+			TimeUnit.NANOSECONDS.toMillis(durationNanos));
+	}
+	
+	private static double percentileMicros(final long[] sortedLatencies, final double percentile)
+	{
+		if(sortedLatencies.length == 0)
+		{
+			return 0;
+		}
+		final int index = (int)Math.ceil(percentile * sortedLatencies.length) - 1;
+		return sortedLatencies[Math.max(0, index)] / 1_000.0;
+	}
+	
+	// Measuring the retained heap requires collecting the garbage first
+	@SuppressWarnings("PMD.DoNotCallGarbageCollectionExplicitly")
+	private static long usedHeapAfterGC()
+	{
+		final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+		// Multiple runs as a single GC may not collect everything
+		for(int i = 0; i < 3; i++)
+		{
+			System.gc();
+		}
+		return memoryMXBean.getHeapMemoryUsage().getUsed();
+	}
+}
@@ -0,0 +1,64 @@
+package software.xdev.vaadin.editable_label.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.vaadin.flow.component.Composite;
+import com.vaadin.flow.component.formlayout.FormLayout;
+import com.vaadin.flow.component.html.H4;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.textfield.TextArea;
+import com.vaadin.flow.component.textfield.TextAreaVariant;
+
+import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+import software.xdev.vaadin.editable_label.testing.PredefinedLabelType;
+
+
+/**
+ * Resembles the <code>HomeView</code> of the demo: All predefined labels inside a form and a text area that displays
+ * the last value change.
+ */
+public class LoadTestView extends Composite<VerticalLayout>
+{
+	private final TextArea valueChangeEventTa = new TextArea();
+	private final List<LabelEntry> labels = new ArrayList<>();
+	
+	public LoadTestView(final boolean lazyEditors)
+	{
+		this.valueChangeEventTa.setReadOnly(true);
+		this.valueChangeEventTa.addThemeVariants(TextAreaVariant.LUMO_SMALL);
+		this.valueChangeEventTa.setWidthFull();
+		
+		final FormLayout formLayout = new FormLayout();
+		for(final PredefinedLabelType type : PredefinedLabelType.values())
+		{
+			final AbstractEditableLabel<?, ?, ?> label = type.create(lazyEditors);
+			PredefinedLabelType.setValue(label, type.getValueA());
+			label.addValueChangeListener(ev -> {
+				this.valueChangeEventTa.setLabel("Source '" + type.key() + "' - ValueChangeEvent");
+				this.valueChangeEventTa.setValue("value: " + ev.getValue() + "\n"
+					+ "oldValue: " + ev.getOldValue() + "\n"
+					+ "isFromClient: " + ev.isFromClient());
+			});
+			formLayout.addFormItem(label, type.name());
+			this.labels.add(new LabelEntry(type, label));
+		}
+		
+		this.getContent().setSpacing(false);
+		this.getContent().add(
+			new H4("Predefined components"),
+			formLayout,
+			new H4("Event"),
+			this.valueChangeEventTa);
+	}
+	
+	public List<LabelEntry> getLabels()
+	{
+		return Collections.unmodifiableList(this.labels);
+	}
+	
+	public record LabelEntry(PredefinedLabelType type, AbstractEditableLabel<?, ?, ?> label)
+	{
+	}
+}
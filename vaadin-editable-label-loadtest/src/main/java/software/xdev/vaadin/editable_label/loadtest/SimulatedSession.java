@@ -0,0 +1,100 @@
+package software.xdev.vaadin.editable_label.loadtest;
+
+import com.vaadin.flow.component.UI;
+
+import software.xdev.vaadin.editable_label.EditableLabelStyles;
+import software.xdev.vaadin.editable_label.loadtest.LoadTestView.LabelEntry;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+import software.xdev.vaadin.editable_label.testing.PredefinedLabelType;
+
+
+/**
+ * A user session with a single UI that displays a {@link LoadTestView}.
+ * <p/>
+ * Like a real session it's only accessed by a single thread at a time.
+ */
+public class SimulatedSession
+{
+	private final BrowserlessUI ui = new BrowserlessUI();
+	private final LoadTestView view;
+	/*
+	 * Indexed by the ordinal of the interaction; only allocated when running so that they are not counted as heap of
+	 * the session
+	 */
+	private long[][] latencies;
+	private int[] latencyCounts;
+	
+	public SimulatedSession(final boolean lazyEditors)
+	{
+		UI.setCurrent(this.ui);
+		try
+		{
+			this.view = new LoadTestView(lazyEditors);
+			this.ui.add(this.view);
+			this.ui.flushResponse();
+		}
+		finally
+		{
+			UI.setCurrent(null);
+		}
+	}
+	
+	/**
+	 * Edits, saves and cancels each label of the view.
+	 */
+	public void run(final int iterations)
+	{
+		final int labelInteractions = iterations * this.view.getLabels().size();
+		this.latencies = new long[Interaction.values().length][];
+		// The edit mode is entered twice per iteration: once for saving and once for cancelling
+		this.latencies[Interaction.EDIT.ordinal()] = new long[labelInteractions * 2];
+		this.latencies[Interaction.SAVE.ordinal()] = new long[labelInteractions];
+		this.latencies[Interaction.CANCEL.ordinal()] = new long[labelInteractions];
+		this.latencyCounts = new int[Interaction.values().length];
+		
+		UI.setCurrent(this.ui);
+		try
+		{
+			for(int i = 0; i < iterations; i++)
+			{
+				final boolean even = i % 2 == 0;
+				for(final LabelEntry entry : this.view.getLabels())
+				{
+					this.measure(Interaction.EDIT, entry, EditableLabelStyles.EDIT_BUTTON);
+					
+					// Typed by the user - already known by the browser
+					PredefinedLabelType.setEditorValue(
+						entry.label(),
+						even ? entry.type().getValueB() : entry.type().getValueA());
+					this.ui.flushResponse();
+					this.measure(Interaction.SAVE, entry, EditableLabelStyles.SAVE_BUTTON);
+					
+					this.measure(Interaction.EDIT, entry, EditableLabelStyles.EDIT_BUTTON);
+					this.measure(Interaction.CANCEL, entry, EditableLabelStyles.CLOSE_BUTTON);
+				}
+			}
+		}
+		finally
+		{
+			UI.setCurrent(null);
+		}
+	}
+	
+	private void measure(final Interaction interaction, final LabelEntry entry, final String buttonClassName)
+	{
+		final long start = System.nanoTime();
+		PredefinedLabelType.clickButton(entry.label(), buttonClassName);
+		this.ui.flushResponse();
+		final long duration = System.nanoTime() - start;
+		
+		this.latencies[interaction.ordinal()][this.latencyCounts[interaction.ordinal()]++] = duration;
+	}
+	
+	/**
+	 * @return the measured latencies in nanoseconds
+	 */
+	public long[] getLatencies(final Interaction interaction)
+	{
+		return this.latencies[interaction.ordinal()];
+	}
+}
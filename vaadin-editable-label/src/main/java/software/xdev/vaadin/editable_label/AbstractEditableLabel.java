@@ -15,30 +15,64 @@
  */
 package software.xdev.vaadin.editable_label;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.component.AbstractCompositeField;
+import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.ClickEvent;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEvent;
 import com.vaadin.flow.component.ComponentEventListener;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.Focusable;
 import com.vaadin.flow.component.HasSize;
 import com.vaadin.flow.component.HasStyle;
+import com.vaadin.flow.component.HasValidation;
 import com.vaadin.flow.component.HasValue;
 import com.vaadin.flow.component.ItemLabelGenerator;
 import com.vaadin.flow.component.Key;
+import com.vaadin.flow.component.ShortcutRegistration;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.dependency.CssImport;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.data.value.HasValueChangeMode;
+import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.function.SerializableSupplier;
+import com.vaadin.flow.server.Command;
 import com.vaadin.flow.shared.Registration;
 
+import software.xdev.vaadin.editable_label.cache.CachingLabelGenerator;
+import software.xdev.vaadin.editable_label.cache.CacheSpec;
+import software.xdev.vaadin.editable_label.instrumentation.EditableLabelInstrumentations;
+import software.xdev.vaadin.editable_label.jfr.EditModeChanged;
+import software.xdev.vaadin.editable_label.jfr.EditorCreated;
+import software.xdev.vaadin.editable_label.jfr.LabelRendered;
+import software.xdev.vaadin.editable_label.jfr.ValueCommitted;
+
 
 /**
  * Describes a label which is editable.
@@ -53,6 +87,8 @@ import com.vaadin.flow.shared.Registration;
  * @author JR
  */
 @CssImport(value = EditableLabelStyles.LOCATION)
+// The label is the facade for all of its (optional) features, which are grouped into regions
+@SuppressWarnings({"PMD.GodClass", "PMD.CyclomaticComplexity"})
 public abstract class AbstractEditableLabel<
 	S extends AbstractEditableLabel<S, C, V>,
 	C extends Component & HasSize & HasStyle & HasValue<?, V>,
@@ -62,15 +98,86 @@ public abstract class AbstractEditableLabel<
 	HasStyle,
 	HasSize
 {
+	/**
+	 * Runs each async save in its own virtual thread.
+	 */
+	protected static final Executor DEFAULT_ASYNC_SAVE_EXECUTOR =
+		Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("editable-label-save-", 0).factory());
+	/**
+	 * Runs the server-side auto save debounces, see {@link AutoSaveMode#SERVER_DEBOUNCE}.
+	 */
+	protected static final Executor AUTO_SAVE_DEBOUNCE_EXECUTOR =
+		Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("editable-label-auto-save-", 0).factory());
+	
+	protected static final String CLIENT_SIDE_EDIT_MODE_PROPERTY = "editMode";
+	protected static final String CLIENT_SIDE_EDIT_MODE_CHANGED_EVENT = "editable-label-edit-mode-changed";
+	
+	/**
+	 * Toggles the edit mode in the browser when clicking the edit or close button (or pressing escape) and clicks the
+	 * save button when pressing enter inside the editor.
+	 * <p/>
+	 * Parameters: $0=edit button, $1=close button, $2=editor, $3=edit mode class, $4=changed event, $5=property,
+	 * $6=save button
+	 */
+	protected static final String CLIENT_SIDE_EDIT_MODE_CONTROLLER_JS = """
+		const container = this;
+		if(container.__editableLabelController) {
+			return;
+		}
+		container.__editableLabelController = true;
+		const setEditMode = (enabled) => {
+			if(container.classList.contains($3) === enabled) {
+				return;
+			}
+			container.classList.toggle($3, enabled);
+			container[$5] = enabled;
+			container.dispatchEvent(new CustomEvent($4));
+			if(enabled && $2.focus) {
+				$2.focus();
+			}
+		};
+		$0.addEventListener('click', () => setEditMode(true));
+		$1.addEventListener('click', () => setEditMode(false));
+		container.addEventListener('keydown', (e) => {
+			if(e.key === 'Escape') {
+				setEditMode(false);
+			} else if(e.key === 'Enter' && container.classList.contains($3) && $2.contains(e.target)) {
+				e.preventDefault();
+				$6.click();
+			}
+		});
+		""";
+	
 	/*
 	 * UI-Components
 	 */
 	protected final Button btnEdit = new Button(VaadinIcon.PENCIL.create());
-	protected final Button btnSave = new Button(VaadinIcon.CHECK.create());
-	protected final Button btnClose = new Button(VaadinIcon.CLOSE.create());
+	/**
+	 * Only attached while in edit mode (or permanently when using {@link #withClientSideEditMode()}).
+	 * <p/>
+	 * Detached default buttons are not serialized but recreated after deserialization. Customize the button using
+	 * {@link #withSaveButtonCustomizer(SerializableConsumer)} - other modifications of a detached button are lost
+	 * when it's recreated.
+	 */
+	protected transient Button btnSave = new Button(VaadinIcon.CHECK.create());
+	/**
+	 * @see #btnSave
+	 * @see #withCloseButtonCustomizer(SerializableConsumer)
+	 */
+	protected transient Button btnClose = new Button(VaadinIcon.CLOSE.create());
+	/*
+	 * If the icons were changed, the buttons can't be recreated and are therefore always serialized
+	 */
+	protected boolean saveIconCustomized;
+	protected boolean closeIconCustomized;
+	/*
+	 * Customizations that are reapplied when the buttons are recreated; null until something is customized
+	 */
+	protected List<SerializableConsumer<Button>> saveButtonCustomizers;
+	protected List<SerializableConsumer<Button>> closeButtonCustomizers;
 	protected final Span label = new Span();
 	
-	protected final C editor;
+	protected C editor;
 	
 	/*
 	 * Suppliers / Configuration
@@ -78,11 +185,114 @@ public abstract class AbstractEditableLabel<
 	protected ItemLabelGenerator<V> nativeLabelGenerator;
 	protected String emptyLabelValue = "";
 	
+	/*
+	 * Label rendering
+	 */
+	protected boolean labelRenderScheduled;
+	protected V labelValueToRender;
+	
+	/**
+	 * Creates the editor when it's required for the first time.
+	 * <p/>
+	 * Is <code>null</code> if the editor was directly supplied.
+	 */
+	protected SerializableSupplier<C> editorSupplier;
+	/**
+	 * Configurations (by key) that are applied to the editor whenever a lazy initialized editor is (re)created.
+	 * <p/>
+	 * Is <code>null</code> until something is configured.
+	 *
+	 * @see #configureEditor(String, SerializableConsumer)
+	 */
+	protected Map<String, SerializableConsumer<C>> editorConfigurations;
+	/**
+	 * If the editor is shared with other labels, see {@link EditableLabelGroup}
+	 */
+	protected boolean sharedEditor;
+	
+	/**
+	 * If the edit mode is toggled in the browser
+	 *
+	 * @see #withClientSideEditMode()
+	 */
+	protected boolean clientSideEditMode;
+	protected Registration btnEditClickRegistration;
+	/**
+	 * Only serialized together with the {@link #btnClose}.
+	 */
+	protected transient Registration btnCloseClickRegistration;
+	
+	/*
+	 * Shortcuts - only registered while in edit mode (and not when using the client-side edit mode)
+	 */
+	protected ShortcutRegistration saveShortcutRegistration;
+	protected ShortcutRegistration closeShortcutRegistration;
+	
+	/*
+	 * Async saving
+	 */
+	protected AsyncSaveHandler<V> asyncSaveHandler;
+	/**
+	 * Executes the {@link #asyncSaveHandler}; uses {@link #DEFAULT_ASYNC_SAVE_EXECUTOR} if <code>null</code>.
+	 * <p/>
+	 * Not serialized as executors are usually not serializable.
+	 */
+	protected transient Executor asyncSaveExecutor;
+	protected SerializableConsumer<Throwable> asyncSaveErrorHandler;
+	protected boolean savePending;
+	
+	/*
+	 * Auto saving
+	 */
+	protected AutoSaveMode autoSaveMode;
+	protected Duration autoSaveDebounce;
+	protected Registration autoSaveRegistration;
+	/**
+	 * Incremented on each change of the editor, so that outdated server-side debounces are discarded.
+	 */
+	protected long autoSaveGeneration;
+	
+	/**
+	 * Suppresses {@link ValueChangeEvent}s, e.g. during a bulk update.
+	 *
+	 * @see EditableLabels#updateAll(java.util.Collection)
+	 */
+	protected boolean valueChangeEventsSuppressed;
+	
 	protected AbstractEditableLabel(final C editor, final Consumer<S> additionalInitActions)
 	{
-		super(editor.getEmptyValue());
+		this(editor, null, editor.getEmptyValue(), additionalInitActions);
+	}
+	
+	/**
+	 * Creates a label with a lazy initialized editor.
+	 * <p/>
+	 * The editor is only created and attached when it's required for the first time - usually when the edit mode is
+	 * entered. As most labels are never edited this greatly reduces the amount of components on the server and
+	 * elements on the client.
+	 *
+	 * @param editorSupplier        creates the editor
+	 * @param emptyValue            the empty value of the editor, see {@link HasValue#getEmptyValue()}
+	 * @param additionalInitActions actions that are executed after the UI was initialized
+	 */
+	protected AbstractEditableLabel(
+		final SerializableSupplier<C> editorSupplier,
+		final V emptyValue,
+		final Consumer<S> additionalInitActions)
+	{
+		this(null, Objects.requireNonNull(editorSupplier), emptyValue, additionalInitActions);
+	}
+	
+	private AbstractEditableLabel(
+		final C editor,
+		final SerializableSupplier<C> editorSupplier,
+		final V emptyValue,
+		final Consumer<S> additionalInitActions)
+	{
+		super(emptyValue);
 		
 		this.editor = editor;
+		this.editorSupplier = editorSupplier;
 		
 		this.initUI();
 		this.registerListeners();
@@ -105,40 +315,125 @@ public abstract class AbstractEditableLabel<
 		
 		this.btnEdit.addClassName(EditableLabelStyles.EDIT_BUTTON);
 		
-		this.btnSave.addClickShortcut(Key.ENTER);
-		
-		this.btnClose.addClickShortcut(Key.ESCAPE);
+		this.initButton(this.btnEdit);
+		this.initSaveButton();
+		this.initCloseButton();
 		
-		Stream.of(this.btnEdit, this.btnSave, this.btnClose)
-			.forEach(btn -> {
-				btn.addClassName(EditableLabelStyles.BUTTON);
-				btn.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_TERTIARY);
-			});
+		this.getContent().add(this.label);
+		if(this.isEditorCreated())
+		{
+			this.initEditor();
+			this.getContent().add(this.editor);
+		}
+		this.getContent().add(this.btnEdit);
+	}
+	
+	protected void initButton(final Button btn)
+	{
+		btn.addClassName(EditableLabelStyles.BUTTON);
+		btn.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_TERTIARY);
+	}
+	
+	// region Save/Close buttons
+	
+	protected void initSaveButton()
+	{
+		this.initButton(this.btnSave);
+		this.btnSave.addClassName(EditableLabelStyles.SAVE_BUTTON);
+		this.btnSave.setEnabled(!this.savePending);
+		this.btnSave.addClickListener(this::onSave);
+		this.applyButtonCustomizers(this.btnSave, this.saveButtonCustomizers);
+	}
+	
+	protected void initCloseButton()
+	{
+		this.initButton(this.btnClose);
+		this.btnClose.addClassName(EditableLabelStyles.CLOSE_BUTTON);
+		if(!this.clientSideEditMode)
+		{
+			// Leaving the edit mode is otherwise handled by the browser
+			this.btnCloseClickRegistration = this.btnClose.addClickListener(this::onClose);
+		}
+		this.applyButtonCustomizers(this.btnClose, this.closeButtonCustomizers);
+	}
+	
+	protected void applyButtonCustomizers(final Button btn, final List<SerializableConsumer<Button>> customizers)
+	{
+		if(customizers != null)
+		{
+			customizers.forEach(customizer -> customizer.accept(btn));
+		}
+	}
+	
+	protected boolean isSaveButtonAttached()
+	{
+		return this.btnSave.getParent().isPresent();
+	}
+	
+	/**
+	 * Attaches the save and close button to the content or removes them from it.
+	 * <p/>
+	 * Keeping them out of the component tree while not editing reduces the memory footprint of a label and the size
+	 * of its serialized form.
+	 */
+	protected void setEditButtonsAttached(final boolean attached)
+	{
+		if(attached)
+		{
+			if(!this.isSaveButtonAttached())
+			{
+				this.getContent().add(this.btnSave, this.btnClose);
+			}
+			return;
+		}
 		
+		Stream.of(this.btnSave, this.btnClose)
+			.filter(btn -> btn.getParent().isPresent())
+			.forEach(btn -> this.getContent().remove(btn));
+	}
+	
+	// endregion
+	
+	/**
+	 * Initializes the editor.
+	 * <p/>
+	 * Is called once the editor is available, which may be long after {@link #initUI()} when it's lazy initialized.
+	 */
+	protected void initEditor()
+	{
 		this.getEditor().addClassName(EditableLabelStyles.EDITOR);
 		this.getEditor().setWidthFull();
 		
-		this.getContent().add(this.label, this.editor, this.btnEdit, this.btnSave, this.btnClose);
+		if(this.autoSaveMode != null)
+		{
+			this.applyAutoSave();
+		}
 	}
 	
 	// region Listeners
 	
 	protected void registerListeners()
 	{
-		this.btnEdit.addClickListener(this::onEdit);
-		this.btnSave.addClickListener(this::onSave);
-		this.btnClose.addClickListener(this::onClose);
+		this.btnEditClickRegistration = this.btnEdit.addClickListener(this::onEdit);
+		// The listeners of the save and close button are registered when they are initialized
 	}
 	
 	protected void onEdit(final ClickEvent<Button> ev)
 	{
-		this.getEditor().setValue(this.getValue());
+		this.clearAsyncSaveError();
+		this.acquireEditor().setValue(this.getValue());
 		
 		this.enableEditMode(ev.isFromClient());
 	}
 	
 	protected void onSave(final ClickEvent<Button> ev)
 	{
+		if(this.asyncSaveHandler != null)
+		{
+			this.saveAsync(this.getEditor().getValue(), ev.isFromClient());
+			return;
+		}
+		
 		this.updateValue(this.getEditor().getValue(), ev.isFromClient());
 		
 		this.disableEditMode(ev.isFromClient());
@@ -146,72 +441,487 @@ public abstract class AbstractEditableLabel<
 	
 	protected void onClose(final ClickEvent<Button> ev)
 	{
-		this.disableEditMode(ev.isFromClient());
+		if(EditableLabelInstrumentations.isEnabled() && this.isEditMode())
+		{
+			EditableLabelInstrumentations.current().onCancel(this);
+		}
+		this.disableEditMode(ev.isFromClient());
+	}
+	
+	@Override
+	protected void onAttach(final AttachEvent attachEvent)
+	{
+		super.onAttach(attachEvent);
+		if(EditableLabelInstrumentations.isEnabled())
+		{
+			EditableLabelInstrumentations.current().onAttached(this);
+		}
+	}
+	
+	@Override
+	protected void onDetach(final DetachEvent detachEvent)
+	{
+		if(EditableLabelInstrumentations.isEnabled())
+		{
+			EditableLabelInstrumentations.current().onDetached(this);
+		}
+		super.onDetach(detachEvent);
+	}
+	
+	
+	// endregion
+	
+	// region Value Management
+	
+	/**
+	 * @see #setValue(Object)
+	 */
+	public S withValue(final V value)
+	{
+		this.setValue(value);
+		return this.self();
+	}
+	
+	/**
+	 * Updates the underlying values (if the newValues doesn't equals the oldValue)
+	 *
+	 * @implNote
+	 *           This is a "workaround" for
+	 *           <a href="https://github.com/vaadin/flow/issues/11392">vaadin/flow#11392</a><br/>
+	 *           The following behaviors may be unexpected:
+	 *           <ul>
+	 *           <li>The {@link ValueChangeEvent} is fired before the UI is updated</li>
+	 *           <li>No internal data management like in {@link AbstractFieldSupport}</li>
+	 *           </ul>
+	 */
+	protected void updateValue(final V newValue, final boolean isFromClient)
+	{
+		final V oldValue = this.getValue();
+		final boolean instrumented = EditableLabelInstrumentations.isEnabled();
+		final long startNanos = instrumented ? System.nanoTime() : 0L;
+		final ValueCommitted event = new ValueCommitted();
+		// Only timed while a recording has the event enabled
+		final boolean recorded = event.isEnabled();
+		if(recorded)
+		{
+			event.begin();
+		}
+		
+		// Notifies the value change listeners
+		this.setModelValue(newValue, isFromClient);
+		
+		final boolean valueChanged = !this.valueEquals(oldValue, newValue);
+		if(recorded)
+		{
+			event.end();
+			event.commitFor(this, valueChanged);
+		}
+		if(instrumented)
+		{
+			EditableLabelInstrumentations.current()
+				.onValueCommitted(this, valueChanged, System.nanoTime() - startNanos);
+		}
+		
+		if(valueChanged)
+		{
+			this.setPresentationValue(newValue);
+		}
+	}
+	
+	/**
+	 * Sets the value without firing a {@link ValueChangeEvent}.
+	 *
+	 * @return <code>true</code> if the value changed
+	 */
+	protected boolean setValueWithoutEvent(final V value)
+	{
+		final V oldValue = this.getValue();
+		this.valueChangeEventsSuppressed = true;
+		try
+		{
+			this.setValue(value);
+		}
+		finally
+		{
+			this.valueChangeEventsSuppressed = false;
+		}
+		return !this.valueEquals(oldValue, this.getValue());
+	}
+	
+	@Override
+	protected void fireEvent(final ComponentEvent<?> componentEvent)
+	{
+		if(this.valueChangeEventsSuppressed && componentEvent instanceof ValueChangeEvent<?>)
+		{
+			return;
+		}
+		super.fireEvent(componentEvent);
+	}
+	
+	@Override
+	protected void setPresentationValue(final V newPresentationValue)
+	{
+		this.updateLabelText(newPresentationValue);
+		
+		// The browser enters the edit mode on its own, so the editor has to be ready at all times
+		if(this.clientSideEditMode && !this.isEditMode())
+		{
+			this.getEditor().setValue(newPresentationValue);
+		}
+	}
+	
+	/**
+	 * Updates the label text based on the value to display.
+	 * <p/>
+	 * The label is not rendered immediately. It's marked as dirty and rendered once before the response is sent to
+	 * the client (see {@link #renderLabelText()}). This way multiple updates (e.g. when configuring the label) only
+	 * cause a single rendering.
+	 *
+	 * @param value The value to display
+	 */
+	protected void updateLabelText(final V value)
+	{
+		this.labelValueToRender = value;
+		if(this.labelRenderScheduled)
+		{
+			return;
+		}
+		
+		this.labelRenderScheduled = true;
+		this.getElement().getNode().runWhenAttached(ui -> ui.beforeClientResponse(this, ctx -> this.renderLabelText()));
+	}
+	
+	/**
+	 * Renders the label text using the {@link #nativeLabelGenerator}.
+	 * <p/>
+	 * If the value is null or blank/empty the {@link #btnEdit} will always be shown
+	 * and not just when hovering the label.
+	 * <p/>
+	 * Components are only updated when something changed.
+	 */
+	protected void renderLabelText()
+	{
+		this.labelRenderScheduled = false;
+		
+		final V value = this.labelValueToRender;
+		this.labelValueToRender = null;
+		
+		final boolean instrumented = EditableLabelInstrumentations.isEnabled();
+		final long startNanos = instrumented ? System.nanoTime() : 0L;
+		final LabelRendered event = new LabelRendered();
+		final boolean recorded = event.isEnabled();
+		if(recorded)
+		{
+			event.begin();
+		}
+		final String labelText = this.nativeLabelGenerator.apply(value);
+		if(recorded)
+		{
+			event.end();
+			// Attribute the event to the actual generator and not to the wrapper
+			event.commitFor(
+				this,
+				this.nativeLabelGenerator instanceof final NotEmptyLabelGenerator<?> notEmptyLabelGenerator
+					? notEmptyLabelGenerator.getNotEmptyLabelGenerator()
+					: this.nativeLabelGenerator,
+				labelText);
+		}
+		if(instrumented)
+		{
+			EditableLabelInstrumentations.current().onLabelRendered(this, System.nanoTime() - startNanos, labelText);
+		}
+		
+		// The edit button would not be displayed if nothing is visible
+		final boolean editButtonAlwaysVisible = labelText == null || labelText.isBlank();
+		if(this.btnEdit.hasClassName(EditableLabelStyles.EDIT_BUTTON_ALWAYS_VISIBLE) != editButtonAlwaysVisible)
+		{
+			this.btnEdit.setClassName(EditableLabelStyles.EDIT_BUTTON_ALWAYS_VISIBLE, editButtonAlwaysVisible);
+		}
+		
+		if(!Objects.equals(this.label.getText(), Objects.requireNonNullElse(labelText, "")))
+		{
+			this.label.setText(labelText);
+		}
+	}
+	
+	// endregion
+	
+	// region Async saving
+	
+	/**
+	 * Saves values asynchronously using the given handler.
+	 * <p/>
+	 * The handler is executed on virtual threads (see {@link #withAsyncSaveHandler(AsyncSaveHandler, Executor)}), so
+	 * the session lock is only held shortly when saving and when applying the result.
+	 * While the save is pending the label stays in edit mode, is marked with
+	 * {@link EditableLabelStyles#SAVE_PENDING} and the save button is disabled.
+	 * <p/>
+	 * Once the handler completed the value is applied (firing a {@link ValueChangeEvent}) and the edit mode is left.
+	 * If it failed the label stays in edit mode with the entered value, the error is displayed on the editor (if it
+	 * implements {@link HasValidation}) and reported to the {@link #asyncSaveErrorHandler} (default: the session's
+	 * {@link com.vaadin.flow.server.ErrorHandler}).
+	 * <p/>
+	 * The label must be attached when saving.
+	 */
+	public S withAsyncSaveHandler(final AsyncSaveHandler<V> asyncSaveHandler)
+	{
+		this.asyncSaveHandler = asyncSaveHandler;
+		return this.self();
+	}
+	
+	/**
+	 * @see #withAsyncSaveHandler(AsyncSaveHandler)
+	 */
+	public S withAsyncSaveHandler(final AsyncSaveHandler<V> asyncSaveHandler, final Executor executor)
+	{
+		this.asyncSaveExecutor = Objects.requireNonNull(executor);
+		return this.withAsyncSaveHandler(asyncSaveHandler);
+	}
+	
+	/**
+	 * Sets the handler for errors that occurred during an async save.
+	 * <p/>
+	 * The handler is executed while holding the session lock.
+	 */
+	public S withAsyncSaveErrorHandler(final SerializableConsumer<Throwable> asyncSaveErrorHandler)
+	{
+		this.asyncSaveErrorHandler = asyncSaveErrorHandler;
+		return this.self();
+	}
+	
+	protected void saveAsync(final V newValue, final boolean isFromClient)
+	{
+		if(this.savePending)
+		{
+			return;
+		}
+		if(this.valueEquals(this.getValue(), newValue))
+		{
+			this.disableEditMode(isFromClient);
+			return;
+		}
+		
+		final UI ui = this.getUI()
+			.orElseThrow(() -> new IllegalStateException("Label must be attached to save asynchronously"));
+		final AsyncSaveHandler<V> handler = this.asyncSaveHandler;
+		
+		this.clearAsyncSaveError();
+		this.setSavePending(true);
+		CompletableFuture.supplyAsync(
+				() -> handler.save(newValue),
+				Objects.requireNonNullElse(this.asyncSaveExecutor, DEFAULT_ASYNC_SAVE_EXECUTOR))
+			.thenCompose(stage -> stage.thenApply(ignored -> newValue))
+			.whenComplete((ignored, error) -> this.accessIfAttached(
+				ui,
+				() -> this.onAsyncSaveCompleted(newValue, isFromClient, error)));
+	}
+	
+	protected void accessIfAttached(final UI ui, final Command command)
+	{
+		try
+		{
+			ui.access(command);
+		}
+		catch(final UIDetachedException ignored)
+		{
+			// The UI is gone - there is nothing to update
+		}
+	}
+	
+	protected void onAsyncSaveCompleted(final V newValue, final boolean isFromClient, final Throwable error)
+	{
+		this.setSavePending(false);
+		
+		if(error == null)
+		{
+			this.updateValue(newValue, isFromClient);
+			this.disableEditMode(isFromClient);
+			return;
+		}
+		
+		// The value was never applied: Stay in edit mode so that the user doesn't lose the input
+		final Throwable cause = error instanceof final CompletionException ce && ce.getCause() != null
+			? ce.getCause()
+			: error;
+		this.showAsyncSaveError(cause);
+		
+		if(this.asyncSaveErrorHandler != null)
+		{
+			this.asyncSaveErrorHandler.accept(cause);
+			return;
+		}
+		// Executed inside UI#access: Passes the error to the ErrorHandler of the session
+		throw new CompletionException(cause);
+	}
+	
+	/**
+	 * Displays the error of a failed async save on the editor - if the editor supports it.
+	 */
+	protected void showAsyncSaveError(final Throwable cause)
+	{
+		// A shared editor might already be owned by another label
+		if(this.isEditorCreated() && this.editor instanceof final HasValidation hasValidation)
+		{
+			hasValidation.setErrorMessage(cause.getMessage());
+			hasValidation.setInvalid(true);
+		}
+	}
+	
+	protected void clearAsyncSaveError()
+	{
+		if(this.isEditorCreated()
+			&& this.editor instanceof final HasValidation hasValidation
+			&& hasValidation.isInvalid())
+		{
+			hasValidation.setInvalid(false);
+			hasValidation.setErrorMessage(null);
+		}
+	}
+	
+	protected void setSavePending(final boolean savePending)
+	{
+		this.savePending = savePending;
+		this.setClassName(EditableLabelStyles.SAVE_PENDING, savePending);
+		this.btnSave.setEnabled(!savePending);
+	}
+	
+	/**
+	 * @return if an async save is currently running
+	 */
+	public boolean isSavePending()
+	{
+		return this.savePending;
+	}
+	
+	// endregion
+	
+	// region Auto saving
+	
+	/**
+	 * Commits the value of the editor automatically while editing, so that the save button is not required.
+	 * <p/>
+	 * Multiple changes within the debounce duration (e.g. typing) are coalesced into a single
+	 * {@link ValueChangeEvent}. The edit mode is not left when committing.
+	 * <p/>
+	 * If the editor supports it (see {@link HasValueChangeMode}) its {@link ValueChangeMode} is adjusted:
+	 * <ul>
+	 *     <li>{@link AutoSaveMode#ON_BLUR} - {@link ValueChangeMode#ON_BLUR}</li>
+	 *     <li>{@link AutoSaveMode#CLIENT_DEBOUNCE} - {@link ValueChangeMode#LAZY} with the debounce as timeout</li>
+	 *     <li>{@link AutoSaveMode#SERVER_DEBOUNCE} - {@link ValueChangeMode#EAGER}</li>
+	 * </ul>
+	 *
+	 * @param debounce how long to wait after the last change; ignored for {@link AutoSaveMode#ON_BLUR}
+	 */
+	public S withAutoSave(final AutoSaveMode mode, final Duration debounce)
+	{
+		this.autoSaveMode = Objects.requireNonNull(mode);
+		this.autoSaveDebounce = mode == AutoSaveMode.ON_BLUR ? Duration.ZERO : Objects.requireNonNull(debounce);
+		if(this.isEditorCreated())
+		{
+			this.applyAutoSave();
+		}
+		return this.self();
+	}
+	
+	/**
+	 * Uses {@link AutoSaveMode#CLIENT_DEBOUNCE}
+	 *
+	 * @see #withAutoSave(AutoSaveMode, Duration)
+	 */
+	public S withAutoSave(final Duration debounce)
+	{
+		return this.withAutoSave(AutoSaveMode.CLIENT_DEBOUNCE, debounce);
 	}
 	
-	
-	// endregion
-	
-	// region Value Management
-	
 	/**
-	 * @see #setValue(Object)
+	 * @see #withAutoSave(AutoSaveMode, Duration)
 	 */
-	public S withValue(final V value)
+	public S withAutoSaveOnBlur()
 	{
-		this.setValue(value);
-		return this.self();
+		return this.withAutoSave(AutoSaveMode.ON_BLUR, null);
 	}
 	
 	/**
-	 * Updates the underlying values (if the newValues doesn't equals the oldValue)
-	 *
-	 * @implNote
-	 *           This is a "workaround" for
-	 *           <a href="https://github.com/vaadin/flow/issues/11392">vaadin/flow#11392</a><br/>
-	 *           The following behaviors may be unexpected:
-	 *           <ul>
-	 *           <li>The {@link ValueChangeEvent} is fired before the UI is updated</li>
-	 *           <li>No internal data management like in {@link AbstractFieldSupport}</li>
-	 *           </ul>
+	 * @return the auto save mode or <code>null</code> if auto saving is disabled
 	 */
-	protected void updateValue(final V newValue, final boolean isFromClient)
+	public AutoSaveMode getAutoSaveMode()
 	{
-		final V oldValue = this.getValue();
-		this.setModelValue(newValue, isFromClient);
+		return this.autoSaveMode;
+	}
+	
+	protected void applyAutoSave()
+	{
+		if(this.getEditor() instanceof final HasValueChangeMode hasValueChangeMode)
+		{
+			switch(this.autoSaveMode)
+			{
+				case ON_BLUR -> hasValueChangeMode.setValueChangeMode(ValueChangeMode.ON_BLUR);
+				case CLIENT_DEBOUNCE ->
+				{
+					hasValueChangeMode.setValueChangeMode(ValueChangeMode.LAZY);
+					hasValueChangeMode.setValueChangeTimeout((int)this.autoSaveDebounce.toMillis());
+				}
+				case SERVER_DEBOUNCE -> hasValueChangeMode.setValueChangeMode(ValueChangeMode.EAGER);
+			}
+		}
 		
-		if(!this.valueEquals(oldValue, newValue))
+		if(this.autoSaveRegistration == null)
 		{
-			this.setPresentationValue(newValue);
+			// Widened explicitly: Some tools (e.g. PMD) can't infer the wildcard event type of the intersection type
+			final HasValue<?, V> editorValue = this.getEditor();
+			this.autoSaveRegistration = editorValue.addValueChangeListener(this::onAutoSaveEditorValueChanged);
 		}
 	}
 	
-	@Override
-	protected void setPresentationValue(final V newPresentationValue)
+	protected void onAutoSaveEditorValueChanged(final ValueChangeEvent<V> ev)
 	{
-		this.updateLabelText(newPresentationValue);
+		if(!ev.isFromClient() || !this.isEditMode())
+		{
+			return;
+		}
+		
+		final long generation = ++this.autoSaveGeneration;
+		final UI ui = this.getUI().orElse(null);
+		if(this.autoSaveMode != AutoSaveMode.SERVER_DEBOUNCE || ui == null)
+		{
+			this.autoSave(ev.getValue());
+			return;
+		}
+		
+		CompletableFuture.delayedExecutor(
+				this.autoSaveDebounce.toNanos(),
+				TimeUnit.NANOSECONDS,
+				AUTO_SAVE_DEBOUNCE_EXECUTOR)
+			.execute(() -> this.accessIfAttached(ui, () -> {
+				// Only the last change of a burst is committed
+				if(generation == this.autoSaveGeneration && this.isEditMode())
+				{
+					this.autoSave(this.getEditor().getValue());
+				}
+			}));
 	}
 	
+	protected void autoSave(final V value)
+	{
+		this.updateValue(value, true);
+	}
+	
+	// endregion
+	
+	// region Publisher binding
+	
 	/**
-	 * Updates the label text based on the value to display.
-	 * <p/>
-	 * This value is rendered using the {@link #nativeLabelGenerator}.
+	 * Displays the values of the given publisher.
 	 * <p/>
-	 * If the value is null or blank/empty the {@link #btnEdit} will always be shown
-	 * and not just when hovering the label.
+	 * The label is updated at most once per {@code minUpdateInterval} (intermediate values are dropped) and updates
+	 * are paused while the label is in edit mode. The publisher is only subscribed while the label is attached.
 	 *
-	 * @param value The value to display
+	 * @return the binding; call {@link Registration#remove()} to unbind
+	 * @see PublisherBinding
 	 */
-	protected void updateLabelText(final V value)
+	public Registration bindPublisher(final Flow.Publisher<? extends V> publisher, final Duration minUpdateInterval)
 	{
-		final String labelText = this.nativeLabelGenerator.apply(value);
-		
-		// The edit button would not be displayed if nothing is visible
-		this.btnEdit.setClassName(
-			EditableLabelStyles.EDIT_BUTTON_ALWAYS_VISIBLE,
-			labelText == null || labelText.isBlank());
-		
-		this.label.setText(labelText);
+		return new PublisherBinding<>(this, publisher, minUpdateInterval);
 	}
 	
 	// endregion
@@ -263,23 +973,205 @@ public abstract class AbstractEditableLabel<
 			return;
 		}
 		
-		this.getEditor().setVisible(enabled);
-		this.label.setVisible(!enabled);
-		this.btnEdit.setVisible(!enabled);
-		this.btnSave.setVisible(enabled);
-		this.btnClose.setVisible(enabled);
+		if(this.clientSideEditMode)
+		{
+			this.getContent().setClassName(EditableLabelStyles.EDIT_MODE, enabled);
+			this.getContent().getElement().setProperty(CLIENT_SIDE_EDIT_MODE_PROPERTY, enabled);
+			if(!enabled)
+			{
+				// Discard the changes of the editor
+				this.getEditor().setValue(this.getValue());
+			}
+		}
+		else
+		{
+			if(enabled || this.isEditorCreated())
+			{
+				this.acquireEditor().setVisible(enabled);
+			}
+			this.label.setVisible(!enabled);
+			this.btnEdit.setVisible(!enabled);
+			this.setEditButtonsAttached(enabled);
+		}
 		
-		if(enabled && this.getEditor() instanceof Focusable<?>)
+		this.updateEditModeShortcuts(enabled);
+		
+		// When toggled in the browser the editor was already focused there
+		final boolean focusedByClient = this.clientSideEditMode && isFromClient;
+		if(enabled && !focusedByClient && this.getEditor() instanceof Focusable<?>)
 		{
 			((Focusable<?>)this.getEditor()).focus();
 		}
 		
+		if(EditableLabelInstrumentations.isEnabled())
+		{
+			EditableLabelInstrumentations.current().onEditModeChanged(this, enabled);
+		}
+		
+		new EditModeChanged().commitFor(this, enabled, isFromClient);
 		this.fireEvent(new EditModeChangedEvent<>(enabled, this.self(), isFromClient));
 	}
 	
+	/**
+	 * Registers the save (Enter) and close (Escape) shortcuts while in edit mode.
+	 * <p/>
+	 * The shortcuts only listen on this label. Registering them for all labels on the UI would cause the browser to
+	 * evaluate every key press against the shortcuts of all labels.
+	 * <p/>
+	 * The shortcuts are registered on each toggle instead of once: A registration keeps listening on the content (and
+	 * therefore references its button), so the detached buttons would always be retained and serialized. Measured
+	 * with a text field, registering once saves ~3.5 KB of the ~225 KB allocated per edit mode round trip (which is
+	 * dominated by writing the response for the attached editor and buttons) but retains ~1.7 KB more per label.
+	 * <p/>
+	 * When using the client-side edit mode the keys are handled by the browser, see
+	 * {@link #CLIENT_SIDE_EDIT_MODE_CONTROLLER_JS}.
+	 */
+	protected void updateEditModeShortcuts(final boolean enabled)
+	{
+		if(enabled && !this.clientSideEditMode)
+		{
+			if(this.saveShortcutRegistration == null)
+			{
+				this.saveShortcutRegistration =
+					this.btnSave.addClickShortcut(Key.ENTER).listenOn(this.getContent());
+				this.closeShortcutRegistration =
+					this.btnClose.addClickShortcut(Key.ESCAPE).listenOn(this.getContent());
+			}
+			return;
+		}
+		
+		if(this.saveShortcutRegistration != null)
+		{
+			this.saveShortcutRegistration.remove();
+			this.saveShortcutRegistration = null;
+		}
+		if(this.closeShortcutRegistration != null)
+		{
+			this.closeShortcutRegistration.remove();
+			this.closeShortcutRegistration = null;
+		}
+	}
+	
 	public boolean isEditMode()
 	{
-		return this.getEditor().isVisible();
+		if(this.clientSideEditMode)
+		{
+			return this.getContent().hasClassName(EditableLabelStyles.EDIT_MODE);
+		}
+		// A lazy editor that was not yet created can't be visible, btnSave is only attached in the edit mode
+		return this.isEditorCreated() ? this.editor.isVisible() : this.isSaveButtonAttached();
+	}
+	
+	/**
+	 * Toggles the edit mode in the browser.
+	 * <p/>
+	 * When clicking the edit or close button (or pressing escape) the edit mode is entered/left immediately in the
+	 * browser without waiting for the server. The server is notified afterwards so that {@link #isEditMode()} stays
+	 * consistent and the {@link EditModeChangedEvent} is fired.<br/>
+	 * Only saving the value requires a server round trip.
+	 * <p/>
+	 * As the editor must be present in the browser it's created immediately (even if it's lazy initialized).
+	 * Therefore this mode can't be used together with an {@link EditableLabelGroup}.
+	 *
+	 * @return self
+	 * @throws IllegalStateException when the label is part of an {@link EditableLabelGroup}
+	 */
+	public S withClientSideEditMode()
+	{
+		if(this.clientSideEditMode)
+		{
+			return this.self();
+		}
+		if(this.sharedEditor)
+		{
+			throw new IllegalStateException(
+				"The client-side edit mode can't be used with a shared editor (EditableLabelGroup)");
+		}
+		
+		final boolean editMode = this.isEditMode();
+		final C editorToShow = this.getEditor();
+		
+		// The browser handles the keys from now on
+		this.updateEditModeShortcuts(false);
+		this.clientSideEditMode = true;
+		
+		// Visibility is now controlled by CSS
+		Stream.of(editorToShow, this.label, this.btnEdit)
+			.forEach(c -> c.setVisible(true));
+		// The buttons must always be present in the browser
+		this.setEditButtonsAttached(true);
+		this.addClassName(EditableLabelStyles.CLIENT_SIDE_EDIT_MODE);
+		this.getContent().setClassName(EditableLabelStyles.EDIT_MODE, editMode);
+		this.getContent().getElement().setProperty(CLIENT_SIDE_EDIT_MODE_PROPERTY, editMode);
+		
+		if(!editMode)
+		{
+			editorToShow.setValue(this.getValue());
+		}
+		
+		// Entering and leaving the edit mode is now handled by the browser
+		this.btnEditClickRegistration.remove();
+		if(this.btnCloseClickRegistration != null)
+		{
+			this.btnCloseClickRegistration.remove();
+			this.btnCloseClickRegistration = null;
+		}
+		
+		this.getContent().getElement().addPropertyChangeListener(
+			CLIENT_SIDE_EDIT_MODE_PROPERTY,
+			CLIENT_SIDE_EDIT_MODE_CHANGED_EVENT,
+			ev -> {
+				if(ev.isUserOriginated())
+				{
+					this.onClientSideEditModeChanged(Boolean.TRUE.equals(ev.getValue()));
+				}
+			});
+		
+		this.addAttachListener(ev -> this.installClientSideEditModeController());
+		if(this.isAttached())
+		{
+			this.installClientSideEditModeController();
+		}
+		
+		return this.self();
+	}
+	
+	protected void installClientSideEditModeController()
+	{
+		this.getContent().getElement().executeJs(
+			CLIENT_SIDE_EDIT_MODE_CONTROLLER_JS,
+			this.btnEdit.getElement(),
+			this.btnClose.getElement(),
+			this.getEditor().getElement(),
+			EditableLabelStyles.EDIT_MODE,
+			CLIENT_SIDE_EDIT_MODE_CHANGED_EVENT,
+			CLIENT_SIDE_EDIT_MODE_PROPERTY,
+			this.btnSave.getElement());
+	}
+	
+	protected void onClientSideEditModeChanged(final boolean enabled)
+	{
+		if(!enabled && EditableLabelInstrumentations.isEnabled() && this.isEditMode())
+		{
+			// Closed in the browser - saving always requires a server round trip
+			EditableLabelInstrumentations.current().onCancel(this);
+		}
+		this.setEditMode(enabled, true);
+		
+		if(this.isEditMode() != enabled)
+		{
+			// Rejected by the server (e.g. read only) -> revert it in the browser
+			this.getContent().getElement().setProperty(CLIENT_SIDE_EDIT_MODE_PROPERTY, this.isEditMode());
+			this.getContent().getElement().executeJs(
+				"this.classList.toggle($0, $1)",
+				EditableLabelStyles.EDIT_MODE,
+				this.isEditMode());
+		}
+	}
+	
+	public boolean isClientSideEditMode()
+	{
+		return this.clientSideEditMode;
 	}
 	
 	@SuppressWarnings("unchecked")
@@ -313,6 +1205,7 @@ public abstract class AbstractEditableLabel<
 	public S withSaveIcon(final Component saveIcon)
 	{
 		this.btnSave.setIcon(saveIcon);
+		this.saveIconCustomized = true;
 		return this.self();
 	}
 	
@@ -325,9 +1218,54 @@ public abstract class AbstractEditableLabel<
 	public S withCloseIcon(final Component closeIcon)
 	{
 		this.btnClose.setIcon(closeIcon);
+		this.closeIconCustomized = true;
+		return this.self();
+	}
+	
+	// endregion
+	
+	// region Button customization
+	
+	/**
+	 * Customizes the save button, e.g. its tooltip, theme, aria label or listeners.
+	 * <p/>
+	 * The customizer is applied immediately and again whenever the button is recreated (the button is not
+	 * serialized while it's not attached).
+	 *
+	 * @return self
+	 */
+	public S withSaveButtonCustomizer(final SerializableConsumer<Button> customizer)
+	{
+		this.saveButtonCustomizers = this.addButtonCustomizer(this.btnSave, this.saveButtonCustomizers, customizer);
+		return this.self();
+	}
+	
+	/**
+	 * Customizes the close button.
+	 *
+	 * @return self
+	 * @see #withSaveButtonCustomizer(SerializableConsumer)
+	 */
+	public S withCloseButtonCustomizer(final SerializableConsumer<Button> customizer)
+	{
+		this.closeButtonCustomizers = this.addButtonCustomizer(this.btnClose, this.closeButtonCustomizers, customizer);
 		return this.self();
 	}
 	
+	protected List<SerializableConsumer<Button>> addButtonCustomizer(
+		final Button btn,
+		final List<SerializableConsumer<Button>> customizers,
+		final SerializableConsumer<Button> customizer)
+	{
+		Objects.requireNonNull(customizer);
+		customizer.accept(btn);
+		
+		final List<SerializableConsumer<Button>> newCustomizers =
+			customizers != null ? customizers : new ArrayList<>();
+		newCustomizers.add(customizer);
+		return newCustomizers;
+	}
+	
 	// endregion
 	
 	// region LabelGenerator
@@ -354,9 +1292,10 @@ public abstract class AbstractEditableLabel<
 	public S withLabelGenerator(final ItemLabelGenerator<V> notEmptyLabelGenerator, final Supplier<String> emptyValue)
 	{
 		return this.withNativeLabelGenerator(
-			v -> v == null || this.valueEquals(v, this.getEmptyValue())
-				? emptyValue.get()
-				: notEmptyLabelGenerator.apply(v));
+			new NotEmptyLabelGenerator<>(
+				v -> this.valueEquals(v, this.getEmptyValue()),
+				notEmptyLabelGenerator,
+				emptyValue));
 	}
 	
 	/**
@@ -376,6 +1315,33 @@ public abstract class AbstractEditableLabel<
 		return this.withLabelGenerator(notEmptyLabelGenerator, this.getEmptyLabelValue());
 	}
 	
+	/**
+	 * Same as {@link #withLabelGenerator(ItemLabelGenerator)} but memoizes the generated labels.
+	 * <p/>
+	 * Use this when the generator is expensive (e.g. resolves the name of an entity).
+	 * To share the cache across multiple labels use {@link #withCachedLabelGenerator(CachingLabelGenerator)}.
+	 *
+	 * @see CachingLabelGenerator
+	 */
+	public S withCachedLabelGenerator(
+		final ItemLabelGenerator<V> notEmptyLabelGenerator,
+		final CacheSpec cacheSpec)
+	{
+		return this.withCachedLabelGenerator(new CachingLabelGenerator<>(notEmptyLabelGenerator, cacheSpec));
+	}
+	
+	/**
+	 * Uses the given (possibly shared) caching generator for displaying the label.
+	 * <p/>
+	 * Null/empty values are not passed to the generator and therefore don't occupy the cache.
+	 *
+	 * @see #withLabelGenerator(ItemLabelGenerator)
+	 */
+	public S withCachedLabelGenerator(final CachingLabelGenerator<V> cachingLabelGenerator)
+	{
+		return this.withLabelGenerator(Objects.requireNonNull(cachingLabelGenerator));
+	}
+	
 	public String getEmptyLabelValue()
 	{
 		return this.emptyLabelValue;
@@ -393,14 +1359,147 @@ public abstract class AbstractEditableLabel<
 	
 	//endregion
 	
+	// region Editor
+	
 	/**
 	 * @return the component used to edit the value
+	 * @throws IllegalStateException when the editor is shared ({@link EditableLabelGroup}) and currently not owned by
+	 *                               this label
+	 * @implNote If the editor is lazy initialized it's created when calling this method. A shared editor is only
+	 * checked out when entering the edit mode.
 	 */
 	public C getEditor()
 	{
+		if(this.editor == null && this.sharedEditor)
+		{
+			throw new IllegalStateException(
+				"The shared editor (EditableLabelGroup) is only owned by a label while it's in edit mode");
+		}
+		return this.acquireEditor();
+	}
+	
+	/**
+	 * Creates a lazy initialized editor or checks out a shared editor if required.
+	 * <p/>
+	 * Only called when the editor is required for entering the edit mode.
+	 */
+	protected C acquireEditor()
+	{
+		if(this.editor == null)
+		{
+			this.createEditor();
+		}
 		return this.editor;
 	}
 	
+	/**
+	 * @return <code>true</code> if the editor is available without creating it
+	 */
+	public boolean isEditorCreated()
+	{
+		return this.editor != null;
+	}
+	
+	protected void createEditor()
+	{
+		final EditorCreated event = new EditorCreated();
+		final boolean recorded = event.isEnabled();
+		if(recorded)
+		{
+			event.begin();
+		}
+		final boolean editMode = this.isEditMode();
+		
+		this.editor = Objects.requireNonNull(this.editorSupplier.get());
+		
+		this.initEditor();
+		this.editor.setVisible(editMode);
+		if(this.editor.isRequiredIndicatorVisible() != this.isRequiredIndicatorVisible())
+		{
+			this.editor.setRequiredIndicatorVisible(this.isRequiredIndicatorVisible());
+		}
+		if(this.editorConfigurations != null)
+		{
+			// Applied on every creation: A shared editor might have been configured by another label in between
+			this.editorConfigurations.values().forEach(configuration -> configuration.accept(this.editor));
+		}
+		
+		// The editor is always displayed after the label
+		this.getContent().addComponentAtIndex(
+			this.getContent().getElement().indexOfChild(this.label.getElement()) + 1,
+			this.editor);
+		
+		if(recorded)
+		{
+			event.end();
+			event.commitFor(this, this.editor);
+		}
+	}
+	
+	/**
+	 * Detaches the editor from this label so that it can be used somewhere else, e.g. by another label.
+	 * <p/>
+	 * Leaves the edit mode if required. The editor is recreated using the {@link #editorSupplier} when it's required
+	 * again.
+	 *
+	 * @throws IllegalStateException when the editor is not lazy initialized
+	 */
+	protected void releaseEditor()
+	{
+		if(!this.isEditorCreated())
+		{
+			return;
+		}
+		if(this.editorSupplier == null)
+		{
+			throw new IllegalStateException("Only lazy initialized editors can be released");
+		}
+		
+		this.disableEditMode();
+		if(this.autoSaveRegistration != null)
+		{
+			this.autoSaveRegistration.remove();
+			this.autoSaveRegistration = null;
+		}
+		this.getContent().remove(this.editor);
+		this.editor = null;
+	}
+	
+	/**
+	 * Configures the editor without forcing the creation of a lazy initialized editor.
+	 * <p/>
+	 * If the editor was already created the configuration is applied immediately. Lazy initialized editors are
+	 * additionally configured whenever they are (re)created, e.g. each time a label of an {@link EditableLabelGroup}
+	 * checks out the shared editor.
+	 * <p/>
+	 * A configuration replaces the previous one with the same key (e.g. setting the items twice only keeps the
+	 * latest items), so that outdated configurations are neither kept reachable nor replayed.
+	 *
+	 * @param key identifies what is configured, e.g. <code>items</code>
+	 */
+	protected void configureEditor(final String key, final SerializableConsumer<C> configuration)
+	{
+		Objects.requireNonNull(key);
+		Objects.requireNonNull(configuration);
+		if(this.isEditorCreated())
+		{
+			configuration.accept(this.editor);
+		}
+		if(this.editorSupplier == null)
+		{
+			// Directly supplied editors are never recreated
+			return;
+		}
+		
+		if(this.editorConfigurations == null)
+		{
+			this.editorConfigurations = new LinkedHashMap<>();
+		}
+		this.editorConfigurations.put(key, configuration);
+	}
+	
+	// endregion
+	
 	@Override
 	public void setReadOnly(final boolean readOnly)
 	{
@@ -417,7 +1516,10 @@ public abstract class AbstractEditableLabel<
 	public void setRequiredIndicatorVisible(final boolean requiredIndicatorVisible)
 	{
 		super.setRequiredIndicatorVisible(requiredIndicatorVisible);
-		this.getEditor().setRequiredIndicatorVisible(requiredIndicatorVisible);
+		if(this.isEditorCreated())
+		{
+			this.editor.setRequiredIndicatorVisible(requiredIndicatorVisible);
+		}
 	}
 	
 	@SuppressWarnings("unchecked")
@@ -426,6 +1528,60 @@ public abstract class AbstractEditableLabel<
 		return (S)this;
 	}
 	
+	// region Serialization
+	
+	/**
+	 * Only writes the save and close button when they can't be recreated, e.g. when they are currently attached.
+	 */
+	@Serial
+	private void writeObject(final ObjectOutputStream out) throws IOException
+	{
+		out.defaultWriteObject();
+		out.writeObject(this.isEditButtonSerializationRequired(this.btnSave, this.saveIconCustomized)
+			? this.btnSave
+			: null);
+		if(this.isEditButtonSerializationRequired(this.btnClose, this.closeIconCustomized))
+		{
+			out.writeObject(this.btnClose);
+			out.writeObject(this.btnCloseClickRegistration);
+		}
+		else
+		{
+			out.writeObject(null);
+		}
+	}
+	
+	@Serial
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+		
+		this.btnSave = (Button)in.readObject();
+		if(this.btnSave == null)
+		{
+			this.btnSave = new Button(VaadinIcon.CHECK.create());
+			this.initSaveButton();
+		}
+		
+		this.btnClose = (Button)in.readObject();
+		if(this.btnClose != null)
+		{
+			this.btnCloseClickRegistration = (Registration)in.readObject();
+		}
+		else
+		{
+			this.btnClose = new Button(VaadinIcon.CLOSE.create());
+			this.initCloseButton();
+		}
+	}
+	
+	protected boolean isEditButtonSerializationRequired(final Button btn, final boolean customized)
+	{
+		return customized || btn.getParent().isPresent();
+	}
+	
+	// endregion
+	
 	public static class EditModeChangedEvent
 		<S extends AbstractEditableLabel<S, C, V>, C extends Component & HasSize & HasStyle & HasValue<?, V>, V>
 		extends ComponentEvent<S>
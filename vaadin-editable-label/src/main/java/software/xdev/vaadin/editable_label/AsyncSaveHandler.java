@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+
+
+/**
+ * Persists a value asynchronously when a label is saved.
+ * <p/>
+ * The handler is executed outside of the session lock, so it can safely block (e.g. by calling a slow backend).
+ * Once the returned stage completes the value is applied to the label; if it completes exceptionally the label keeps
+ * its old value.
+ *
+ * @param <V> value type
+ * @see AbstractEditableLabel#withAsyncSaveHandler(AsyncSaveHandler)
+ */
+@FunctionalInterface
+public interface AsyncSaveHandler<V> extends Serializable
+{
+	/**
+	 * @param newValue the value that should be saved
+	 * @return a stage that completes once the value was saved
+	 */
+	CompletionStage<?> save(V newValue);
+}
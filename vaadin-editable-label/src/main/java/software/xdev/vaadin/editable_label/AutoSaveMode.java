@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+/**
+ * Describes when a label automatically commits the value of its editor.
+ *
+ * @see AbstractEditableLabel#withAutoSave(AutoSaveMode, java.time.Duration)
+ */
+public enum AutoSaveMode
+{
+	/**
+	 * Commits when the editor loses focus
+	 */
+	ON_BLUR,
+	/**
+	 * The browser waits until the user stopped typing for the debounce duration and then sends the value to the
+	 * server, where it's committed immediately.
+	 * <p/>
+	 * Causes the fewest round trips.
+	 */
+	CLIENT_DEBOUNCE,
+	/**
+	 * Every change is sent to the server, which commits the value once no change was received for the debounce
+	 * duration.
+	 * <p/>
+	 * Works with all editors, even when they don't support configuring when value changes are sent.
+	 */
+	SERVER_DEBOUNCE
+}
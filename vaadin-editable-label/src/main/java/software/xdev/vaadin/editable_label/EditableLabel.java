@@ -21,6 +21,7 @@ import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.HasSize;
 import com.vaadin.flow.component.HasStyle;
 import com.vaadin.flow.component.HasValue;
+import com.vaadin.flow.function.SerializableSupplier;
 
 
 /**
@@ -44,4 +45,27 @@ public class EditableLabel<C extends Component & HasSize & HasStyle & HasValue<?
 	{
 		super(editor, additionalInitActions);
 	}
+	
+	/**
+	 * Creates a label with a lazy initialized editor.
+	 *
+	 * @see AbstractEditableLabel#AbstractEditableLabel(SerializableSupplier, Object, Consumer)
+	 */
+	public EditableLabel(final SerializableSupplier<C> editorSupplier, final V emptyValue)
+	{
+		this(editorSupplier, emptyValue, null);
+	}
+	
+	/**
+	 * Creates a label with a lazy initialized editor.
+	 *
+	 * @see AbstractEditableLabel#AbstractEditableLabel(SerializableSupplier, Object, Consumer)
+	 */
+	public EditableLabel(
+		final SerializableSupplier<C> editorSupplier,
+		final V emptyValue,
+		final Consumer<EditableLabel<C, V>> additionalInitActions)
+	{
+		super(editorSupplier, emptyValue, additionalInitActions);
+	}
 }
@@ -0,0 +1,340 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Focusable;
+import com.vaadin.flow.component.HasSize;
+import com.vaadin.flow.component.HasStyle;
+import com.vaadin.flow.component.HasValue;
+import com.vaadin.flow.component.ItemLabelGenerator;
+import com.vaadin.flow.component.Key;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.dependency.CssImport;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.editor.Editor;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.data.binder.Binder;
+import com.vaadin.flow.data.binder.Setter;
+import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.function.SerializableSupplier;
+import com.vaadin.flow.function.ValueProvider;
+
+
+/**
+ * A {@link Grid}-column that displays its values like an {@link AbstractEditableLabel}.
+ * <p/>
+ * In contrast to using {@link AbstractEditableLabel}s inside a
+ * {@link com.vaadin.flow.data.renderer.ComponentRenderer} no server-side components are created per row:
+ * <ul>
+ *     <li>The label is rendered client-side using a {@link LitRenderer}</li>
+ *     <li>A single editor (and save/close buttons) is shared by all rows.
+ *     It's shown using the {@link Grid#getEditor() editor of the grid}</li>
+ * </ul>
+ * Only one row can be edited at a time. This also applies to multiple columns of the same grid: Editing a column
+ * closes the editor of the other columns.
+ *
+ * @param <T> type of the items of the grid
+ * @param <C> Vaadin-{@link Component} to edit the value
+ * @param <V> value type which is displayed in the column
+ */
+public class EditableLabelColumn<T, C extends Component & HasSize & HasStyle & HasValue<?, V>, V>
+	implements Serializable
+{
+	protected static final String TEMPLATE = """
+		<div class="%s">
+			<span class="%s">${item.label}</span>
+			<vaadin-button
+				class="%s %s ${item.label && item.label.trim() ? '' : '%s'}"
+				theme="small tertiary"
+				@click=${edit}>
+				<vaadin-icon icon="vaadin:pencil"></vaadin-icon>
+			</vaadin-button>
+		</div>
+		""".formatted(
+		EditableLabelStyles.CONTAINER,
+		EditableLabelStyles.LABEL,
+		EditableLabelStyles.BUTTON,
+		EditableLabelStyles.EDIT_BUTTON,
+		EditableLabelStyles.EDIT_BUTTON_ALWAYS_VISIBLE);
+	
+	/*
+	 * UI-Components
+	 */
+	protected final Grid<T> grid;
+	protected final Grid.Column<T> column;
+	
+	protected final EditorContainer editorContainer = new EditorContainer();
+	protected final Button btnSave = new Button(VaadinIcon.CHECK.create());
+	protected final Button btnClose = new Button(VaadinIcon.CLOSE.create());
+	protected final C editor;
+	
+	/*
+	 * Suppliers / Configuration
+	 */
+	protected final ValueProvider<T, V> valueProvider;
+	protected final Setter<T, V> setter;
+	
+	protected ItemLabelGenerator<V> nativeLabelGenerator;
+	protected String emptyLabelValue = "";
+	
+	protected T editedItem;
+	
+	/**
+	 * Adds a new column to the grid.
+	 *
+	 * @param grid          the grid where the column is added
+	 * @param valueProvider provides the value that is displayed for an item
+	 * @param setter        sets the value of an item after it was edited
+	 * @param editor        the editor that is shared by all rows
+	 */
+	public EditableLabelColumn(
+		final Grid<T> grid,
+		final ValueProvider<T, V> valueProvider,
+		final Setter<T, V> setter,
+		final C editor)
+	{
+		this.grid = Objects.requireNonNull(grid);
+		this.valueProvider = Objects.requireNonNull(valueProvider);
+		this.setter = Objects.requireNonNull(setter);
+		this.editor = Objects.requireNonNull(editor);
+		
+		this.column = grid.addColumn(LitRenderer.<T>of(TEMPLATE)
+			.withProperty("label", this::renderLabel)
+			.withFunction("edit", this::edit));
+		
+		this.initEditor();
+		this.withLabelGenerator(Object::toString);
+		
+		// The grid editor is shared by all columns: Reset when another column (or anything else) closes it
+		grid.getEditor().addCloseListener(ev -> this.onGridEditorClosed());
+	}
+	
+	protected void initEditor()
+	{
+		this.btnSave.addClickShortcut(Key.ENTER).listenOn(this.editorContainer);
+		this.btnSave.addClickListener(ev -> this.save());
+		
+		this.btnClose.addClickShortcut(Key.ESCAPE).listenOn(this.editorContainer);
+		this.btnClose.addClickListener(ev -> this.close());
+		
+		Stream.of(this.btnSave, this.btnClose)
+			.forEach(btn -> {
+				btn.addClassName(EditableLabelStyles.BUTTON);
+				btn.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_TERTIARY);
+			});
+		
+		this.editor.addClassName(EditableLabelStyles.EDITOR);
+		this.editor.setWidthFull();
+		
+		this.editorContainer.addClassName(EditableLabelStyles.CONTAINER);
+		this.editorContainer.add(this.editor, this.btnSave, this.btnClose);
+	}
+	
+	protected String renderLabel(final T item)
+	{
+		return this.nativeLabelGenerator.apply(this.valueProvider.apply(item));
+	}
+	
+	// region Edit
+	
+	/**
+	 * Edits the given item - displays the editor in the row of the item.
+	 */
+	public void edit(final T item)
+	{
+		Objects.requireNonNull(item);
+		
+		final Editor<T> gridEditor = this.grid.getEditor();
+		if(gridEditor.isOpen())
+		{
+			gridEditor.closeEditor();
+		}
+		if(gridEditor.getBinder() == null)
+		{
+			// The grid editor requires a binder, the value is managed by this column
+			gridEditor.setBinder(new Binder<>());
+		}
+		
+		this.editedItem = item;
+		this.editor.setValue(this.valueProvider.apply(item));
+		
+		this.column.setEditorComponent(this.editorContainer);
+		gridEditor.editItem(item);
+		
+		if(this.editor instanceof final Focusable<?> focusable)
+		{
+			focusable.focus();
+		}
+	}
+	
+	/**
+	 * Saves the value of the editor into the currently edited item (if it changed) and closes the editor.
+	 */
+	public void save()
+	{
+		if(this.editedItem == null)
+		{
+			return;
+		}
+		
+		final T item = this.editedItem;
+		final V newValue = this.editor.getValue();
+		if(!Objects.equals(this.valueProvider.apply(item), newValue))
+		{
+			this.setter.accept(item, newValue);
+		}
+		
+		this.close();
+		this.grid.getDataProvider().refreshItem(item);
+	}
+	
+	protected void onGridEditorClosed()
+	{
+		if(this.editedItem != null)
+		{
+			this.editedItem = null;
+			this.column.setEditorComponent((Component)null);
+		}
+	}
+	
+	/**
+	 * Closes the editor without saving the value.
+	 */
+	public void close()
+	{
+		if(this.editedItem == null)
+		{
+			return;
+		}
+		
+		this.editedItem = null;
+		this.grid.getEditor().closeEditor();
+		this.column.setEditorComponent((Component)null);
+	}
+	
+	/**
+	 * @return the item that is currently edited or <code>null</code>
+	 */
+	public T getEditedItem()
+	{
+		return this.editedItem;
+	}
+	
+	// endregion
+	
+	// region LabelGenerator
+	
+	/**
+	 * Sets the label generator used for displaying the label.
+	 * <p/>
+	 * <b>It's recommended to use {@link #withLabelGenerator(ItemLabelGenerator, SerializableSupplier)}</b> or its
+	 * variants because they included null/empty-value checks.
+	 *
+	 * @see AbstractEditableLabel#withNativeLabelGenerator(ItemLabelGenerator)
+	 */
+	public EditableLabelColumn<T, C, V> withNativeLabelGenerator(final ItemLabelGenerator<V> labelGenerator)
+	{
+		this.nativeLabelGenerator = Objects.requireNonNull(labelGenerator);
+		this.grid.getDataCommunicator().reset();
+		return this;
+	}
+	
+	/**
+	 * Sets the label generator used for displaying the label.
+	 * <p/>
+	 * If the value is null or empty {@code emptyValue} is used.
+	 *
+	 * @see AbstractEditableLabel#withLabelGenerator(ItemLabelGenerator, java.util.function.Supplier)
+	 */
+	public EditableLabelColumn<T, C, V> withLabelGenerator(
+		final ItemLabelGenerator<V> notEmptyLabelGenerator,
+		final SerializableSupplier<String> emptyValue)
+	{
+		return this.withNativeLabelGenerator(
+			new NotEmptyLabelGenerator<>(
+				v -> Objects.equals(v, this.editor.getEmptyValue()),
+				notEmptyLabelGenerator,
+				emptyValue));
+	}
+	
+	/**
+	 * @see #withLabelGenerator(ItemLabelGenerator, SerializableSupplier)
+	 */
+	public EditableLabelColumn<T, C, V> withLabelGenerator(
+		final ItemLabelGenerator<V> notEmptyLabelGenerator,
+		final String emptyValue)
+	{
+		Objects.requireNonNull(emptyValue);
+		return this.withLabelGenerator(notEmptyLabelGenerator, () -> emptyValue);
+	}
+	
+	/**
+	 * @see #withLabelGenerator(ItemLabelGenerator, SerializableSupplier)
+	 */
+	public EditableLabelColumn<T, C, V> withLabelGenerator(final ItemLabelGenerator<V> notEmptyLabelGenerator)
+	{
+		return this.withLabelGenerator(notEmptyLabelGenerator, this.getEmptyLabelValue());
+	}
+	
+	public String getEmptyLabelValue()
+	{
+		return this.emptyLabelValue;
+	}
+	
+	/**
+	 * Set's the default value when the value to display is null or empty.
+	 *
+	 * @see #withLabelGenerator(ItemLabelGenerator, SerializableSupplier)
+	 */
+	public EditableLabelColumn<T, C, V> withEmptyLabelValue(final String emptyLabelValue)
+	{
+		this.emptyLabelValue = Objects.requireNonNull(emptyLabelValue);
+		return this;
+	}
+	
+	// endregion
+	
+	/**
+	 * @return the column inside the grid
+	 */
+	public Grid.Column<T> getColumn()
+	{
+		return this.column;
+	}
+	
+	/**
+	 * @return the component used to edit the value (shared by all rows)
+	 */
+	public C getEditor()
+	{
+		return this.editor;
+	}
+	
+	/**
+	 * Container of the shared editor and the save/close buttons.
+	 */
+	@CssImport(value = EditableLabelStyles.LOCATION)
+	public static class EditorContainer extends Div
+	{
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.HasSize;
+import com.vaadin.flow.component.HasStyle;
+import com.vaadin.flow.component.HasValue;
+import com.vaadin.flow.component.UI;
+
+
+/**
+ * A group of {@link AbstractEditableLabel}s that share a single editor.
+ * <p/>
+ * The editor is moved into whichever label enters the edit mode. Therefore only one label of the group can be in
+ * edit mode at a time. {@link AbstractEditableLabel#getEditor()} fails for all other labels of the group.
+ * <p/>
+ * As a component can only be displayed in a single {@link UI}, all labels of a group must belong to the same UI.
+ * <p/>
+ * Editor configurations of a label (e.g. items set on an
+ * {@link software.xdev.vaadin.editable_label.predefined.EditableLabelComboBox}) are re-applied whenever the label
+ * checks out the shared editor. The client-side edit mode ({@link AbstractEditableLabel#withClientSideEditMode()})
+ * is not supported as it requires a dedicated editor.
+ * <p/>
+ * This is useful when displaying a lot of labels that are edited the same way, e.g. many
+ * {@link software.xdev.vaadin.editable_label.predefined.EditableLabelComboBox}es with the same items: The items only
+ * need to be set once on the {@link #getEditor() shared editor}.
+ * <p/>
+ * Example:
+ * <pre>
+ * final EditableLabelGroup&lt;ComboBox&lt;Vehicle&gt;, Vehicle&gt; group =
+ *     new EditableLabelGroup&lt;&gt;(new ComboBox&lt;&gt;());
+ * group.getEditor().setItems(Vehicle.values());
+ *
+ * final EditableLabelComboBox&lt;Vehicle&gt; label =
+ *     group.add(new EditableLabelComboBox&lt;&gt;(group::getEditor, null));
+ * </pre>
+ *
+ * @param <C> Vaadin-{@link Component} to edit the value
+ * @param <V> value type which is handled through the labels
+ */
+public class EditableLabelGroup<C extends Component & HasSize & HasStyle & HasValue<?, V>, V> implements Serializable
+{
+	protected final C editor;
+	
+	protected AbstractEditableLabel<?, C, V> activeLabel;
+	/**
+	 * The UI of the labels; <code>null</code> until it's known
+	 */
+	protected UI ui;
+	
+	public EditableLabelGroup(final C editor)
+	{
+		this.editor = Objects.requireNonNull(editor);
+	}
+	
+	/**
+	 * Adds a label to this group.
+	 * <p/>
+	 * The label must be created with a lazy initialized editor that was not yet created.
+	 * The editor supplier of the label is replaced so that it checks out the shared editor of this group when the
+	 * label enters the edit mode.
+	 *
+	 * @return the label
+	 * @throws IllegalArgumentException when the editor of the label is not lazy initialized or was already created,
+	 *                                  when the label uses the client-side edit mode or when the label belongs to
+	 *                                  another UI than the other labels of this group
+	 */
+	public <L extends AbstractEditableLabel<L, C, V>> L add(final L label)
+	{
+		Objects.requireNonNull(label);
+		if(label.isClientSideEditMode())
+		{
+			throw new IllegalArgumentException("Labels with a client-side edit mode can't share an editor");
+		}
+		if(label.editorSupplier == null || label.isEditorCreated())
+		{
+			throw new IllegalArgumentException(
+				"The label must use a lazy initialized editor that was not yet created");
+		}
+		this.checkUI(label.getUI().orElseGet(UI::getCurrent), IllegalArgumentException::new);
+		
+		label.editorSupplier = () -> this.checkout(label);
+		label.sharedEditor = true;
+		return label;
+	}
+	
+	/**
+	 * Moves the shared editor into the given label.
+	 * <p/>
+	 * If the editor is currently used by another label, this label leaves the edit mode and releases the editor.
+	 */
+	protected C checkout(final AbstractEditableLabel<?, C, V> label)
+	{
+		// The label might have been attached to another UI after it was added
+		label.getUI().ifPresent(labelUI -> this.checkUI(labelUI, IllegalStateException::new));
+		if(this.activeLabel != null && this.activeLabel != label)
+		{
+			this.activeLabel.releaseEditor();
+		}
+		this.activeLabel = label;
+		return this.editor;
+	}
+	
+	/**
+	 * Ensures that all labels of this group belong to the same UI (and therefore session).
+	 */
+	protected void checkUI(
+		final UI labelUI,
+		final Function<String, ? extends RuntimeException> exceptionFactory)
+	{
+		if(labelUI == null)
+		{
+			return;
+		}
+		if(this.ui == null)
+		{
+			this.ui = labelUI;
+		}
+		else if(this.ui != labelUI)
+		{
+			throw exceptionFactory.apply("All labels of an EditableLabelGroup must belong to the same UI");
+		}
+	}
+	
+	/**
+	 * @return the shared editor
+	 */
+	public C getEditor()
+	{
+		return this.editor;
+	}
+	
+	/**
+	 * @return the label that currently owns the editor or <code>null</code>
+	 */
+	public AbstractEditableLabel<?, C, V> getActiveLabel()
+	{
+		return this.activeLabel;
+	}
+}
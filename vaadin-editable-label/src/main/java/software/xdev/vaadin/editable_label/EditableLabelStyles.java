@@ -32,4 +32,19 @@ public final class EditableLabelStyles
 	public static final String EDIT_BUTTON_ALWAYS_VISIBLE = "editable-label-edit-button-always-visible";
 	public static final String LABEL = "editable-label-label";
 	public static final String EDITOR = "editable-label-editor";
+	
+	public static final String SAVE_BUTTON = "editable-label-save-button";
+	public static final String CLOSE_BUTTON = "editable-label-close-button";
+	/**
+	 * Marks a container whose edit mode is toggled in the browser
+	 */
+	public static final String CLIENT_SIDE_EDIT_MODE = "editable-label-client-side-edit-mode";
+	/**
+	 * Set on containers with {@link #CLIENT_SIDE_EDIT_MODE} while they are in edit mode
+	 */
+	public static final String EDIT_MODE = "editable-label-edit-mode";
+	/**
+	 * Set on containers while an async save is running
+	 */
+	public static final String SAVE_PENDING = "editable-label-save-pending";
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.vaadin.flow.component.AbstractField.ComponentValueChangeEvent;
+import com.vaadin.flow.component.ComponentEvent;
+import com.vaadin.flow.component.ComponentEventListener;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.shared.Registration;
+
+
+/**
+ * Utilities for working with multiple {@link AbstractEditableLabel}s at once.
+ */
+public final class EditableLabels
+{
+	private EditableLabels()
+	{
+	}
+	
+	/**
+	 * Creates an update for {@link #updateAll(Collection)}.
+	 * <p/>
+	 * The value is checked against the value type of the label at compile time.
+	 */
+	public static <V> LabelUpdate<V> update(final AbstractEditableLabel<?, ?, V> label, final V value)
+	{
+		return new LabelUpdate<>(label, value);
+	}
+	
+	/**
+	 * Sets the values of multiple labels in a single pass.
+	 * <p/>
+	 * In contrast to calling {@link AbstractEditableLabel#setValue(Object)} on each label, the labels don't fire
+	 * individual {@link com.vaadin.flow.component.HasValue.ValueChangeEvent}s. Instead, a single
+	 * {@link BulkValueChangeEvent} containing all changes is fired on the {@link UI} of the labels.
+	 * The labels are rendered once before the response is sent to the client.
+	 * <p/>
+	 * Note that this bypasses all value change listeners of the labels - including the ones of a
+	 * {@link com.vaadin.flow.data.binder.Binder}, so the bean and the validation status of a bound label are not
+	 * updated. Use {@link #updateAll(Collection, boolean)} if the labels are bound.
+	 * <p/>
+	 * Must be called while holding the session lock, e.g. inside {@link UI#access(com.vaadin.flow.server.Command)}.
+	 *
+	 * @param updates the new value of each label, see {@link #update(AbstractEditableLabel, Object)}
+	 * @return the labels whose value actually changed
+	 * @throws IllegalArgumentException if the labels are attached to different UIs
+	 * @see #addBulkValueChangeListener(UI, ComponentEventListener)
+	 */
+	public static Map<AbstractEditableLabel<?, ?, ?>, ValueChange> updateAll(
+		final Collection<? extends LabelUpdate<?>> updates)
+	{
+		return updateAll(updates, false);
+	}
+	
+	/**
+	 * Sets the values of multiple labels in a single pass.
+	 * <p/>
+	 * If {@code fireLabelEvents} is <code>true</code>, each changed label fires its
+	 * {@link com.vaadin.flow.component.HasValue.ValueChangeEvent} after the {@link BulkValueChangeEvent}, so that
+	 * listeners like a {@link com.vaadin.flow.data.binder.Binder} stay in sync. The events are only fired once all
+	 * values are set, so listeners always observe the final values of all labels.
+	 *
+	 * @param updates         the new value of each label, see {@link #update(AbstractEditableLabel, Object)}
+	 * @param fireLabelEvents if the value change events of the labels should be fired after the bulk event
+	 * @return the labels whose value actually changed
+	 * @throws IllegalArgumentException if the labels are attached to different UIs
+	 * @see #updateAll(Collection)
+	 */
+	public static Map<AbstractEditableLabel<?, ?, ?>, ValueChange> updateAll(
+		final Collection<? extends LabelUpdate<?>> updates,
+		final boolean fireLabelEvents)
+	{
+		// Checked before any label is modified
+		final Optional<UI> optUI = resolveUI(updates);
+		
+		final Map<AbstractEditableLabel<?, ?, ?>, ValueChange> changes = new LinkedHashMap<>();
+		final List<ComponentValueChangeEvent<?, ?>> labelEvents = new ArrayList<>();
+		for(final LabelUpdate<?> update : updates)
+		{
+			apply(update).ifPresent(event -> {
+				changes.put(update.label(), new ValueChange(event.getOldValue(), event.getValue()));
+				labelEvents.add(event);
+			});
+		}
+		
+		final Map<AbstractEditableLabel<?, ?, ?>, ValueChange> unmodifiableChanges =
+			Collections.unmodifiableMap(changes);
+		if(!changes.isEmpty())
+		{
+			optUI.ifPresent(ui -> ComponentUtil.fireEvent(ui, new BulkValueChangeEvent(ui, unmodifiableChanges)));
+		}
+		if(fireLabelEvents)
+		{
+			labelEvents.forEach(event -> ComponentUtil.fireEvent(event.getSource(), event));
+		}
+		return unmodifiableChanges;
+	}
+	
+	/**
+	 * @return the UI all attached labels belong to
+	 */
+	private static Optional<UI> resolveUI(final Collection<? extends LabelUpdate<?>> updates)
+	{
+		UI ui = null;
+		for(final LabelUpdate<?> update : updates)
+		{
+			final UI labelUI = update.label().getUI().orElse(null);
+			if(ui == null)
+			{
+				ui = labelUI;
+			}
+			else if(labelUI != null && !ui.equals(labelUI))
+			{
+				throw new IllegalArgumentException("All labels must belong to the same UI");
+			}
+		}
+		return Optional.ofNullable(ui);
+	}
+	
+	private static <V> Optional<ComponentValueChangeEvent<AbstractEditableLabel<?, ?, V>, V>> apply(
+		final LabelUpdate<V> update)
+	{
+		final AbstractEditableLabel<?, ?, V> label = update.label();
+		final V oldValue = label.getValue();
+		if(!label.setValueWithoutEvent(update.value()))
+		{
+			return Optional.empty();
+		}
+		return Optional.of(new ComponentValueChangeEvent<>(label, label, oldValue, false));
+	}
+	
+	/**
+	 * Listens for {@link BulkValueChangeEvent}s that are fired by {@link #updateAll(Collection)} on the given UI.
+	 */
+	public static Registration addBulkValueChangeListener(
+		final UI ui,
+		final ComponentEventListener<BulkValueChangeEvent> listener)
+	{
+		return ComponentUtil.addListener(ui, BulkValueChangeEvent.class, listener);
+	}
+	
+	/**
+	 * @param label the label to update
+	 * @param value the new value of the label
+	 * @see #update(AbstractEditableLabel, Object)
+	 */
+	public record LabelUpdate<V>(AbstractEditableLabel<?, ?, V> label, V value)
+	{
+		public LabelUpdate
+		{
+			Objects.requireNonNull(label);
+		}
+	}
+	
+	/**
+	 * @param oldValue the value before the update
+	 * @param newValue the value after the update
+	 */
+	public record ValueChange(Object oldValue, Object newValue)
+	{
+	}
+	
+	/**
+	 * Fired once after the values of multiple labels were updated.
+	 *
+	 * @see #updateAll(Collection)
+	 */
+	public static class BulkValueChangeEvent extends ComponentEvent<UI>
+	{
+		protected final Map<AbstractEditableLabel<?, ?, ?>, ValueChange> changes;
+		
+		public BulkValueChangeEvent(final UI source, final Map<AbstractEditableLabel<?, ?, ?>, ValueChange> changes)
+		{
+			super(source, false);
+			this.changes = changes;
+		}
+		
+		/**
+		 * @return the labels whose value changed (in the order they were updated)
+		 */
+		public Map<AbstractEditableLabel<?, ?, ?>, ValueChange> getChanges()
+		{
+			return this.changes;
+		}
+	}
+}
@@ -0,0 +1,510 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.vaadin.flow.component.AbstractField;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentEvent;
+import com.vaadin.flow.component.ComponentEventListener;
+import com.vaadin.flow.component.Focusable;
+import com.vaadin.flow.component.HasSize;
+import com.vaadin.flow.component.HasStyle;
+import com.vaadin.flow.component.HasValue;
+import com.vaadin.flow.component.ItemLabelGenerator;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.dependency.JsModule;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.function.SerializableSupplier;
+import com.vaadin.flow.shared.Registration;
+
+
+/**
+ * A lightweight alternative to {@link AbstractEditableLabel} that is backed by a single
+ * <code>&lt;editable-label&gt;</code> web component.
+ * <p/>
+ * The label text, the icons and the edit/save/close controls are rendered in the browser. Only the editor exists as
+ * a server-side component and it's only created and attached when the edit mode is entered for the first time.
+ * <br/>
+ * Therefore a label only consists of a single element until it's edited.
+ * <p/>
+ * It's <b>not</b> a drop-in replacement: It doesn't extend {@link AbstractEditableLabel} and only offers the basic
+ * API (value, edit mode, label generators, icons, read only/required). Features like asynchronous/automatic saving,
+ * shared editors or publisher bindings are not available. Icons are passed as names as they are rendered in the
+ * browser.
+ * <p/>
+ * Example:
+ * <pre>
+ * final LitEditableLabel&lt;TextField, String&gt; label = new LitEditableLabel&lt;&gt;(TextField::new, "");
+ * </pre>
+ *
+ * @param <C> Vaadin-{@link Component} to edit the value
+ * @param <V> value type which is handled through this component
+ */
+@Tag("editable-label")
+@JsModule("./editable-label/editable-label.js")
+// Offers the same builder-style API as AbstractEditableLabel (grouped into regions) on top of the web component
+@SuppressWarnings("PMD.GodClass")
+public class LitEditableLabel<C extends Component & HasSize & HasStyle & HasValue<?, V>, V>
+	extends AbstractField<LitEditableLabel<C, V>, V>
+	implements
+	HasStyle,
+	HasSize
+{
+	protected static final String PROPERTY_LABEL = "label";
+	protected static final String PROPERTY_EDIT_MODE = "editMode";
+	protected static final String PROPERTY_EDIT_ICON = "editIcon";
+	protected static final String PROPERTY_SAVE_ICON = "saveIcon";
+	protected static final String PROPERTY_CLOSE_ICON = "closeIcon";
+	
+	protected static final String EVENT_EDIT_MODE_CHANGED = "edit-mode-changed";
+	protected static final String EVENT_SAVE = "save";
+	
+	protected static final String SLOT_EDITOR = "editor";
+	
+	protected C editor;
+	protected final SerializableSupplier<C> editorSupplier;
+	
+	/*
+	 * Suppliers / Configuration
+	 */
+	protected ItemLabelGenerator<V> nativeLabelGenerator;
+	protected String emptyLabelValue = "";
+	
+	/**
+	 * @param editorSupplier creates the editor when it's required for the first time
+	 * @param emptyValue     the empty value of the editor, see {@link HasValue#getEmptyValue()}
+	 */
+	public LitEditableLabel(final SerializableSupplier<C> editorSupplier, final V emptyValue)
+	{
+		this(editorSupplier, emptyValue, null);
+	}
+	
+	/**
+	 * @param editorSupplier        creates the editor when it's required for the first time
+	 * @param emptyValue            the empty value of the editor, see {@link HasValue#getEmptyValue()}
+	 * @param additionalInitActions actions that are executed after the component was initialized
+	 */
+	public LitEditableLabel(
+		final SerializableSupplier<C> editorSupplier,
+		final V emptyValue,
+		final Consumer<LitEditableLabel<C, V>> additionalInitActions)
+	{
+		super(emptyValue);
+		
+		this.editorSupplier = Objects.requireNonNull(editorSupplier);
+		
+		this.registerListeners();
+		
+		if(additionalInitActions != null)
+		{
+			additionalInitActions.accept(this);
+		}
+		
+		this.withLabelGenerator(Object::toString);
+	}
+	
+	// region Listeners
+	
+	protected void registerListeners()
+	{
+		this.getElement().addPropertyChangeListener(
+			PROPERTY_EDIT_MODE,
+			EVENT_EDIT_MODE_CHANGED,
+			ev -> {
+				if(ev.isUserOriginated())
+				{
+					this.onClientEditModeChanged(Boolean.TRUE.equals(ev.getValue()));
+				}
+			});
+		this.getElement().addEventListener(EVENT_SAVE, ev -> this.onSave());
+	}
+	
+	protected void onClientEditModeChanged(final boolean enabled)
+	{
+		// The property was already updated by the browser
+		if(enabled && this.isReadOnly())
+		{
+			this.getElement().setProperty(PROPERTY_EDIT_MODE, false);
+			return;
+		}
+		this.onEditModeChanged(enabled, true);
+	}
+	
+	protected void onSave()
+	{
+		if(!this.isEditMode())
+		{
+			return;
+		}
+		
+		this.updateValue(this.getEditor().getValue(), true);
+		
+		this.setEditMode(false, true);
+	}
+	
+	// endregion
+	
+	// region Value Management
+	
+	/**
+	 * @see #setValue(Object)
+	 */
+	public LitEditableLabel<C, V> withValue(final V value)
+	{
+		this.setValue(value);
+		return this;
+	}
+	
+	/**
+	 * Updates the underlying values (if the newValues doesn't equals the oldValue)
+	 *
+	 * @see AbstractEditableLabel#updateValue(Object, boolean)
+	 */
+	protected void updateValue(final V newValue, final boolean isFromClient)
+	{
+		final V oldValue = this.getValue();
+		this.setModelValue(newValue, isFromClient);
+		
+		if(!this.valueEquals(oldValue, newValue))
+		{
+			this.setPresentationValue(newValue);
+		}
+	}
+	
+	@Override
+	protected void setPresentationValue(final V newPresentationValue)
+	{
+		this.updateLabelText(newPresentationValue);
+	}
+	
+	/**
+	 * Updates the label text (rendered in the browser) based on the value to display.
+	 *
+	 * @param value The value to display
+	 */
+	protected void updateLabelText(final V value)
+	{
+		this.getElement().setProperty(PROPERTY_LABEL, this.nativeLabelGenerator.apply(value));
+	}
+	
+	// endregion
+	
+	// region EditMode
+	
+	/**
+	 * @see #setEditMode(boolean)
+	 */
+	public void enableEditMode()
+	{
+		this.setEditMode(true);
+	}
+	
+	/**
+	 * @see #setEditMode(boolean)
+	 */
+	public void disableEditMode()
+	{
+		this.setEditMode(false);
+	}
+	
+	/**
+	 * Sets the editMode:
+	 * <ul>
+	 *     <li>true  - Enables edit mode - displays the editor</li>
+	 *     <li>false - Disables edit mode - displays the label</li>
+	 * </ul>
+	 *
+	 * @param enabled <code>true</code> when in editMode otherwise <code>false</code>
+	 */
+	public void setEditMode(final boolean enabled)
+	{
+		this.setEditMode(enabled, false);
+	}
+	
+	protected void setEditMode(final boolean enabled, final boolean isFromClient)
+	{
+		if(this.isEditMode() == enabled || this.isReadOnly() && enabled)
+		{
+			return;
+		}
+		
+		this.getElement().setProperty(PROPERTY_EDIT_MODE, enabled);
+		this.onEditModeChanged(enabled, isFromClient);
+	}
+	
+	protected void onEditModeChanged(final boolean enabled, final boolean isFromClient)
+	{
+		if(enabled)
+		{
+			final boolean editorCreated = this.isEditorCreated();
+			this.getEditor().setValue(this.getValue());
+			
+			// The browser can only focus the editor when it already existed
+			if((!isFromClient || !editorCreated) && this.getEditor() instanceof final Focusable<?> focusable)
+			{
+				focusable.focus();
+			}
+		}
+		
+		this.fireEvent(new EditModeChangedEvent<>(enabled, this, isFromClient));
+	}
+	
+	public boolean isEditMode()
+	{
+		return this.getElement().getProperty(PROPERTY_EDIT_MODE, false);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public Registration addEditModeChangedListener(
+		final ComponentEventListener<EditModeChangedEvent<C, V>> listener)
+	{
+		return this.addListener(EditModeChangedEvent.class, (ComponentEventListener)listener);
+	}
+	
+	// endregion
+	
+	// region withIcons
+	
+	/**
+	 * Changes the icon of the edit button. Default is {@link VaadinIcon#PENCIL}
+	 *
+	 * @param editIcon icon name, e.g. <code>vaadin:pencil</code>
+	 * @return self
+	 */
+	public LitEditableLabel<C, V> withEditIcon(final String editIcon)
+	{
+		this.getElement().setProperty(PROPERTY_EDIT_ICON, Objects.requireNonNull(editIcon));
+		return this;
+	}
+	
+	/**
+	 * @see #withEditIcon(String)
+	 */
+	public LitEditableLabel<C, V> withEditIcon(final VaadinIcon editIcon)
+	{
+		return this.withEditIcon(iconName(editIcon));
+	}
+	
+	/**
+	 * Changes the icon of the save button. Default is {@link VaadinIcon#CHECK}
+	 *
+	 * @param saveIcon icon name, e.g. <code>vaadin:check</code>
+	 * @return self
+	 */
+	public LitEditableLabel<C, V> withSaveIcon(final String saveIcon)
+	{
+		this.getElement().setProperty(PROPERTY_SAVE_ICON, Objects.requireNonNull(saveIcon));
+		return this;
+	}
+	
+	/**
+	 * @see #withSaveIcon(String)
+	 */
+	public LitEditableLabel<C, V> withSaveIcon(final VaadinIcon saveIcon)
+	{
+		return this.withSaveIcon(iconName(saveIcon));
+	}
+	
+	/**
+	 * Changes the icon of the close button. Default is {@link VaadinIcon#CLOSE}
+	 *
+	 * @param closeIcon icon name, e.g. <code>vaadin:close</code>
+	 * @return self
+	 */
+	public LitEditableLabel<C, V> withCloseIcon(final String closeIcon)
+	{
+		this.getElement().setProperty(PROPERTY_CLOSE_ICON, Objects.requireNonNull(closeIcon));
+		return this;
+	}
+	
+	/**
+	 * @see #withCloseIcon(String)
+	 */
+	public LitEditableLabel<C, V> withCloseIcon(final VaadinIcon closeIcon)
+	{
+		return this.withCloseIcon(iconName(closeIcon));
+	}
+	
+	protected static String iconName(final VaadinIcon icon)
+	{
+		return "vaadin:" + icon.name().toLowerCase(Locale.ENGLISH).replace('_', '-');
+	}
+	
+	// endregion
+	
+	// region LabelGenerator
+	
+	/**
+	 * Sets the label generator used for displaying the label.
+	 * <p/>
+	 * <b>It's recommended to use {@link #withLabelGenerator(ItemLabelGenerator, SerializableSupplier)}</b> or its
+	 * variants because they included null/empty-value checks.
+	 */
+	public LitEditableLabel<C, V> withNativeLabelGenerator(final ItemLabelGenerator<V> labelGenerator)
+	{
+		this.nativeLabelGenerator = Objects.requireNonNull(labelGenerator);
+		this.updateLabelText(this.getValue());
+		return this;
+	}
+	
+	/**
+	 * Sets the label generator used for displaying the label.
+	 * <p/>
+	 * If the value is null or empty {@code emptyValue} is used.
+	 *
+	 * @see #withNativeLabelGenerator(ItemLabelGenerator)
+	 */
+	public LitEditableLabel<C, V> withLabelGenerator(
+		final ItemLabelGenerator<V> notEmptyLabelGenerator,
+		final SerializableSupplier<String> emptyValue)
+	{
+		return this.withNativeLabelGenerator(
+			new NotEmptyLabelGenerator<>(
+				v -> this.valueEquals(v, this.getEmptyValue()),
+				notEmptyLabelGenerator,
+				emptyValue));
+	}
+	
+	/**
+	 * @see #withLabelGenerator(ItemLabelGenerator, SerializableSupplier)
+	 */
+	public LitEditableLabel<C, V> withLabelGenerator(
+		final ItemLabelGenerator<V> notEmptyLabelGenerator,
+		final String emptyValue)
+	{
+		Objects.requireNonNull(emptyValue);
+		return this.withLabelGenerator(notEmptyLabelGenerator, () -> emptyValue);
+	}
+	
+	/**
+	 * @see #withLabelGenerator(ItemLabelGenerator, SerializableSupplier)
+	 */
+	public LitEditableLabel<C, V> withLabelGenerator(final ItemLabelGenerator<V> notEmptyLabelGenerator)
+	{
+		return this.withLabelGenerator(notEmptyLabelGenerator, this.getEmptyLabelValue());
+	}
+	
+	public String getEmptyLabelValue()
+	{
+		return this.emptyLabelValue;
+	}
+	
+	/**
+	 * Set's the default value when the value to display is null or empty.
+	 *
+	 * @see #withLabelGenerator(ItemLabelGenerator, SerializableSupplier)
+	 */
+	public LitEditableLabel<C, V> withEmptyLabelValue(final String emptyLabelValue)
+	{
+		this.emptyLabelValue = Objects.requireNonNull(emptyLabelValue);
+		return this;
+	}
+	
+	// endregion
+	
+	// region Editor
+	
+	/**
+	 * @return the component used to edit the value
+	 * @implNote The editor is created when calling this method for the first time
+	 */
+	public C getEditor()
+	{
+		if(this.editor == null)
+		{
+			this.createEditor();
+		}
+		return this.editor;
+	}
+	
+	/**
+	 * @return <code>true</code> if the editor is available without creating it
+	 */
+	public boolean isEditorCreated()
+	{
+		return this.editor != null;
+	}
+	
+	protected void createEditor()
+	{
+		this.editor = Objects.requireNonNull(this.editorSupplier.get());
+		
+		this.initEditor();
+		if(this.isRequiredIndicatorVisible())
+		{
+			this.editor.setRequiredIndicatorVisible(true);
+		}
+		
+		this.getElement().appendChild(this.editor.getElement());
+	}
+	
+	/**
+	 * Initializes the editor. Is called once the editor was created.
+	 */
+	protected void initEditor()
+	{
+		this.editor.getElement().setAttribute("slot", SLOT_EDITOR);
+		this.editor.addClassName(EditableLabelStyles.EDITOR);
+		this.editor.setWidthFull();
+	}
+	
+	// endregion
+	
+	@Override
+	public void setReadOnly(final boolean readOnly)
+	{
+		super.setReadOnly(readOnly);
+		
+		if(readOnly && this.isEditMode())
+		{
+			this.disableEditMode();
+		}
+	}
+	
+	@Override
+	public void setRequiredIndicatorVisible(final boolean requiredIndicatorVisible)
+	{
+		super.setRequiredIndicatorVisible(requiredIndicatorVisible);
+		if(this.isEditorCreated())
+		{
+			this.editor.setRequiredIndicatorVisible(requiredIndicatorVisible);
+		}
+	}
+	
+	public static class EditModeChangedEvent<C extends Component & HasSize & HasStyle & HasValue<?, V>, V>
+		extends ComponentEvent<LitEditableLabel<C, V>>
+	{
+		protected final boolean editModeEnabled;
+		
+		public EditModeChangedEvent(
+			final boolean editModeEnabled,
+			final LitEditableLabel<C, V> source,
+			final boolean fromClient)
+		{
+			super(source, fromClient);
+			this.editModeEnabled = editModeEnabled;
+		}
+		
+		public boolean isEditModeEnabled()
+		{
+			return this.editModeEnabled;
+		}
+	}
+}
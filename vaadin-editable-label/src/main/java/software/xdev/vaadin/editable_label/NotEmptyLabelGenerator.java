@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.vaadin.flow.component.ItemLabelGenerator;
+import com.vaadin.flow.function.SerializablePredicate;
+
+
+/**
+ * Displays {@code emptyValue} when the value is null or empty, otherwise uses the {@code notEmptyLabelGenerator}.
+ * <p/>
+ * Shared by all label implementations, see e.g.
+ * {@link AbstractEditableLabel#withLabelGenerator(ItemLabelGenerator, Supplier)}.
+ * <p/>
+ * The {@code emptyValue} supplier doesn't need to be serializable: If it's not, its current value is written
+ * instead.
+ *
+ * @param <V> value type
+ */
+public class NotEmptyLabelGenerator<V> implements ItemLabelGenerator<V>
+{
+	protected final SerializablePredicate<V> isEmptyValue;
+	protected final ItemLabelGenerator<V> notEmptyLabelGenerator;
+	protected transient Supplier<String> emptyValue;
+	
+	/**
+	 * @param isEmptyValue checks if a (non-null) value is the empty value of the editor
+	 */
+	public NotEmptyLabelGenerator(
+		final SerializablePredicate<V> isEmptyValue,
+		final ItemLabelGenerator<V> notEmptyLabelGenerator,
+		final Supplier<String> emptyValue)
+	{
+		this.isEmptyValue = Objects.requireNonNull(isEmptyValue);
+		this.notEmptyLabelGenerator = Objects.requireNonNull(notEmptyLabelGenerator);
+		this.emptyValue = Objects.requireNonNull(emptyValue);
+	}
+	
+	@Override
+	public String apply(final V v)
+	{
+		return v == null || this.isEmptyValue.test(v)
+			? this.emptyValue.get()
+			: this.notEmptyLabelGenerator.apply(v);
+	}
+	
+	/**
+	 * @return the generator that is used for values that are not empty
+	 */
+	public ItemLabelGenerator<V> getNotEmptyLabelGenerator()
+	{
+		return this.notEmptyLabelGenerator;
+	}
+	
+	@Serial
+	private void writeObject(final ObjectOutputStream out) throws IOException
+	{
+		out.defaultWriteObject();
+		out.writeObject(this.emptyValue instanceof Serializable ? this.emptyValue : this.emptyValue.get());
+	}
+	
+	@Serial
+	@SuppressWarnings("unchecked")
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+		final Object emptyValueObj = in.readObject();
+		if(emptyValueObj instanceof final Supplier<?> supplier)
+		{
+			this.emptyValue = (Supplier<String>)supplier;
+		}
+		else
+		{
+			final String value = (String)emptyValueObj;
+			this.emptyValue = (Supplier<String> & Serializable)() -> value;
+		}
+	}
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.shared.Registration;
+
+
+/**
+ * Binds the value of a label to a {@link Flow.Publisher}.
+ * <p/>
+ * <ul>
+ *     <li>The publisher is only subscribed while the label is attached</li>
+ *     <li>The label is updated at most once per minimum update interval; values that are published in between are
+ *     conflated (only the latest value is displayed)</li>
+ *     <li>Updates are applied using {@link UI#access(com.vaadin.flow.server.Command)}</li>
+ *     <li>While the label is in edit mode updates are paused, so that the user's input is not overwritten. If the
+ *     user commits a value the paused value is dropped, otherwise (e.g. when cancelling) the latest value is applied
+ *     once the edit mode is left.</li>
+ * </ul>
+ * As publishers are usually not serializable they are not part of the serialized state. A deserialized binding
+ * can't subscribe again and is inert: It logs a warning once the label is attached and the label keeps its last
+ * value. Remove it and bind the publisher again after deserialization.
+ *
+ * @param <V> value type
+ * @see AbstractEditableLabel#bindPublisher(Flow.Publisher, Duration)
+ */
+public class PublisherBinding<V> implements Registration
+{
+	/**
+	 * Delivers the (conflated) values to the UI.
+	 */
+	protected static final Executor DEFAULT_EXECUTOR =
+		Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("editable-label-publisher-", 0).factory());
+	
+	protected final AbstractEditableLabel<?, ?, V> label;
+	protected final transient Flow.Publisher<? extends V> publisher;
+	protected final long minUpdateIntervalNanos;
+	protected final transient Executor executor;
+	protected final List<Registration> registrations;
+	
+	// Only accessed while holding the session lock
+	protected transient ConflatingSubscriber subscriber;
+	protected V pausedValue;
+	
+	public PublisherBinding(
+		final AbstractEditableLabel<?, ?, V> label,
+		final Flow.Publisher<? extends V> publisher,
+		final Duration minUpdateInterval,
+		final Executor executor)
+	{
+		this.label = Objects.requireNonNull(label);
+		this.publisher = Objects.requireNonNull(publisher);
+		this.minUpdateIntervalNanos = minUpdateInterval.toNanos();
+		this.executor = Objects.requireNonNull(executor);
+		
+		this.registrations = List.of(
+			label.addAttachListener(ev -> this.subscribe(ev.getUI())),
+			label.addDetachListener(ev -> this.unsubscribe()),
+			label.addValueChangeListener(ev -> {
+				// The user committed a value (e.g. by saving): It must not be overwritten by an older paused value
+				if(label.isEditMode())
+				{
+					this.pausedValue = null;
+				}
+			}),
+			label.addEditModeChangedListener(ev -> {
+				if(!ev.isEditModeEnabled())
+				{
+					this.applyPausedValue();
+				}
+			}));
+		label.getUI().ifPresent(this::subscribe);
+	}
+	
+	public PublisherBinding(
+		final AbstractEditableLabel<?, ?, V> label,
+		final Flow.Publisher<? extends V> publisher,
+		final Duration minUpdateInterval)
+	{
+		this(label, publisher, minUpdateInterval, DEFAULT_EXECUTOR);
+	}
+	
+	protected void subscribe(final UI ui)
+	{
+		if(this.publisher == null || this.executor == null)
+		{
+			getLogger().warn(
+				"The publisher binding of {} was deserialized and lost its (transient) publisher; "
+					+ "remove the binding and bind the publisher again after deserialization",
+				this.label.getClass().getSimpleName());
+			return;
+		}
+		
+		this.unsubscribe();
+		this.subscriber = new ConflatingSubscriber(ui);
+		this.publisher.subscribe(this.subscriber);
+	}
+	
+	protected void unsubscribe()
+	{
+		if(this.subscriber != null)
+		{
+			this.subscriber.cancel();
+			this.subscriber = null;
+		}
+	}
+	
+	protected void apply(final V value)
+	{
+		if(this.label.isEditMode())
+		{
+			this.pausedValue = value;
+			return;
+		}
+		this.label.setValue(value);
+	}
+	
+	protected void applyPausedValue()
+	{
+		if(this.pausedValue != null)
+		{
+			final V value = this.pausedValue;
+			this.pausedValue = null;
+			this.label.setValue(value);
+		}
+	}
+	
+	/**
+	 * Cancels the subscription and stops listening to the label.
+	 */
+	@Override
+	public void remove()
+	{
+		this.registrations.forEach(Registration::remove);
+		this.unsubscribe();
+		this.pausedValue = null;
+	}
+	
+	protected static Logger getLogger()
+	{
+		return LoggerFactory.getLogger(PublisherBinding.class);
+	}
+	
+	/**
+	 * Subscriber for a single attachment of the label.
+	 */
+	protected class ConflatingSubscriber implements Flow.Subscriber<V>
+	{
+		protected final UI ui;
+		protected final AtomicReference<V> latest = new AtomicReference<>();
+		protected final AtomicBoolean deliveryScheduled = new AtomicBoolean();
+		protected final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+		protected final AtomicLong lastDeliveryNanos =
+			new AtomicLong(System.nanoTime() - PublisherBinding.this.minUpdateIntervalNanos);
+		protected final AtomicBoolean cancelled = new AtomicBoolean();
+		
+		protected ConflatingSubscriber(final UI ui)
+		{
+			this.ui = ui;
+		}
+		
+		@Override
+		public void onSubscribe(final Flow.Subscription newSubscription)
+		{
+			if(this.cancelled.get() || !this.subscription.compareAndSet(null, newSubscription))
+			{
+				newSubscription.cancel();
+				return;
+			}
+			newSubscription.request(1);
+		}
+		
+		@Override
+		public void onNext(final V item)
+		{
+			// Only the latest value is kept; older ones are dropped
+			this.latest.set(item);
+			this.scheduleDelivery();
+			
+			// Values are conflated -> always ready for the next one
+			final Flow.Subscription currentSubscription = this.subscription.get();
+			if(currentSubscription != null && !this.cancelled.get())
+			{
+				currentSubscription.request(1);
+			}
+		}
+		
+		protected void scheduleDelivery()
+		{
+			if(this.cancelled.get() || !this.deliveryScheduled.compareAndSet(false, true))
+			{
+				return;
+			}
+			
+			final long delayNanos = Math.max(
+				0,
+				this.lastDeliveryNanos.get() + PublisherBinding.this.minUpdateIntervalNanos - System.nanoTime());
+			CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, PublisherBinding.this.executor)
+				.execute(this::deliver);
+		}
+		
+		protected void deliver()
+		{
+			this.deliveryScheduled.set(false);
+			this.lastDeliveryNanos.set(System.nanoTime());
+			
+			final V value = this.latest.getAndSet(null);
+			if(value == null || this.cancelled.get())
+			{
+				return;
+			}
+			this.access(() -> PublisherBinding.this.apply(value));
+		}
+		
+		@Override
+		public void onError(final Throwable throwable)
+		{
+			// Executed inside UI#access: Passes the error to the ErrorHandler of the session
+			this.access(() -> {
+				throw new CompletionException(throwable);
+			});
+		}
+		
+		@Override
+		public void onComplete()
+		{
+			// The last value stays displayed
+		}
+		
+		protected void access(final Runnable runnable)
+		{
+			try
+			{
+				this.ui.access(() -> {
+					if(!this.cancelled.get())
+					{
+						runnable.run();
+					}
+				});
+			}
+			catch(final UIDetachedException ignored)
+			{
+				// The UI is gone - nothing to update
+			}
+		}
+		
+		protected void cancel()
+		{
+			this.cancelled.set(true);
+			final Flow.Subscription currentSubscription = this.subscription.getAndSet(null);
+			if(currentSubscription != null)
+			{
+				currentSubscription.cancel();
+			}
+		}
+	}
+}
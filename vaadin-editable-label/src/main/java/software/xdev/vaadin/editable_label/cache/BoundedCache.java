@@ -0,0 +1,278 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.cache;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+
+/**
+ * A thread-safe cache with a maximum size (least recently used entries are evicted first) and optional expiration,
+ * see {@link CacheSpec}.
+ * <p/>
+ * To keep contention low the cache is split into multiple independently locked segments.
+ * Values are loaded outside any lock; concurrent loads of the same key might therefore load the value twice.
+ * <p/>
+ * The cached entries are not serialized.
+ *
+ * @param <K> key type; <code>null</code> is allowed
+ * @param <V> value type; <code>null</code> values are not cached
+ */
+public class BoundedCache<K, V> implements Serializable
+{
+	protected static final int MAX_SEGMENTS = 16;
+	protected static final int SEGMENT_INITIAL_CAPACITY = 16;
+	protected static final float SEGMENT_LOAD_FACTOR = 0.75f;
+	
+	protected final CacheSpec spec;
+	
+	// Recreated after deserialization
+	protected transient Segment<K, V>[] segments;
+	protected transient LongAdder hitCount;
+	protected transient LongAdder missCount;
+	protected transient LongAdder evictionCount;
+	
+	public BoundedCache(final CacheSpec spec)
+	{
+		this.spec = Objects.requireNonNull(spec);
+		this.initSegments();
+	}
+	
+	/**
+	 * Creates the (empty) segments and statistics.
+	 */
+	protected final void initSegments()
+	{
+		this.hitCount = new LongAdder();
+		this.missCount = new LongAdder();
+		this.evictionCount = new LongAdder();
+		this.segments = this.createSegments();
+	}
+	
+	@Serial
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+		this.initSegments();
+	}
+	
+	/**
+	 * @return the cached value or <code>null</code> if not present
+	 */
+	public V getIfPresent(final K key)
+	{
+		final V value = this.segmentFor(key).get(key);
+		if(value != null)
+		{
+			this.hitCount.increment();
+		}
+		else
+		{
+			this.missCount.increment();
+		}
+		return value;
+	}
+	
+	/**
+	 * Returns the cached value or loads (and caches) it if not present.
+	 */
+	public V get(final K key, final Function<? super K, ? extends V> loader)
+	{
+		final Segment<K, V> segment = this.segmentFor(key);
+		
+		final V cached = segment.get(key);
+		if(cached != null)
+		{
+			this.hitCount.increment();
+			return cached;
+		}
+		
+		this.missCount.increment();
+		final V value = loader.apply(key);
+		if(value != null)
+		{
+			segment.put(key, value);
+		}
+		return value;
+	}
+	
+	public void put(final K key, final V value)
+	{
+		this.segmentFor(key).put(key, Objects.requireNonNull(value));
+	}
+	
+	public void invalidate(final K key)
+	{
+		this.segmentFor(key).remove(key);
+	}
+	
+	/**
+	 * Removes all entries whose key matches the predicate.
+	 */
+	public void invalidateIf(final Predicate<? super K> predicate)
+	{
+		for(final Segment<K, V> segment : this.getSegments())
+		{
+			segment.removeIf(predicate);
+		}
+	}
+	
+	public void invalidateAll()
+	{
+		for(final Segment<K, V> segment : this.getSegments())
+		{
+			segment.clear();
+		}
+	}
+	
+	public CacheStats getStats()
+	{
+		long size = 0;
+		for(final Segment<K, V> segment : this.getSegments())
+		{
+			size += segment.size();
+		}
+		return new CacheStats(
+			this.hitCount.sum(),
+			this.missCount.sum(),
+			this.evictionCount.sum(),
+			size);
+	}
+	
+	public CacheSpec getSpec()
+	{
+		return this.spec;
+	}
+	
+	protected Segment<K, V> segmentFor(final K key)
+	{
+		final Segment<K, V>[] currentSegments = this.getSegments();
+		// Spread the hash so that keys with similar hashes are distributed evenly
+		final int hash = Objects.hashCode(key);
+		return currentSegments[Math.floorMod(hash ^ hash >>> 16, currentSegments.length)];
+	}
+	
+	protected Segment<K, V>[] getSegments()
+	{
+		return this.segments;
+	}
+	
+	@SuppressWarnings("unchecked")
+	protected Segment<K, V>[] createSegments()
+	{
+		final int segmentCount = Math.min(MAX_SEGMENTS, this.spec.getMaximumSize());
+		// Distribute the remainder so that the segments never hold more than the maximum size in total
+		final int maximumSizePerSegment = this.spec.getMaximumSize() / segmentCount;
+		final int remainder = this.spec.getMaximumSize() % segmentCount;
+		final long expireAfterWriteNanos = this.spec.getExpireAfterWrite() != null
+			? this.spec.getExpireAfterWrite().toNanos()
+			: 0;
+		
+		final Segment<K, V>[] newSegments = new Segment[segmentCount];
+		for(int i = 0; i < segmentCount; i++)
+		{
+			newSegments[i] = new Segment<>(
+				maximumSizePerSegment + (i < remainder ? 1 : 0),
+				expireAfterWriteNanos,
+				this.evictionCount);
+		}
+		return newSegments;
+	}
+	
+	protected record CachedValue<V>(V value, long writtenAtNanos)
+	{
+	}
+	
+	/**
+	 * A part of the cache that is guarded by its own lock.
+	 */
+	protected static class Segment<K, V>
+	{
+		protected final long expireAfterWriteNanos;
+		protected final LongAdder evictionCount;
+		protected final LinkedHashMap<K, CachedValue<V>> entries;
+		
+		protected Segment(final int maximumSize, final long expireAfterWriteNanos, final LongAdder evictionCount)
+		{
+			this.expireAfterWriteNanos = expireAfterWriteNanos;
+			this.evictionCount = evictionCount;
+			// Access ordered -> LRU
+			this.entries = new LinkedHashMap<>(SEGMENT_INITIAL_CAPACITY, SEGMENT_LOAD_FACTOR, true)
+			{
+				@Override
+				protected boolean removeEldestEntry(final Map.Entry<K, CachedValue<V>> eldest)
+				{
+					final boolean remove = this.size() > maximumSize;
+					if(remove)
+					{
+						evictionCount.increment();
+					}
+					return remove;
+				}
+			};
+		}
+		
+		protected synchronized V get(final K key)
+		{
+			final CachedValue<V> cached = this.entries.get(key);
+			if(cached == null)
+			{
+				return null;
+			}
+			if(this.expireAfterWriteNanos > 0
+				&& System.nanoTime() - cached.writtenAtNanos() >= this.expireAfterWriteNanos)
+			{
+				this.entries.remove(key);
+				this.evictionCount.increment();
+				return null;
+			}
+			return cached.value();
+		}
+		
+		protected synchronized void put(final K key, final V value)
+		{
+			this.entries.put(key, new CachedValue<>(value, System.nanoTime()));
+		}
+		
+		protected synchronized void remove(final K key)
+		{
+			this.entries.remove(key);
+		}
+		
+		protected synchronized void removeIf(final Predicate<? super K> predicate)
+		{
+			this.entries.keySet().removeIf(predicate);
+		}
+		
+		protected synchronized void clear()
+		{
+			this.entries.clear();
+		}
+		
+		protected synchronized int size()
+		{
+			return this.entries.size();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.cache;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+
+
+/**
+ * Describes how a {@link BoundedCache} (e.g. of a {@link CachingLabelGenerator}) caches entries.
+ * <p/>
+ * Specs are immutable and can therefore be shared: The <code>with</code>-methods return a new spec.
+ * <p/>
+ * Example:
+ * <pre>
+ * CacheSpec.maximumSize(1_000).withExpireAfterWrite(Duration.ofMinutes(5))
+ * </pre>
+ */
+public class CacheSpec implements Serializable
+{
+	public static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+	
+	protected final int maximumSize;
+	protected final Duration expireAfterWrite;
+	
+	/**
+	 * @param expireAfterWrite may be <code>null</code> if entries never expire
+	 */
+	protected CacheSpec(final int maximumSize, final Duration expireAfterWrite)
+	{
+		if(maximumSize < 1)
+		{
+			throw new IllegalArgumentException("maximumSize must be at least 1");
+		}
+		if(expireAfterWrite != null && (expireAfterWrite.isNegative() || expireAfterWrite.isZero()))
+		{
+			throw new IllegalArgumentException("expireAfterWrite must be positive");
+		}
+		this.maximumSize = maximumSize;
+		this.expireAfterWrite = expireAfterWrite;
+	}
+	
+	/**
+	 * @return a spec that caches up to {@link #DEFAULT_MAXIMUM_SIZE} entries that never expire
+	 */
+	public static CacheSpec defaults()
+	{
+		return maximumSize(DEFAULT_MAXIMUM_SIZE);
+	}
+	
+	/**
+	 * @param maximumSize the maximum amount of cached entries; the least recently used entries are evicted first
+	 */
+	public static CacheSpec maximumSize(final int maximumSize)
+	{
+		return new CacheSpec(maximumSize, null);
+	}
+	
+	/**
+	 * Entries expire after the given duration since they were written.
+	 * <p/>
+	 * Useful when the cached data might change, e.g. names of entities.
+	 *
+	 * @return a new spec; this spec is not modified
+	 */
+	public CacheSpec withExpireAfterWrite(final Duration expireAfterWrite)
+	{
+		return new CacheSpec(this.maximumSize, Objects.requireNonNull(expireAfterWrite));
+	}
+	
+	public int getMaximumSize()
+	{
+		return this.maximumSize;
+	}
+	
+	/**
+	 * @return the duration after which entries expire or <code>null</code> if they never expire
+	 */
+	public Duration getExpireAfterWrite()
+	{
+		return this.expireAfterWrite;
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.cache;
+
+import java.io.Serializable;
+
+
+/**
+ * Statistics of a {@link BoundedCache}.
+ *
+ * @param hitCount      how often an entry was served from the cache
+ * @param missCount     how often an entry was missing
+ * @param evictionCount how often an entry was removed because the cache was full or the entry expired
+ * @param size          the current amount of cached entries
+ */
+public record CacheStats(long hitCount, long missCount, long evictionCount, long size)
+	implements Serializable
+{
+	public long requestCount()
+	{
+		return this.hitCount + this.missCount;
+	}
+	
+	/**
+	 * @return the ratio of requests that were served from the cache or <code>0.0</code> if there were no requests
+	 */
+	public double hitRate()
+	{
+		final long requestCount = this.requestCount();
+		return requestCount == 0 ? 0.0 : (double)this.hitCount / requestCount;
+	}
+}
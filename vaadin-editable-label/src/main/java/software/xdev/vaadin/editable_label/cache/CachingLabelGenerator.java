@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.cache;
+
+import java.util.Objects;
+
+import com.vaadin.flow.component.ItemLabelGenerator;
+
+
+/**
+ * An {@link ItemLabelGenerator} that memoizes the labels of a (potentially expensive) generator.
+ * <p/>
+ * The cache is bounded (least recently used labels are evicted first) and labels can optionally expire, see
+ * {@link CacheSpec}.
+ * <p/>
+ * Instances are thread-safe and can therefore be shared across multiple labels - even of different sessions.
+ * The generator is executed outside of any lock.
+ *
+ * @param <V> type of the values
+ * @see BoundedCache
+ */
+public class CachingLabelGenerator<V> implements ItemLabelGenerator<V>
+{
+	protected final ItemLabelGenerator<V> generator;
+	protected final BoundedCache<V, String> cache;
+	
+	public CachingLabelGenerator(final ItemLabelGenerator<V> generator)
+	{
+		this(generator, CacheSpec.defaults());
+	}
+	
+	public CachingLabelGenerator(final ItemLabelGenerator<V> generator, final CacheSpec spec)
+	{
+		this.generator = Objects.requireNonNull(generator);
+		this.cache = new BoundedCache<>(spec);
+	}
+	
+	@Override
+	public String apply(final V value)
+	{
+		return this.cache.get(value, this.generator);
+	}
+	
+	/**
+	 * Removes all cached labels, e.g. because the underlying data changed.
+	 */
+	public void invalidateAll()
+	{
+		this.cache.invalidateAll();
+	}
+	
+	/**
+	 * Removes the cached label of the given value.
+	 */
+	public void invalidate(final V value)
+	{
+		this.cache.invalidate(value);
+	}
+	
+	public CacheStats getStats()
+	{
+		return this.cache.getStats();
+	}
+	
+	public ItemLabelGenerator<V> getGenerator()
+	{
+		return this.generator;
+	}
+	
+	public CacheSpec getSpec()
+	{
+		return this.cache.getSpec();
+	}
+}
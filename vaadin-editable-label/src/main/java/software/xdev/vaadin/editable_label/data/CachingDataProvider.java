@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.data;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.AbstractBackEndDataProvider;
+import com.vaadin.flow.data.provider.BackEndDataProvider;
+import com.vaadin.flow.data.provider.Query;
+
+import software.xdev.vaadin.editable_label.cache.CacheSpec;
+import software.xdev.vaadin.editable_label.cache.CacheStats;
+
+
+/**
+ * Wraps a {@link BackEndDataProvider} (with a text filter like the one of a ComboBox) and caches its results in a
+ * {@link QueryCache}.
+ * <p/>
+ * Like every data provider it keeps the listeners of the components that display it and notifies them on
+ * {@link #refreshAll()}. It must therefore only be used by the components of a single UI. To share the cached
+ * results, e.g. across all sessions, share the {@link QueryCache} and create a provider per component using
+ * {@link #CachingDataProvider(QueryCache)}.
+ * <p/>
+ * Call {@link #refreshAll()} or {@link #invalidate(String)} when the underlying data changed.
+ *
+ * @param <T> item type
+ */
+public class CachingDataProvider<T> extends AbstractBackEndDataProvider<T, String>
+{
+	protected final QueryCache<T> cache;
+	
+	/**
+	 * Uses the given (e.g. shared) cache.
+	 */
+	public CachingDataProvider(final QueryCache<T> cache)
+	{
+		this.cache = Objects.requireNonNull(cache);
+	}
+	
+	/**
+	 * Uses a new cache that is only used by this provider.
+	 */
+	public CachingDataProvider(final BackEndDataProvider<T, String> delegate, final CacheSpec spec)
+	{
+		this(new QueryCache<>(delegate, spec));
+	}
+	
+	@Override
+	protected Stream<T> fetchFromBackEnd(final Query<T, String> query)
+	{
+		return this.cache.fetch(query);
+	}
+	
+	@Override
+	protected int sizeInBackEnd(final Query<T, String> query)
+	{
+		return this.cache.size(query);
+	}
+	
+	/**
+	 * Removes all cached results for the given filter.
+	 *
+	 * @see QueryCache#invalidate(String)
+	 */
+	public void invalidate(final String filter)
+	{
+		this.cache.invalidate(filter);
+	}
+	
+	/**
+	 * Removes all cached results.
+	 *
+	 * @see QueryCache#invalidateAll()
+	 */
+	public void invalidateAll()
+	{
+		this.cache.invalidateAll();
+	}
+	
+	/**
+	 * Removes all cached results and notifies the components that display this provider.
+	 * <p/>
+	 * Components of other providers that share the cache are not notified (as they might belong to other sessions);
+	 * they get the new results once they query again, e.g. after calling {@link #refreshAll()} of their provider
+	 * inside {@link com.vaadin.flow.component.UI#access(com.vaadin.flow.server.Command)}.
+	 */
+	@Override
+	public void refreshAll()
+	{
+		this.invalidateAll();
+		super.refreshAll();
+	}
+	
+	public CacheStats getFetchStats()
+	{
+		return this.cache.getFetchStats();
+	}
+	
+	public CacheStats getCountStats()
+	{
+		return this.cache.getCountStats();
+	}
+	
+	public QueryCache<T> getCache()
+	{
+		return this.cache;
+	}
+	
+	public BackEndDataProvider<T, String> getDelegate()
+	{
+		return this.cache.getDelegate();
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.data;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.component.ItemLabelGenerator;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.data.provider.AbstractBackEndDataProvider;
+import com.vaadin.flow.data.provider.DataProviderListener;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.shared.Registration;
+
+
+/**
+ * A data provider that filters items by their label (case-insensitive "contains" - like a ComboBox) using a
+ * {@link TrigramIndex} instead of scanning all items.
+ * <p/>
+ * Like every data provider it keeps the listeners of the components that display it. It must therefore only be used
+ * by the components of a single UI. To share the index, e.g. across all sessions, share the {@link TrigramIndex} and
+ * create a provider per component using {@link #IndexedDataProvider(TrigramIndex)}.
+ * <p/>
+ * When the index changes (no matter through which provider) the components are refreshed inside
+ * {@link UI#access(com.vaadin.flow.server.Command)} of their UI.
+ *
+ * @param <T> item type
+ */
+public class IndexedDataProvider<T> extends AbstractBackEndDataProvider<T, String>
+{
+	protected final TrigramIndex<T> index;
+	
+	// Only accessed while holding the session lock of the UI
+	protected UI ui;
+	protected int listenerCount;
+	protected transient Registration indexRegistration;
+	
+	/**
+	 * Uses the given (e.g. shared) index.
+	 */
+	public IndexedDataProvider(final TrigramIndex<T> index)
+	{
+		this.index = Objects.requireNonNull(index);
+	}
+	
+	/**
+	 * Uses a new index of the items that is only used by this provider.
+	 */
+	public IndexedDataProvider(final Collection<T> items, final ItemLabelGenerator<T> labelGenerator)
+	{
+		this(new TrigramIndex<>(items, labelGenerator));
+	}
+	
+	@Override
+	protected Stream<T> fetchFromBackEnd(final Query<T, String> query)
+	{
+		return this.index.fetch(query.getFilter().orElse(null), query.getOffset(), query.getLimit()).stream();
+	}
+	
+	@Override
+	protected int sizeInBackEnd(final Query<T, String> query)
+	{
+		return this.index.count(query.getFilter().orElse(null));
+	}
+	
+	/**
+	 * Listens to the index while the provider has listeners, i.e. while it's displayed by an attached component.
+	 * <p/>
+	 * Changes of the index are delivered inside {@link UI#access(com.vaadin.flow.server.Command)} of the UI that was
+	 * current when the first listener was added. Without a current UI the changes are delivered directly on the
+	 * modifying thread.
+	 */
+	@Override
+	public Registration addDataProviderListener(final DataProviderListener<T> listener)
+	{
+		final Registration registration = super.addDataProviderListener(listener);
+		if(this.listenerCount++ == 0)
+		{
+			this.ui = UI.getCurrent();
+			this.indexRegistration = this.index.addChangeListener(this::onIndexChanged);
+		}
+		
+		final AtomicBoolean removed = new AtomicBoolean();
+		return () -> {
+			if(removed.compareAndSet(false, true))
+			{
+				registration.remove();
+				this.onListenerRemoved();
+			}
+		};
+	}
+	
+	protected void onListenerRemoved()
+	{
+		if(--this.listenerCount == 0 && this.indexRegistration != null)
+		{
+			this.indexRegistration.remove();
+			this.indexRegistration = null;
+			this.ui = null;
+		}
+	}
+	
+	protected void onIndexChanged(final T item)
+	{
+		final UI currentUI = this.ui;
+		if(currentUI == null)
+		{
+			this.fireIndexChange(item);
+			return;
+		}
+		try
+		{
+			currentUI.access(() -> this.fireIndexChange(item));
+		}
+		catch(final UIDetachedException ignored)
+		{
+			// The UI is gone - there is nothing to refresh
+		}
+	}
+	
+	protected void fireIndexChange(final T item)
+	{
+		if(item == null)
+		{
+			this.refreshAll();
+		}
+		else
+		{
+			super.refreshItem(item);
+		}
+	}
+	
+	/**
+	 * Replaces all items of the index.
+	 *
+	 * @see TrigramIndex#setItems(Collection)
+	 */
+	public void setItems(final Collection<T> items)
+	{
+		this.index.setItems(items);
+	}
+	
+	/**
+	 * @see TrigramIndex#addItems(Collection)
+	 */
+	public void addItems(final Collection<T> items)
+	{
+		this.index.addItems(items);
+	}
+	
+	/**
+	 * @see TrigramIndex#removeItems(Collection)
+	 */
+	public void removeItems(final Collection<T> items)
+	{
+		this.index.removeItems(items);
+	}
+	
+	/**
+	 * Regenerates the label of the item in the index and refreshes it in all components displaying the index.
+	 *
+	 * @see TrigramIndex#refreshItem(Object)
+	 */
+	@Override
+	public void refreshItem(final T item)
+	{
+		this.index.refreshItem(item);
+	}
+	
+	/**
+	 * @return all items in the order they were added
+	 */
+	public List<T> getItems()
+	{
+		return this.index.getItems();
+	}
+	
+	public TrigramIndex<T> getIndex()
+	{
+		return this.index;
+	}
+	
+	@Serial
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+		// Change listeners of the index are not serialized
+		if(this.listenerCount > 0)
+		{
+			this.indexRegistration = this.index.addChangeListener(this::onIndexChanged);
+		}
+	}
+}
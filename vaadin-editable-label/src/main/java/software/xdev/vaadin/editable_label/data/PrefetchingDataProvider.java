@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.data;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.AbstractBackEndDataProvider;
+import com.vaadin.flow.data.provider.BackEndDataProvider;
+import com.vaadin.flow.data.provider.Query;
+
+
+/**
+ * Wraps a {@link BackEndDataProvider} and allows to fetch the first (unfiltered) page in advance.
+ * <p/>
+ * Once prefetched, queries for the first page are served from the prefetched items, so that e.g. a ComboBox is
+ * populated the moment it's opened. All other queries are passed to the delegate.
+ * <p/>
+ * The prefetch is executed by the given {@link Executor} without holding the session lock. Therefore
+ * {@link com.vaadin.flow.server.VaadinSession#getCurrent()}, {@link com.vaadin.flow.component.UI#getCurrent()} and
+ * other thread-bound contexts (e.g. a security context) are not available unless the executor propagates them. The
+ * delegate must not depend on them or a wrapping executor that propagates them must be used.
+ *
+ * @param <T> item type
+ * @see #prefetch(Executor)
+ */
+public class PrefetchingDataProvider<T> extends AbstractBackEndDataProvider<T, String>
+{
+	protected final BackEndDataProvider<T, String> delegate;
+	protected final int prefetchSize;
+	
+	protected transient AtomicReference<CompletableFuture<List<T>>> firstPage = new AtomicReference<>();
+	
+	/**
+	 * @param prefetchSize amount of items to prefetch; should match the page size of the component
+	 */
+	public PrefetchingDataProvider(final BackEndDataProvider<T, String> delegate, final int prefetchSize)
+	{
+		this.delegate = Objects.requireNonNull(delegate);
+		this.prefetchSize = prefetchSize;
+	}
+	
+	/**
+	 * Fetches the first page in the background (if not already done).
+	 *
+	 * @return a future that completes with the first page
+	 */
+	public CompletableFuture<List<T>> prefetch(final Executor executor)
+	{
+		final CompletableFuture<List<T>> created = new CompletableFuture<>();
+		final CompletableFuture<List<T>> current = this.firstPage.compareAndExchange(null, created);
+		if(current != null)
+		{
+			return current;
+		}
+		return created.completeAsync(
+			() -> this.delegate.fetch(new Query<>(0, this.prefetchSize, List.of(), null, null)).toList(),
+			executor);
+	}
+	
+	/**
+	 * Discards the prefetched items, e.g. because they might be outdated.
+	 */
+	public void invalidatePrefetch()
+	{
+		this.firstPage.set(null);
+	}
+	
+	public boolean isPrefetched()
+	{
+		final CompletableFuture<List<T>> current = this.firstPage.get();
+		return current != null && current.isDone() && !current.isCompletedExceptionally();
+	}
+	
+	@Override
+	protected Stream<T> fetchFromBackEnd(final Query<T, String> query)
+	{
+		final CompletableFuture<List<T>> current = this.firstPage.get();
+		if(current != null && this.isFirstPageQuery(query))
+		{
+			try
+			{
+				// Waiting for a running prefetch is not slower than querying again
+				final List<T> items = current.join();
+				// A page that is not full contains all items
+				if(query.getLimit() <= this.prefetchSize || items.size() < this.prefetchSize)
+				{
+					return items.stream().limit(query.getLimit());
+				}
+			}
+			catch(final CompletionException ex)
+			{
+				// Prefetch failed -> query normally (and prefetch again next time)
+				this.firstPage.compareAndSet(current, null);
+			}
+		}
+		return this.delegate.fetch(query);
+	}
+	
+	protected boolean isFirstPageQuery(final Query<T, String> query)
+	{
+		return query.getOffset() == 0
+			&& query.getFilter().filter(filter -> !filter.isEmpty()).isEmpty()
+			&& query.getSortOrders().isEmpty()
+			&& query.getInMemorySorting() == null;
+	}
+	
+	@Override
+	protected int sizeInBackEnd(final Query<T, String> query)
+	{
+		return this.delegate.size(query);
+	}
+	
+	@Override
+	public void refreshAll()
+	{
+		this.invalidatePrefetch();
+		super.refreshAll();
+	}
+	
+	public BackEndDataProvider<T, String> getDelegate()
+	{
+		return this.delegate;
+	}
+	
+	@Serial
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+		// The prefetched page is not serialized
+		this.firstPage = new AtomicReference<>();
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.data;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.BackEndDataProvider;
+import com.vaadin.flow.data.provider.Query;
+
+import software.xdev.vaadin.editable_label.cache.BoundedCache;
+import software.xdev.vaadin.editable_label.cache.CacheSpec;
+import software.xdev.vaadin.editable_label.cache.CacheStats;
+
+
+/**
+ * Caches the results of a {@link BackEndDataProvider} with a text filter (like the one of a ComboBox).
+ * <p/>
+ * Fetch results are cached by filter, offset and limit; counts by filter. Size and expiration of both caches are
+ * defined by a {@link CacheSpec}. Sorted queries are not cached.
+ * <p/>
+ * The cache is thread-safe and can therefore be shared, e.g. by all sessions that display the same items.
+ * It's not a data provider itself: Data providers keep the listeners of the components that display them, so each
+ * component uses its own {@link CachingDataProvider} that reads from the shared cache.
+ *
+ * @param <T> item type
+ * @see CachingDataProvider#CachingDataProvider(QueryCache)
+ */
+public class QueryCache<T> implements Serializable
+{
+	protected final BackEndDataProvider<T, String> delegate;
+	protected final BoundedCache<FetchKey, List<T>> fetchCache;
+	protected final BoundedCache<String, Integer> countCache;
+	
+	public QueryCache(final BackEndDataProvider<T, String> delegate, final CacheSpec spec)
+	{
+		this.delegate = Objects.requireNonNull(delegate);
+		this.fetchCache = new BoundedCache<>(spec);
+		this.countCache = new BoundedCache<>(spec);
+	}
+	
+	public Stream<T> fetch(final Query<T, String> query)
+	{
+		if(!this.isCacheable(query))
+		{
+			return this.delegate.fetch(query);
+		}
+		
+		return this.fetchCache.get(
+				new FetchKey(this.filterOf(query), query.getOffset(), query.getLimit()),
+				key -> this.delegate.fetch(query).toList())
+			.stream();
+	}
+	
+	public int size(final Query<T, String> query)
+	{
+		if(!this.isCacheable(query))
+		{
+			return this.delegate.size(query);
+		}
+		
+		return this.countCache.get(this.filterOf(query), filter -> this.delegate.size(query));
+	}
+	
+	protected boolean isCacheable(final Query<T, String> query)
+	{
+		return query.getSortOrders().isEmpty() && query.getInMemorySorting() == null;
+	}
+	
+	protected String filterOf(final Query<T, String> query)
+	{
+		return query.getFilter().orElse("");
+	}
+	
+	/**
+	 * Removes all cached results for the given filter.
+	 */
+	public void invalidate(final String filter)
+	{
+		final String normalizedFilter = Objects.requireNonNullElse(filter, "");
+		this.fetchCache.invalidateIf(key -> key.filter().equals(normalizedFilter));
+		this.countCache.invalidate(normalizedFilter);
+	}
+	
+	/**
+	 * Removes all cached results.
+	 */
+	public void invalidateAll()
+	{
+		this.fetchCache.invalidateAll();
+		this.countCache.invalidateAll();
+	}
+	
+	public CacheStats getFetchStats()
+	{
+		return this.fetchCache.getStats();
+	}
+	
+	public CacheStats getCountStats()
+	{
+		return this.countCache.getStats();
+	}
+	
+	public BackEndDataProvider<T, String> getDelegate()
+	{
+		return this.delegate;
+	}
+	
+	protected record FetchKey(String filter, int offset, int limit) implements Serializable
+	{
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.data;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.vaadin.flow.component.ItemLabelGenerator;
+import com.vaadin.flow.function.SerializableSupplier;
+
+
+/**
+ * An immutable set of items (and optionally their pre-generated labels) that is shared by many components - even
+ * across sessions.
+ * <p/>
+ * The items are loaded once using the supplier and only reloaded when calling {@link #refresh()}.
+ * A refresh replaces the whole snapshot atomically; components observe the new items the next time they query them
+ * (see {@link #getVersion()}).
+ *
+ * @param <T> item type
+ * @see SharedItemsRegistry
+ */
+public class SharedItems<T> implements Serializable
+{
+	protected final SharedItemsKey<T> key;
+	protected final SerializableSupplier<? extends Collection<T>> supplier;
+	protected final ItemLabelGenerator<T> labelGenerator;
+	protected final ReentrantLock loadLock = new ReentrantLock();
+	
+	// Not serialized - reloaded when required
+	protected transient AtomicReference<Snapshot<T>> snapshot = new AtomicReference<>();
+	
+	/**
+	 * @param labelGenerator used to pre-generate the labels of all items; may be <code>null</code>
+	 */
+	public SharedItems(
+		final SharedItemsKey<T> key,
+		final SerializableSupplier<? extends Collection<T>> supplier,
+		final ItemLabelGenerator<T> labelGenerator)
+	{
+		this.key = Objects.requireNonNull(key);
+		this.supplier = Objects.requireNonNull(supplier);
+		this.labelGenerator = labelGenerator;
+	}
+	
+	protected Snapshot<T> getSnapshot()
+	{
+		final Snapshot<T> current = this.snapshot.get();
+		if(current != null)
+		{
+			return current;
+		}
+		
+		this.loadLock.lock();
+		try
+		{
+			// Another thread might have loaded the items in the meantime
+			Snapshot<T> loaded = this.snapshot.get();
+			if(loaded == null)
+			{
+				loaded = this.load(0);
+				this.snapshot.set(loaded);
+			}
+			return loaded;
+		}
+		finally
+		{
+			this.loadLock.unlock();
+		}
+	}
+	
+	protected Snapshot<T> load(final long version)
+	{
+		final List<T> items = List.copyOf(this.supplier.get());
+		// Fail while loading instead of when the items are rendered
+		items.forEach(this.key.itemType()::cast);
+		Map<T, String> labels = Collections.emptyMap();
+		if(this.labelGenerator != null)
+		{
+			final Map<T, String> generatedLabels = new HashMap<>();
+			items.forEach(item -> generatedLabels.put(item, this.labelGenerator.apply(item)));
+			labels = generatedLabels;
+		}
+		return new Snapshot<>(items, labels, version);
+	}
+	
+	/**
+	 * Reloads the items using the supplier.
+	 */
+	public void refresh()
+	{
+		this.loadLock.lock();
+		try
+		{
+			final Snapshot<T> current = this.snapshot.get();
+			this.snapshot.set(this.load(current != null ? current.version() + 1 : 0));
+		}
+		finally
+		{
+			this.loadLock.unlock();
+		}
+	}
+	
+	/**
+	 * @return the current (immutable) items
+	 */
+	public List<T> getItems()
+	{
+		return this.getSnapshot().items();
+	}
+	
+	/**
+	 * @return the pre-generated label of the item; generates it if the item is unknown
+	 */
+	public String getLabel(final T item)
+	{
+		final Map<T, String> labels = this.getSnapshot().labels();
+		final String label = labels.get(item);
+		if(label != null)
+		{
+			return label;
+		}
+		return this.labelGenerator != null ? this.labelGenerator.apply(item) : String.valueOf(item);
+	}
+	
+	/**
+	 * @return a number that changes on each {@link #refresh()}
+	 */
+	public long getVersion()
+	{
+		return this.getSnapshot().version();
+	}
+	
+	/**
+	 * @return a read-only view of the items that always reflects the current snapshot
+	 */
+	public Collection<T> asCollection()
+	{
+		return new LiveView<>(this);
+	}
+	
+	public SharedItemsKey<T> getKey()
+	{
+		return this.key;
+	}
+	
+	/**
+	 * @return the generator of the pre-generated labels or <code>null</code>
+	 */
+	public ItemLabelGenerator<T> getLabelGenerator()
+	{
+		return this.labelGenerator;
+	}
+	
+	@Serial
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+		this.snapshot = new AtomicReference<>();
+	}
+	
+	@Serial
+	protected Object readResolve() throws ObjectStreamException
+	{
+		// Reuse the registered instance (and its already loaded items) if possible
+		final SharedItems<T> registered = SharedItemsRegistry.getDefault().get(this.key);
+		return registered != null ? registered : this;
+	}
+	
+	protected record Snapshot<T>(List<T> items, Map<T, String> labels, long version)
+	{
+	}
+	
+	protected static class LiveView<T> extends AbstractCollection<T> implements Serializable
+	{
+		protected final SharedItems<T> sharedItems;
+		
+		protected LiveView(final SharedItems<T> sharedItems)
+		{
+			this.sharedItems = sharedItems;
+		}
+		
+		@Override
+		public Iterator<T> iterator()
+		{
+			return this.sharedItems.getItems().iterator();
+		}
+		
+		@Override
+		public int size()
+		{
+			return this.sharedItems.getItems().size();
+		}
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.data;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Identifies {@link SharedItems} in the {@link SharedItemsRegistry}.
+ * <p/>
+ * The key also contains the type of the items, so that a name can't be registered for items of different types.
+ *
+ * @param <T> item type
+ */
+public record SharedItemsKey<T>(String name, Class<T> itemType) implements Serializable
+{
+	public SharedItemsKey
+	{
+		Objects.requireNonNull(name);
+		Objects.requireNonNull(itemType);
+	}
+	
+	public static <T> SharedItemsKey<T> of(final String name, final Class<T> itemType)
+	{
+		return new SharedItemsKey<>(name, itemType);
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.data;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.vaadin.flow.component.ItemLabelGenerator;
+import com.vaadin.flow.function.SerializableSupplier;
+
+
+/**
+ * Holds {@link SharedItems} by the name of their key, so that e.g. all labels that display the same reference data
+ * share a single item list.
+ */
+public class SharedItemsRegistry
+{
+	private static final SharedItemsRegistry DEFAULT = new SharedItemsRegistry();
+	
+	protected final Map<String, SharedItems<?>> sharedItems = new ConcurrentHashMap<>();
+	
+	public static SharedItemsRegistry getDefault()
+	{
+		return DEFAULT;
+	}
+	
+	/**
+	 * Returns the items that are registered with the key or registers them.
+	 * <p/>
+	 * Supplier and label generator are only used when the key is registered for the first time.
+	 *
+	 * @param labelGenerator used to pre-generate the labels of all items; may be <code>null</code>
+	 * @throws IllegalArgumentException if the name of the key is already registered for another item type
+	 */
+	public <T> SharedItems<T> getOrRegister(
+		final SharedItemsKey<T> key,
+		final SerializableSupplier<? extends Collection<T>> supplier,
+		final ItemLabelGenerator<T> labelGenerator)
+	{
+		return checkKey(
+			key,
+			this.sharedItems.computeIfAbsent(key.name(), name -> new SharedItems<>(key, supplier, labelGenerator)));
+	}
+	
+	/**
+	 * @return the registered items or <code>null</code>
+	 * @throws IllegalArgumentException if the name of the key is registered for another item type
+	 */
+	public <T> SharedItems<T> get(final SharedItemsKey<T> key)
+	{
+		final SharedItems<?> items = this.sharedItems.get(key.name());
+		return items != null ? checkKey(key, items) : null;
+	}
+	
+	protected static <T> SharedItems<T> checkKey(final SharedItemsKey<T> key, final SharedItems<?> items)
+	{
+		if(!key.equals(items.getKey()))
+		{
+			throw new IllegalArgumentException("\"" + key.name() + "\" is already registered for items of type "
+				+ items.getKey().itemType().getName());
+		}
+		// Same key -> same item type
+		@SuppressWarnings("unchecked")
+		final SharedItems<T> typedItems = (SharedItems<T>)items;
+		return typedItems;
+	}
+	
+	/**
+	 * Reloads the items with the name (if registered).
+	 *
+	 * @see SharedItems#refresh()
+	 */
+	public void refresh(final String name)
+	{
+		final SharedItems<?> items = this.sharedItems.get(name);
+		if(items != null)
+		{
+			items.refresh();
+		}
+	}
+	
+	public void refreshAll()
+	{
+		this.sharedItems.values().forEach(SharedItems::refresh);
+	}
+	
+	/**
+	 * Removes the items from the registry. Components that already use them are not affected.
+	 */
+	public void remove(final String name)
+	{
+		this.sharedItems.remove(name);
+	}
+}
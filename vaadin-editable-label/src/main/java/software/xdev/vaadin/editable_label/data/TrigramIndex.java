@@ -0,0 +1,496 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.data;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+import com.vaadin.flow.component.ItemLabelGenerator;
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.shared.Registration;
+
+
+/**
+ * An in-memory index that filters items by their label (case-insensitive "contains" - like a ComboBox) without
+ * scanning all items.
+ * <p/>
+ * The labels are generated once and indexed by their trigrams (3 character long substrings; the start and end of a
+ * label are padded, so that also shorter labels and filters are covered). A filter query
+ * <ul>
+ *     <li>with at least 3 characters intersects the items of all trigrams of the filter and then verifies the few
+ *     remaining candidates</li>
+ *     <li>with 1 or 2 characters unites the items of all trigrams containing the filter</li>
+ * </ul>
+ * Recent query results are cached until the items change.
+ * <p/>
+ * Items can be added, removed and refreshed incrementally, which only (re)indexes the affected items.
+ * Items are returned in the order they were added.
+ * <p/>
+ * The index is thread-safe and can be shared (e.g. by all sessions that display the same catalog). Components display
+ * it using their own {@link IndexedDataProvider}, which is notified about changes using
+ * {@link #addChangeListener(SerializableConsumer)}.
+ * <p/>
+ * Change listeners are not serialized: A deserialized index is a copy that is no longer shared.
+ *
+ * @param <T> item type
+ */
+public class TrigramIndex<T> implements Serializable
+{
+	protected static final int GRAM_LENGTH = 3;
+	protected static final char LABEL_START = '\u0002';
+	protected static final char LABEL_END = '\u0003';
+	protected static final int MAX_CACHED_RESULTS = 256;
+	
+	protected final ItemLabelGenerator<T> labelGenerator;
+	protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	
+	// Guarded by lock; the id of an item is its index
+	protected final List<T> itemsById = new ArrayList<>();
+	protected final List<String> labelsById = new ArrayList<>();
+	protected final Map<T, Integer> idsByItem = new HashMap<>();
+	protected final Map<String, PostingList> postings = new HashMap<>();
+	protected int removedCount;
+	
+	// Filter -> matching ids; cleared when the items change
+	protected final Map<String, int[]> resultCache = new ConcurrentHashMap<>();
+	
+	// Receive the changed item or null if all items might have changed
+	protected transient List<SerializableConsumer<T>> changeListeners = new CopyOnWriteArrayList<>();
+	
+	public TrigramIndex(final Collection<T> items, final ItemLabelGenerator<T> labelGenerator)
+	{
+		this.labelGenerator = Objects.requireNonNull(labelGenerator);
+		this.addItemsLocked(items);
+	}
+	
+	// region Querying
+	
+	/**
+	 * @return the matching items (in the order they were added) starting at the offset
+	 */
+	public List<T> fetch(final String filter, final int offset, final int limit)
+	{
+		this.lock.readLock().lock();
+		try
+		{
+			return Arrays.stream(this.search(filter))
+				.skip(offset)
+				.limit(limit)
+				.mapToObj(this.itemsById::get)
+				.toList();
+		}
+		finally
+		{
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * @return the number of matching items
+	 */
+	public int count(final String filter)
+	{
+		this.lock.readLock().lock();
+		try
+		{
+			return this.search(filter).length;
+		}
+		finally
+		{
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Requires the read lock.
+	 *
+	 * @return the ids of all matching items in ascending order
+	 */
+	protected int[] search(final String filter)
+	{
+		final String normalizedFilter = this.normalize(filter);
+		
+		final int[] cached = this.resultCache.get(normalizedFilter);
+		if(cached != null)
+		{
+			return cached;
+		}
+		
+		final int[] result;
+		if(normalizedFilter.isEmpty())
+		{
+			result = IntStream.range(0, this.itemsById.size())
+				.filter(id -> this.itemsById.get(id) != null)
+				.toArray();
+		}
+		else if(normalizedFilter.length() < GRAM_LENGTH)
+		{
+			result = this.searchShort(normalizedFilter);
+		}
+		else
+		{
+			result = this.searchGrams(normalizedFilter);
+		}
+		
+		if(this.resultCache.size() >= MAX_CACHED_RESULTS)
+		{
+			this.resultCache.clear();
+		}
+		this.resultCache.put(normalizedFilter, result);
+		return result;
+	}
+	
+	protected int[] searchShort(final String filter)
+	{
+		// Every occurrence of the filter is part of at least one (padded) gram
+		final BitSet ids = new BitSet(this.itemsById.size());
+		this.postings.forEach((gram, posting) -> {
+			if(gram.contains(filter))
+			{
+				posting.addTo(ids);
+			}
+		});
+		return ids.stream().toArray();
+	}
+	
+	protected int[] searchGrams(final String filter)
+	{
+		final List<PostingList> postingLists = new ArrayList<>();
+		for(final String gram : this.grams(filter))
+		{
+			final PostingList posting = this.postings.get(gram);
+			if(posting == null)
+			{
+				return new int[0];
+			}
+			postingLists.add(posting);
+		}
+		postingLists.sort(Comparator.comparingInt(PostingList::size));
+		
+		// Start with the smallest list and narrow it down
+		int[] candidates = postingLists.get(0).toArray();
+		for(int i = 1; i < postingLists.size() && candidates.length > 0; i++)
+		{
+			final PostingList posting = postingLists.get(i);
+			candidates = Arrays.stream(candidates).filter(posting::contains).toArray();
+		}
+		
+		// All grams are present, but not necessarily in the correct order
+		return Arrays.stream(candidates)
+			.filter(id -> this.labelsById.get(id).contains(filter))
+			.toArray();
+	}
+	
+	// endregion
+	// region Modification
+	
+	/**
+	 * Replaces all items.
+	 */
+	public void setItems(final Collection<T> items)
+	{
+		this.modify(() -> {
+			this.clearLocked();
+			this.addItemsLocked(items);
+		});
+	}
+	
+	/**
+	 * Adds the items (if not already present) and indexes them.
+	 */
+	public void addItems(final Collection<T> items)
+	{
+		this.modify(() -> this.addItemsLocked(items));
+	}
+	
+	/**
+	 * Removes the items and their index entries.
+	 */
+	public void removeItems(final Collection<T> items)
+	{
+		this.modify(() -> {
+			items.forEach(this::removeItemLocked);
+			// Ids are not reused -> compact when too many were removed
+			if(this.removedCount > this.idsByItem.size())
+			{
+				final List<T> remaining = this.getItemsLocked();
+				this.clearLocked();
+				this.addItemsLocked(remaining);
+			}
+		});
+	}
+	
+	/**
+	 * Regenerates the label of the item and updates its index entries.
+	 */
+	public void refreshItem(final T item)
+	{
+		this.lock.writeLock().lock();
+		try
+		{
+			final Integer id = this.idsByItem.get(item);
+			if(id != null)
+			{
+				this.unindex(id, this.labelsById.get(id));
+				final String label = this.generateLabel(item);
+				this.itemsById.set(id, item);
+				this.labelsById.set(id, label);
+				this.index(id, label);
+				this.resultCache.clear();
+			}
+		}
+		finally
+		{
+			this.lock.writeLock().unlock();
+		}
+		this.fireChange(item);
+	}
+	
+	protected void modify(final Runnable modification)
+	{
+		this.lock.writeLock().lock();
+		try
+		{
+			modification.run();
+			this.resultCache.clear();
+		}
+		finally
+		{
+			this.lock.writeLock().unlock();
+		}
+		this.fireChange(null);
+	}
+	
+	protected void addItemsLocked(final Collection<T> items)
+	{
+		for(final T item : items)
+		{
+			if(this.idsByItem.containsKey(item))
+			{
+				continue;
+			}
+			final int id = this.itemsById.size();
+			final String label = this.generateLabel(item);
+			this.itemsById.add(item);
+			this.labelsById.add(label);
+			this.idsByItem.put(item, id);
+			this.index(id, label);
+		}
+	}
+	
+	protected void removeItemLocked(final T item)
+	{
+		final Integer id = this.idsByItem.remove(item);
+		if(id == null)
+		{
+			return;
+		}
+		this.unindex(id, this.labelsById.get(id));
+		this.itemsById.set(id, null);
+		this.labelsById.set(id, null);
+		this.removedCount++;
+	}
+	
+	protected void clearLocked()
+	{
+		this.itemsById.clear();
+		this.labelsById.clear();
+		this.idsByItem.clear();
+		this.postings.clear();
+		this.removedCount = 0;
+	}
+	
+	// endregion
+	// region Change listeners
+	
+	/**
+	 * Adds a listener that is notified (outside the lock and on the modifying thread) after the items changed.
+	 * <p/>
+	 * It receives the refreshed item or <code>null</code> if all items might have changed.
+	 */
+	public Registration addChangeListener(final SerializableConsumer<T> listener)
+	{
+		Objects.requireNonNull(listener);
+		this.changeListeners.add(listener);
+		return () -> this.changeListeners.remove(listener);
+	}
+	
+	protected void fireChange(final T item)
+	{
+		this.changeListeners.forEach(listener -> listener.accept(item));
+	}
+	
+	// endregion
+	// region Index
+	
+	protected String generateLabel(final T item)
+	{
+		return this.normalize(this.labelGenerator.apply(item));
+	}
+	
+	protected String normalize(final String text)
+	{
+		return text == null ? "" : text.toLowerCase(Locale.ROOT);
+	}
+	
+	protected void index(final int id, final String label)
+	{
+		for(final String gram : this.grams(LABEL_START + label + LABEL_END))
+		{
+			this.postings.computeIfAbsent(gram, g -> new PostingList()).add(id);
+		}
+	}
+	
+	protected void unindex(final int id, final String label)
+	{
+		for(final String gram : this.grams(LABEL_START + label + LABEL_END))
+		{
+			final PostingList posting = this.postings.get(gram);
+			if(posting != null && posting.remove(id) && posting.size() == 0)
+			{
+				this.postings.remove(gram);
+			}
+		}
+	}
+	
+	protected Set<String> grams(final String text)
+	{
+		final Set<String> grams = new LinkedHashSet<>();
+		for(int i = 0; i + GRAM_LENGTH <= text.length(); i++)
+		{
+			grams.add(text.substring(i, i + GRAM_LENGTH));
+		}
+		return grams;
+	}
+	
+	// endregion
+	
+	/**
+	 * @return all items in the order they were added
+	 */
+	public List<T> getItems()
+	{
+		this.lock.readLock().lock();
+		try
+		{
+			return this.getItemsLocked();
+		}
+		finally
+		{
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	protected List<T> getItemsLocked()
+	{
+		return this.itemsById.stream().filter(Objects::nonNull).toList();
+	}
+	
+	public ItemLabelGenerator<T> getLabelGenerator()
+	{
+		return this.labelGenerator;
+	}
+	
+	@Serial
+	private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+		this.changeListeners = new CopyOnWriteArrayList<>();
+	}
+	
+	/**
+	 * A sorted set of item ids.
+	 */
+	protected static class PostingList implements Serializable
+	{
+		protected int[] ids = new int[4];
+		protected int size;
+		
+		protected void add(final int id)
+		{
+			// Ids are usually added in ascending order
+			final int index = this.size > 0 && this.ids[this.size - 1] < id
+				? this.size
+				: Arrays.binarySearch(this.ids, 0, this.size, id);
+			if(index >= 0 && index < this.size)
+			{
+				return; // Already present
+			}
+			
+			final int insertAt = index >= 0 ? index : -index - 1;
+			if(this.size == this.ids.length)
+			{
+				this.ids = Arrays.copyOf(this.ids, this.size * 2);
+			}
+			System.arraycopy(this.ids, insertAt, this.ids, insertAt + 1, this.size - insertAt);
+			this.ids[insertAt] = id;
+			this.size++;
+		}
+		
+		protected boolean remove(final int id)
+		{
+			final int index = Arrays.binarySearch(this.ids, 0, this.size, id);
+			if(index < 0)
+			{
+				return false;
+			}
+			System.arraycopy(this.ids, index + 1, this.ids, index, this.size - index - 1);
+			this.size--;
+			return true;
+		}
+		
+		protected boolean contains(final int id)
+		{
+			return Arrays.binarySearch(this.ids, 0, this.size, id) >= 0;
+		}
+		
+		protected int size()
+		{
+			return this.size;
+		}
+		
+		protected int[] toArray()
+		{
+			return Arrays.copyOf(this.ids, this.size);
+		}
+		
+		protected void addTo(final BitSet target)
+		{
+			for(int i = 0; i < this.size; i++)
+			{
+				target.set(this.ids[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.format;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+
+/**
+ * Shares formatters across all labels (and sessions).
+ * <p/>
+ * Formatters are keyed by their type, pattern and locale.
+ * Lookups of already known formatters don't acquire any lock.
+ * The registry is bounded: when it's full an arbitrary formatter is removed before a new one is added (it's simply
+ * recreated when it's required again).
+ * <p/>
+ * Formatters that are not thread-safe (like {@link NumberFormat}) are handed out as {@link PooledNumberFormat}.
+ */
+public class FormatterRegistry
+{
+	public static final int DEFAULT_MAXIMUM_SIZE = 256;
+	
+	private static final FormatterRegistry DEFAULT = new FormatterRegistry(DEFAULT_MAXIMUM_SIZE);
+	
+	protected final int maximumSize;
+	protected final ConcurrentHashMap<FormatterKey, Object> formatters = new ConcurrentHashMap<>();
+	
+	public FormatterRegistry(final int maximumSize)
+	{
+		if(maximumSize < 1)
+		{
+			throw new IllegalArgumentException("maximumSize must be at least 1");
+		}
+		this.maximumSize = maximumSize;
+	}
+	
+	/**
+	 * @return the registry that is used by the predefined labels
+	 */
+	public static FormatterRegistry getDefault()
+	{
+		return DEFAULT;
+	}
+	
+	/**
+	 * @see DateTimeFormatter#ofPattern(String, Locale)
+	 */
+	public DateTimeFormatter dateTimeFormatter(final String pattern, final Locale locale)
+	{
+		return this.get(
+			new FormatterKey(DateTimeFormatter.class, pattern, locale),
+			() -> DateTimeFormatter.ofPattern(pattern, locale));
+	}
+	
+	/**
+	 * @see DecimalFormat#DecimalFormat(String, DecimalFormatSymbols)
+	 */
+	public PooledNumberFormat numberFormat(final String pattern, final Locale locale)
+	{
+		return this.get(
+			new FormatterKey(NumberFormat.class, pattern, locale),
+			() -> new PooledNumberFormat(new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(locale))));
+	}
+	
+	/**
+	 * Returns a thread-safe variant of the given format.
+	 * <p/>
+	 * Formats are compared by their configuration ({@link NumberFormat#equals(Object)}), so equally configured
+	 * formats share the same {@link PooledNumberFormat}.
+	 * The given format is copied and can therefore be modified afterward without any effect.
+	 */
+	public PooledNumberFormat numberFormat(final NumberFormat prototype)
+	{
+		final NumberFormat copy = (NumberFormat)prototype.clone();
+		return this.get(
+			new FormatterKey(NumberFormat.class, copy, null),
+			() -> new PooledNumberFormat(copy));
+	}
+	
+	@SuppressWarnings("unchecked")
+	protected <T> T get(final FormatterKey key, final Supplier<T> factory)
+	{
+		// Fast path: plain get doesn't lock
+		final Object existing = this.formatters.get(key);
+		if(existing != null)
+		{
+			return (T)existing;
+		}
+		
+		// Make room first, so that the new formatter is never evicted right away
+		this.evictIfRequired();
+		return (T)this.formatters.computeIfAbsent(key, k -> factory.get());
+	}
+	
+	/**
+	 * Removes formatters until there is room for a new one.
+	 */
+	protected void evictIfRequired()
+	{
+		final Iterator<FormatterKey> it = this.formatters.keySet().iterator();
+		while(this.formatters.size() >= this.maximumSize && it.hasNext())
+		{
+			it.next();
+			it.remove();
+		}
+	}
+	
+	public int size()
+	{
+		return this.formatters.size();
+	}
+	
+	public void clear()
+	{
+		this.formatters.clear();
+	}
+	
+	/**
+	 * @param type    type of the formatter
+	 * @param pattern the pattern or a prototype that describes the formatter
+	 * @param locale  the locale; may be <code>null</code> if it's defined by the pattern
+	 */
+	protected record FormatterKey(Class<?> type, Object pattern, Locale locale)
+	{
+		protected FormatterKey
+		{
+			Objects.requireNonNull(type);
+			Objects.requireNonNull(pattern);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.format;
+
+import java.io.ObjectStreamException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.text.NumberFormat;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * A thread-safe wrapper around a {@link NumberFormat}, which itself is not thread-safe.
+ * <p/>
+ * Each format operation borrows a copy of the prototype from a lock-free pool.
+ * In contrast to a {@link ThreadLocal} this also works well with virtual threads.
+ *
+ * @see FormatterRegistry#numberFormat(NumberFormat)
+ */
+public class PooledNumberFormat implements Serializable
+{
+	public static final int DEFAULT_MAXIMUM_POOL_SIZE = 16;
+	
+	// Never used for formatting: Each operation uses its own copy
+	@SuppressWarnings("PMD.AvoidDecimalAndChoiceFormatAsField")
+	protected final NumberFormat prototype;
+	protected final int maximumPoolSize;
+	
+	protected final transient Queue<NumberFormat> pool = new ConcurrentLinkedQueue<>();
+	protected final transient AtomicInteger poolSize = new AtomicInteger();
+	
+	public PooledNumberFormat(final NumberFormat prototype)
+	{
+		this(prototype, DEFAULT_MAXIMUM_POOL_SIZE);
+	}
+	
+	public PooledNumberFormat(final NumberFormat prototype, final int maximumPoolSize)
+	{
+		// Copy so that the prototype can't be modified from outside
+		this.prototype = (NumberFormat)Objects.requireNonNull(prototype).clone();
+		this.maximumPoolSize = maximumPoolSize;
+	}
+	
+	public String format(final Object number)
+	{
+		final NumberFormat format = this.borrow();
+		try
+		{
+			return format.format(number);
+		}
+		finally
+		{
+			this.release(format);
+		}
+	}
+	
+	protected NumberFormat borrow()
+	{
+		final NumberFormat pooled = this.pool.poll();
+		if(pooled != null)
+		{
+			this.poolSize.decrementAndGet();
+			return pooled;
+		}
+		return (NumberFormat)this.prototype.clone();
+	}
+	
+	protected void release(final NumberFormat format)
+	{
+		if(this.poolSize.incrementAndGet() <= this.maximumPoolSize)
+		{
+			this.pool.offer(format);
+		}
+		else
+		{
+			this.poolSize.decrementAndGet();
+		}
+	}
+	
+	/**
+	 * @return a copy of the underlying format
+	 */
+	public NumberFormat getPrototype()
+	{
+		return (NumberFormat)this.prototype.clone();
+	}
+	
+	public int getMaximumPoolSize()
+	{
+		return this.maximumPoolSize;
+	}
+	
+	@Serial
+	protected Object readResolve() throws ObjectStreamException
+	{
+		// Pool is transient -> reuse the shared instance or create a new one
+		// The registry only holds formats with the default pool size
+		return this.maximumPoolSize == DEFAULT_MAXIMUM_POOL_SIZE
+			? FormatterRegistry.getDefault().numberFormat(this.prototype)
+			: new PooledNumberFormat(this.prototype, this.maximumPoolSize);
+	}
+}
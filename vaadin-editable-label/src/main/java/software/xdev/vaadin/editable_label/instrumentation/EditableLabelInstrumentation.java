@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.instrumentation;
+
+import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+
+
+/**
+ * Receives notifications about the lifecycle and hot paths of {@link AbstractEditableLabel}s, e.g. for collecting
+ * metrics.
+ * <p/>
+ * Implementations are registered globally using {@link EditableLabelInstrumentations#register}. They are called
+ * from the thread that holds the session lock of the label and must therefore be thread-safe and fast.
+ * <p/>
+ * All methods do nothing by default.
+ *
+ * @see software.xdev.vaadin.editable_label.metrics.EditableLabelMetrics
+ */
+public interface EditableLabelInstrumentation
+{
+	/**
+	 * Called when the label was attached to a UI.
+	 */
+	default void onAttached(final AbstractEditableLabel<?, ?, ?> label)
+	{
+	}
+	
+	/**
+	 * Called when the label was detached from its UI.
+	 */
+	default void onDetached(final AbstractEditableLabel<?, ?, ?> label)
+	{
+	}
+	
+	/**
+	 * Called after the edit mode of the label was entered or left.
+	 */
+	default void onEditModeChanged(final AbstractEditableLabel<?, ?, ?> label, final boolean editMode)
+	{
+	}
+	
+	/**
+	 * Called when the user left the edit mode without saving.
+	 */
+	default void onCancel(final AbstractEditableLabel<?, ?, ?> label)
+	{
+	}
+	
+	/**
+	 * Called after a value was committed from the editor (e.g. by clicking the save button).
+	 *
+	 * @param valueChanged             <code>false</code> if the committed value equals the old value
+	 * @param saveListenerDurationNanos how long it took to notify the value change listeners
+	 */
+	default void onValueCommitted(
+		final AbstractEditableLabel<?, ?, ?> label,
+		final boolean valueChanged,
+		final long saveListenerDurationNanos)
+	{
+	}
+	
+	/**
+	 * Called after the label text was rendered.
+	 *
+	 * @param generatorDurationNanos how long the label generator took
+	 * @param labelText              the generated text, may be <code>null</code>
+	 */
+	default void onLabelRendered(
+		final AbstractEditableLabel<?, ?, ?> label,
+		final long generatorDurationNanos,
+		final String labelText)
+	{
+	}
+}
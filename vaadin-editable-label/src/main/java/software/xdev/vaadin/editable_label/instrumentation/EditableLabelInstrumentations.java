@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.instrumentation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.vaadin.flow.shared.Registration;
+
+import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+
+
+/**
+ * Holds the globally registered {@link EditableLabelInstrumentation}s.
+ * <p/>
+ * When nothing is registered, the labels skip measuring anything, so the instrumentation costs only an atomic read.
+ */
+public final class EditableLabelInstrumentations
+{
+	private static final EditableLabelInstrumentation NOOP = new EditableLabelInstrumentation()
+	{
+	};
+	
+	private static final List<EditableLabelInstrumentation> REGISTERED = new CopyOnWriteArrayList<>();
+	private static final AtomicReference<EditableLabelInstrumentation> CURRENT = new AtomicReference<>(NOOP);
+	
+	private EditableLabelInstrumentations()
+	{
+	}
+	
+	/**
+	 * Registers the instrumentation for all labels (of all sessions).
+	 *
+	 * @return a registration that unregisters the instrumentation again
+	 */
+	public static Registration register(final EditableLabelInstrumentation instrumentation)
+	{
+		REGISTERED.add(instrumentation);
+		updateCurrent();
+		return () -> {
+			REGISTERED.remove(instrumentation);
+			updateCurrent();
+		};
+	}
+	
+	/**
+	 * @return <code>true</code> if at least one instrumentation is registered
+	 */
+	public static boolean isEnabled()
+	{
+		return CURRENT.get() != NOOP;
+	}
+	
+	/**
+	 * @return the instrumentation that notifies all registered instrumentations
+	 */
+	public static EditableLabelInstrumentation current()
+	{
+		return CURRENT.get();
+	}
+	
+	private static synchronized void updateCurrent()
+	{
+		final EditableLabelInstrumentation[] instrumentations =
+			REGISTERED.toArray(EditableLabelInstrumentation[]::new);
+		CURRENT.set(switch(instrumentations.length)
+		{
+			case 0 -> NOOP;
+			case 1 -> instrumentations[0];
+			default -> new CompositeInstrumentation(instrumentations);
+		});
+	}
+	
+	record CompositeInstrumentation(EditableLabelInstrumentation[] instrumentations)
+		implements EditableLabelInstrumentation
+	{
+		@Override
+		public void onAttached(final AbstractEditableLabel<?, ?, ?> label)
+		{
+			for(final EditableLabelInstrumentation instrumentation : this.instrumentations)
+			{
+				instrumentation.onAttached(label);
+			}
+		}
+		
+		@Override
+		public void onDetached(final AbstractEditableLabel<?, ?, ?> label)
+		{
+			for(final EditableLabelInstrumentation instrumentation : this.instrumentations)
+			{
+				instrumentation.onDetached(label);
+			}
+		}
+		
+		@Override
+		public void onEditModeChanged(final AbstractEditableLabel<?, ?, ?> label, final boolean editMode)
+		{
+			for(final EditableLabelInstrumentation instrumentation : this.instrumentations)
+			{
+				instrumentation.onEditModeChanged(label, editMode);
+			}
+		}
+		
+		@Override
+		public void onCancel(final AbstractEditableLabel<?, ?, ?> label)
+		{
+			for(final EditableLabelInstrumentation instrumentation : this.instrumentations)
+			{
+				instrumentation.onCancel(label);
+			}
+		}
+		
+		@Override
+		public void onValueCommitted(
+			final AbstractEditableLabel<?, ?, ?> label,
+			final boolean valueChanged,
+			final long saveListenerDurationNanos)
+		{
+			for(final EditableLabelInstrumentation instrumentation : this.instrumentations)
+			{
+				instrumentation.onValueCommitted(label, valueChanged, saveListenerDurationNanos);
+			}
+		}
+		
+		@Override
+		public void onLabelRendered(
+			final AbstractEditableLabel<?, ?, ?> label,
+			final long generatorDurationNanos,
+			final String labelText)
+		{
+			for(final EditableLabelInstrumentation instrumentation : this.instrumentations)
+			{
+				instrumentation.onLabelRendered(label, generatorDurationNanos, labelText);
+			}
+		}
+	}
+}
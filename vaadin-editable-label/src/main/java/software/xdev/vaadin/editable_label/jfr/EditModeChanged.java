@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+
+
+/**
+ * Emitted when a label entered or left the edit mode.
+ */
+@Name(EditModeChanged.NAME)
+@Label("Edit Mode Changed")
+@Description("A label entered or left the edit mode")
+public class EditModeChanged extends EditableLabelEvent
+{
+	public static final String NAME = "software.xdev.vaadin.editable_label.EditModeChanged";
+	
+	@Label("Edit Mode")
+	protected boolean editMode;
+	
+	@Label("From Client")
+	protected boolean fromClient;
+	
+	public void commitFor(
+		final AbstractEditableLabel<?, ?, ?> label,
+		final boolean editMode,
+		final boolean fromClient)
+	{
+		if(this.shouldCommit())
+		{
+			this.fillLabel(label);
+			this.editMode = editMode;
+			this.fromClient = fromClient;
+			this.commit();
+		}
+	}
+}
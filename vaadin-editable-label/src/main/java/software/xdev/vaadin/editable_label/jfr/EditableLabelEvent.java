@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+
+
+/**
+ * Base of all JFR events that are emitted by {@link AbstractEditableLabel}s.
+ * <p/>
+ * Events follow the usual JFR pattern: When no recording is active (or the event is disabled) {@link #shouldCommit()}
+ * returns <code>false</code> and the event is never filled, so that it can be eliminated by the JIT.
+ * Timed events are additionally only begun and ended when {@link #isEnabled()}.
+ */
+@Category({"Vaadin", "Editable Label"})
+public abstract class EditableLabelEvent extends Event
+{
+	@Label("Label Type")
+	protected Class<?> labelType;
+	
+	@Label("Label Id")
+	protected String labelId;
+	
+	protected void fillLabel(final AbstractEditableLabel<?, ?, ?> label)
+	{
+		this.labelType = label.getClass();
+		this.labelId = label.getId().orElse(null);
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+
+
+/**
+ * Emitted when a lazy initialized editor was created.
+ * <p/>
+ * The duration covers supplying, initializing and attaching the editor.
+ */
+@Name(EditorCreated.NAME)
+@Label("Editor Created")
+@Description("The lazy initialized editor of a label was created")
+public class EditorCreated extends EditableLabelEvent
+{
+	public static final String NAME = "software.xdev.vaadin.editable_label.EditorCreated";
+	
+	@Label("Editor Type")
+	protected Class<?> editorType;
+	
+	public void commitFor(final AbstractEditableLabel<?, ?, ?> label, final Object editor)
+	{
+		if(this.shouldCommit())
+		{
+			this.fillLabel(label);
+			this.editorType = editor.getClass();
+			this.commit();
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+
+
+/**
+ * Emitted when the text of a label was rendered.
+ * <p/>
+ * The duration covers the execution of the label generator.
+ */
+@Name(LabelRendered.NAME)
+@Label("Label Rendered")
+@Description("The label generator of a label was executed")
+@StackTrace(false)
+public class LabelRendered extends EditableLabelEvent
+{
+	public static final String NAME = "software.xdev.vaadin.editable_label.LabelRendered";
+	
+	@Label("Generator Type")
+	protected Class<?> generatorType;
+	
+	@Label("Text Length")
+	protected int textLength;
+	
+	public void commitFor(
+		final AbstractEditableLabel<?, ?, ?> label,
+		final Object generator,
+		final String labelText)
+	{
+		if(this.shouldCommit())
+		{
+			this.fillLabel(label);
+			this.generatorType = generator.getClass();
+			this.textLength = labelText != null ? labelText.length() : 0;
+			this.commit();
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+
+
+/**
+ * Emitted when a value was committed from the editor.
+ * <p/>
+ * The duration covers the execution of the value change listeners.
+ */
+@Name(ValueCommitted.NAME)
+@Label("Value Committed")
+@Description("A value was committed from the editor of a label")
+public class ValueCommitted extends EditableLabelEvent
+{
+	public static final String NAME = "software.xdev.vaadin.editable_label.ValueCommitted";
+	
+	@Label("Value Changed")
+	@Description("False if the committed value equals the old value")
+	protected boolean valueChanged;
+	
+	public void commitFor(final AbstractEditableLabel<?, ?, ?> label, final boolean valueChanged)
+	{
+		if(this.shouldCommit())
+		{
+			this.fillLabel(label);
+			this.valueChanged = valueChanged;
+			this.commit();
+		}
+	}
+}
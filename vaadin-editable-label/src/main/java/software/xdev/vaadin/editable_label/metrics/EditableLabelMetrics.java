@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.shared.Registration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+import software.xdev.vaadin.editable_label.instrumentation.EditableLabelInstrumentation;
+import software.xdev.vaadin.editable_label.instrumentation.EditableLabelInstrumentations;
+
+
+/**
+ * Records metrics of all {@link AbstractEditableLabel}s using Micrometer.
+ * <p/>
+ * Requires <code>io.micrometer:micrometer-core</code> which is an optional dependency of this library.
+ * <p/>
+ * Meters (tagged with the <code>type</code> of the label, e.g. <code>EditableLabelTextField</code>):
+ * <ul>
+ *     <li><code>editable.label.edit</code> - how often the edit mode was entered</li>
+ *     <li><code>editable.label.save</code> - how often a value was committed</li>
+ *     <li><code>editable.label.save.noop</code> - how often the committed value equaled the old value</li>
+ *     <li><code>editable.label.cancel</code> - how often the edit mode was left without saving</li>
+ *     <li><code>editable.label.render</code> - execution time of the label generator</li>
+ *     <li><code>editable.label.save.listeners</code> - execution time of the value change listeners when
+ *     saving</li>
+ * </ul>
+ * Gauges:
+ * <ul>
+ *     <li><code>editable.label.live</code> - labels that are currently attached to an UI</li>
+ *     <li><code>editable.label.edit.mode</code> - labels that are currently in edit mode</li>
+ *     <li><code>editable.label.edit.mode.ui.max</code> - the maximum amount of labels in edit mode on a single UI.
+ *     The amount of a specific UI is available using {@link #getEditModeCount(UI)}.</li>
+ * </ul>
+ * Labels that are already attached when binding are only counted after they are attached again.
+ * <p/>
+ * Example:
+ * <pre>
+ * new EditableLabelMetrics().bindTo(meterRegistry);
+ * </pre>
+ */
+public class EditableLabelMetrics implements MeterBinder, EditableLabelInstrumentation, AutoCloseable
+{
+	public static final String METER_PREFIX = "editable.label";
+	public static final String TAG_TYPE = "type";
+	
+	protected final Iterable<Tag> tags;
+	protected final Map<Class<?>, TypeMeters> typeMeters = new ConcurrentHashMap<>();
+	/*
+	 * Only contain labels that are attached
+	 */
+	protected final Map<AbstractEditableLabel<?, ?, ?>, Boolean> liveLabels = new ConcurrentHashMap<>();
+	protected final Map<AbstractEditableLabel<?, ?, ?>, UI> labelsInEditMode = new ConcurrentHashMap<>();
+	
+	protected final AtomicReference<MeterRegistry> registry = new AtomicReference<>();
+	protected Registration instrumentationRegistration;
+	
+	public EditableLabelMetrics()
+	{
+		this(Tags.empty());
+	}
+	
+	/**
+	 * @param tags additional tags that are added to all meters
+	 */
+	public EditableLabelMetrics(final Iterable<Tag> tags)
+	{
+		this.tags = Objects.requireNonNull(tags);
+	}
+	
+	/**
+	 * Registers the gauges and starts recording the labels.
+	 * <p/>
+	 * An instance can only be bound to a single registry.
+	 * Use a {@link io.micrometer.core.instrument.composite.CompositeMeterRegistry} for multiple registries.
+	 */
+	@Override
+	public synchronized void bindTo(final MeterRegistry registry)
+	{
+		if(!this.registry.compareAndSet(null, Objects.requireNonNull(registry)))
+		{
+			throw new IllegalStateException("Already bound to a registry");
+		}
+		
+		Gauge.builder(METER_PREFIX + ".live", this.liveLabels, Map::size)
+			.description("Labels that are currently attached to an UI")
+			.tags(this.tags)
+			.register(registry);
+		Gauge.builder(METER_PREFIX + ".edit.mode", this.labelsInEditMode, Map::size)
+			.description("Labels that are currently in edit mode")
+			.tags(this.tags)
+			.register(registry);
+		Gauge.builder(METER_PREFIX + ".edit.mode.ui.max", this, EditableLabelMetrics::getMaxEditModeCountPerUI)
+			.description("Maximum amount of labels in edit mode on a single UI")
+			.tags(this.tags)
+			.register(registry);
+		
+		this.instrumentationRegistration = EditableLabelInstrumentations.register(this);
+	}
+	
+	/**
+	 * Stops recording. The meters stay registered in the registry.
+	 */
+	@Override
+	public synchronized void close()
+	{
+		if(this.instrumentationRegistration != null)
+		{
+			this.instrumentationRegistration.remove();
+			this.instrumentationRegistration = null;
+		}
+		this.liveLabels.clear();
+		this.labelsInEditMode.clear();
+	}
+	
+	/**
+	 * @return the amount of labels of the given UI that are currently in edit mode
+	 */
+	public int getEditModeCount(final UI ui)
+	{
+		return (int)this.labelsInEditMode.values().stream()
+			.filter(ui::equals)
+			.count();
+	}
+	
+	protected double getMaxEditModeCountPerUI()
+	{
+		final Map<UI, Integer> counts = new HashMap<>();
+		this.labelsInEditMode.values().forEach(ui -> counts.merge(ui, 1, Integer::sum));
+		return counts.values().stream()
+			.mapToInt(Integer::intValue)
+			.max()
+			.orElse(0);
+	}
+	
+	// region Instrumentation
+	
+	@Override
+	public void onAttached(final AbstractEditableLabel<?, ?, ?> label)
+	{
+		this.liveLabels.put(label, Boolean.TRUE);
+		if(label.isEditMode())
+		{
+			label.getUI().ifPresent(ui -> this.labelsInEditMode.put(label, ui));
+		}
+	}
+	
+	@Override
+	public void onDetached(final AbstractEditableLabel<?, ?, ?> label)
+	{
+		this.liveLabels.remove(label);
+		this.labelsInEditMode.remove(label);
+	}
+	
+	@Override
+	public void onEditModeChanged(final AbstractEditableLabel<?, ?, ?> label, final boolean editMode)
+	{
+		if(editMode)
+		{
+			this.meters(label).edit().increment();
+			label.getUI().ifPresent(ui -> this.labelsInEditMode.put(label, ui));
+		}
+		else
+		{
+			this.labelsInEditMode.remove(label);
+		}
+	}
+	
+	@Override
+	public void onCancel(final AbstractEditableLabel<?, ?, ?> label)
+	{
+		this.meters(label).cancel().increment();
+	}
+	
+	@Override
+	public void onValueCommitted(
+		final AbstractEditableLabel<?, ?, ?> label,
+		final boolean valueChanged,
+		final long saveListenerDurationNanos)
+	{
+		final TypeMeters meters = this.meters(label);
+		meters.save().increment();
+		if(!valueChanged)
+		{
+			meters.noopSave().increment();
+		}
+		meters.saveListeners().record(saveListenerDurationNanos, TimeUnit.NANOSECONDS);
+	}
+	
+	@Override
+	public void onLabelRendered(
+		final AbstractEditableLabel<?, ?, ?> label,
+		final long generatorDurationNanos,
+		final String labelText)
+	{
+		this.meters(label).render().record(generatorDurationNanos, TimeUnit.NANOSECONDS);
+	}
+	
+	// endregion
+	
+	protected TypeMeters meters(final AbstractEditableLabel<?, ?, ?> label)
+	{
+		return this.typeMeters.computeIfAbsent(label.getClass(), this::createMeters);
+	}
+	
+	protected TypeMeters createMeters(final Class<?> labelClass)
+	{
+		final Tags typeTags = Tags.concat(this.tags, TAG_TYPE, typeName(labelClass));
+		final MeterRegistry meterRegistry = this.registry.get();
+		return new TypeMeters(
+			Counter.builder(METER_PREFIX + ".edit")
+				.description("How often the edit mode was entered")
+				.tags(typeTags)
+				.register(meterRegistry),
+			Counter.builder(METER_PREFIX + ".save")
+				.description("How often a value was committed")
+				.tags(typeTags)
+				.register(meterRegistry),
+			Counter.builder(METER_PREFIX + ".save.noop")
+				.description("How often the committed value equaled the old value")
+				.tags(typeTags)
+				.register(meterRegistry),
+			Counter.builder(METER_PREFIX + ".cancel")
+				.description("How often the edit mode was left without saving")
+				.tags(typeTags)
+				.register(meterRegistry),
+			Timer.builder(METER_PREFIX + ".render")
+				.description("Execution time of the label generator")
+				.tags(typeTags)
+				.register(meterRegistry),
+			Timer.builder(METER_PREFIX + ".save.listeners")
+				.description("Execution time of the value change listeners when saving")
+				.tags(typeTags)
+				.register(meterRegistry));
+	}
+	
+	/**
+	 * Anonymous classes have no simple name, so the name of the first named super class is used.
+	 */
+	protected static String typeName(final Class<?> labelClass)
+	{
+		Class<?> clazz = labelClass;
+		while(clazz.isAnonymousClass())
+		{
+			clazz = clazz.getSuperclass();
+		}
+		return clazz.getSimpleName();
+	}
+	
+	protected record TypeMeters(
+		Counter edit,
+		Counter save,
+		Counter noopSave,
+		Counter cancel,
+		Timer render,
+		Timer saveListeners)
+	{
+	}
+}
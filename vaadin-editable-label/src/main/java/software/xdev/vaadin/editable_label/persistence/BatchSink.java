@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.persistence;
+
+import java.util.Map;
+
+
+/**
+ * Writes a batch of values, e.g. in a single database transaction.
+ *
+ * @param <K> type of the keys that identify what is written
+ * @param <V> type of the values
+ * @see WriteBehindCoordinator
+ */
+@FunctionalInterface
+public interface BatchSink<K, V>
+{
+	/**
+	 * @param batch the values to write in the order they were submitted; contains only the last value per key
+	 */
+	void write(Map<K, V> batch);
+}
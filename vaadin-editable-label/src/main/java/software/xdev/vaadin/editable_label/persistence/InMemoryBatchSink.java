@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.persistence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * A {@link BatchSink} that keeps all written batches in memory.
+ * <p/>
+ * Useful for tests and prototypes.
+ */
+public class InMemoryBatchSink<K, V> implements BatchSink<K, V>
+{
+	protected final List<Map<K, V>> batches = new CopyOnWriteArrayList<>();
+	
+	@Override
+	public void write(final Map<K, V> batch)
+	{
+		this.batches.add(Collections.unmodifiableMap(new LinkedHashMap<>(batch)));
+	}
+	
+	/**
+	 * @return all batches in the order they were written
+	 */
+	public List<Map<K, V>> getBatches()
+	{
+		return new ArrayList<>(this.batches);
+	}
+	
+	/**
+	 * @return the last written value of each key
+	 */
+	public Map<K, V> getValues()
+	{
+		final Map<K, V> values = new LinkedHashMap<>();
+		this.batches.forEach(values::putAll);
+		return values;
+	}
+	
+	public void clear()
+	{
+		this.batches.clear();
+	}
+}
@@ -0,0 +1,467 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.persistence;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.shared.Registration;
+
+import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+
+
+/**
+ * Collects the values that were committed by labels and writes them in batches to a {@link BatchSink}.
+ * <p/>
+ * Values are identified by a key. When a key is submitted multiple times before it was written, only the last value
+ * is written. A batch is written when
+ * <ul>
+ *     <li>it reached the maximum batch size or</li>
+ *     <li>the maximum delay since the first value of the batch was submitted elapsed or</li>
+ *     <li>{@link #flush()} is called</li>
+ * </ul>
+ * Batches are written one after another on a background thread, so neither the request thread nor the session lock
+ * is blocked by the sink.
+ * <p/>
+ * A coordinator is thread-safe and is usually shared across sessions (e.g. as an application scoped bean).
+ * <p/>
+ * Registered labels (and therefore their sessions) stay serializable: Only the identity and the
+ * {@link #withName(String) name} of the coordinator are serialized. When deserialized the live coordinator of this JVM
+ * is used, or - if it's gone (e.g. after a failover to another node) - the coordinator that was registered with the
+ * same name on this node.
+ * If there is none, values committed by the registered labels are dropped (and logged) and direct calls are rejected
+ * with an {@link IllegalStateException}.
+ * The keys must be serializable for this.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class WriteBehindCoordinator<K, V> implements AutoCloseable, Serializable
+{
+	protected static final String NOT_LIVE_MESSAGE =
+		"The coordinator was deserialized but neither the original coordinator nor a coordinator with the same name "
+			+ "is available. Register the labels with a new coordinator.";
+	
+	protected static final Map<UUID, WeakReference<WriteBehindCoordinator<?, ?>>> LIVE_INSTANCES =
+		new ConcurrentHashMap<>();
+	protected static final Map<String, WeakReference<WriteBehindCoordinator<?, ?>>> NAMED_INSTANCES =
+		new ConcurrentHashMap<>();
+	
+	protected final UUID id = UUID.randomUUID();
+	protected String name;
+	protected final transient BatchSink<K, V> sink;
+	protected final int maxBatchSize;
+	protected final Duration maxDelay;
+	protected final transient ScheduledExecutorService executor;
+	protected final boolean ownsExecutor;
+	
+	protected transient BiConsumer<Map<K, V>, Throwable> failedBatchHandler =
+		(batch, throwable) -> reportUncaught(throwable);
+	
+	protected final transient ReentrantLock lock = new ReentrantLock();
+	protected transient LinkedHashMap<K, V> pending = new LinkedHashMap<>();
+	protected transient ScheduledFuture<?> scheduledFlush;
+	protected transient CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+	protected boolean closed;
+	
+	public WriteBehindCoordinator(final BatchSink<K, V> sink, final int maxBatchSize, final Duration maxDelay)
+	{
+		this(sink, maxBatchSize, maxDelay, Executors.newSingleThreadScheduledExecutor(r -> {
+			final Thread thread = new Thread(r, "editable-label-write-behind");
+			thread.setDaemon(true);
+			return thread;
+		}), true);
+	}
+	
+	/**
+	 * @param executor executes the sink; must be single threaded, otherwise batches may be written out of order
+	 */
+	public WriteBehindCoordinator(
+		final BatchSink<K, V> sink,
+		final int maxBatchSize,
+		final Duration maxDelay,
+		final ScheduledExecutorService executor)
+	{
+		this(sink, maxBatchSize, maxDelay, executor, false);
+	}
+	
+	protected WriteBehindCoordinator(
+		final BatchSink<K, V> sink,
+		final int maxBatchSize,
+		final Duration maxDelay,
+		final ScheduledExecutorService executor,
+		final boolean ownsExecutor)
+	{
+		if(maxBatchSize < 1)
+		{
+			throw new IllegalArgumentException("maxBatchSize must be at least 1");
+		}
+		this.sink = Objects.requireNonNull(sink);
+		this.maxBatchSize = maxBatchSize;
+		this.maxDelay = Objects.requireNonNull(maxDelay);
+		this.executor = Objects.requireNonNull(executor);
+		this.ownsExecutor = ownsExecutor;
+		
+		LIVE_INSTANCES.values().removeIf(ref -> ref.get() == null);
+		LIVE_INSTANCES.put(this.id, new WeakReference<>(this));
+	}
+	
+	/**
+	 * Handles errors of the sink. By default, they are passed to the thread's uncaught exception handler.
+	 * <p/>
+	 * The values of a failed batch are not retried.
+	 *
+	 * @see #withFailedBatchHandler(BiConsumer)
+	 */
+	public WriteBehindCoordinator<K, V> withErrorHandler(final Consumer<Throwable> errorHandler)
+	{
+		Objects.requireNonNull(errorHandler);
+		return this.withFailedBatchHandler((batch, throwable) -> errorHandler.accept(throwable));
+	}
+	
+	/**
+	 * Handles batches that the sink failed to write, e.g. to retry them later or to notify the users.
+	 * <p/>
+	 * The handler is executed on the thread that writes the batches. Further batches are written afterward.
+	 */
+	public WriteBehindCoordinator<K, V> withFailedBatchHandler(
+		final BiConsumer<Map<K, V>, Throwable> failedBatchHandler)
+	{
+		this.failedBatchHandler = Objects.requireNonNull(failedBatchHandler);
+		return this;
+	}
+	
+	/**
+	 * Registers this coordinator under the given name on this node.
+	 * <p/>
+	 * Labels of sessions that are deserialized on another node (e.g. after a failover) use the coordinator with the
+	 * same name on that node.
+	 *
+	 * @throws IllegalStateException when another live coordinator uses the name
+	 */
+	public WriteBehindCoordinator<K, V> withName(final String name)
+	{
+		Objects.requireNonNull(name);
+		NAMED_INSTANCES.compute(name, (n, existingRef) -> {
+			final WriteBehindCoordinator<?, ?> existing = existingRef != null ? existingRef.get() : null;
+			if(existing != null && existing != this && !existing.closed)
+			{
+				throw new IllegalStateException("Another coordinator is already named " + name);
+			}
+			return new WeakReference<>(this);
+		});
+		this.name = name;
+		return this;
+	}
+	
+	/**
+	 * Submits all values that are committed by the user (see
+	 * {@link com.vaadin.flow.component.HasValue.ValueChangeEvent#isFromClient()}) to
+	 * this coordinator.
+	 * <p/>
+	 * Values that are set programmatically (e.g. when loading the value) are ignored.
+	 *
+	 * @param key identifies the value of the label
+	 * @return a registration that stops the submission
+	 */
+	public Registration register(final AbstractEditableLabel<?, ?, ? extends V> label, final K key)
+	{
+		return label.addValueChangeListener(ev -> {
+			if(!ev.isFromClient())
+			{
+				return;
+			}
+			
+			final WriteBehindCoordinator<K, V> live = this.resolveLive();
+			if(live == null)
+			{
+				// Don't break the label (e.g. after a failover) - the value was already committed
+				getLogger().warn(
+					"Dropped the value of key '{}' as there is no live coordinator (name={})",
+					key,
+					this.name);
+				return;
+			}
+			live.submit(key, ev.getValue());
+		});
+	}
+	
+	/**
+	 * Submits a value; replaces a pending value of the same key.
+	 */
+	public void submit(final K key, final V value)
+	{
+		if(!this.isLive())
+		{
+			Objects.requireNonNull(this.resolveLive(), NOT_LIVE_MESSAGE).submit(key, value);
+			return;
+		}
+		this.lock.lock();
+		try
+		{
+			if(this.closed)
+			{
+				throw new IllegalStateException("Coordinator is closed");
+			}
+			
+			// Remove first so that the key is moved to the end
+			this.pending.remove(key);
+			this.pending.put(key, value);
+			
+			if(this.pending.size() >= this.maxBatchSize)
+			{
+				this.flushLocked();
+			}
+			else if(this.scheduledFlush == null)
+			{
+				this.scheduledFlush = this.executor.schedule(
+					this::flushScheduled,
+					this.maxDelay.toNanos(),
+					TimeUnit.NANOSECONDS);
+			}
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Writes all pending values.
+	 *
+	 * @return a future that completes once all values submitted up to now were written
+	 */
+	public CompletableFuture<Void> flush()
+	{
+		this.checkLive();
+		this.lock.lock();
+		try
+		{
+			return this.flushLocked();
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Writes all pending values and waits until they were written.
+	 *
+	 * @throws ExecutionException if the sink failed
+	 */
+	public void flushAndAwait(final Duration timeout)
+		throws InterruptedException, ExecutionException, TimeoutException
+	{
+		this.flush().get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+	}
+	
+	protected void flushScheduled()
+	{
+		this.lock.lock();
+		try
+		{
+			this.scheduledFlush = null;
+			this.flushLocked();
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+	}
+	
+	protected CompletableFuture<Void> flushLocked()
+	{
+		if(this.scheduledFlush != null)
+		{
+			this.scheduledFlush.cancel(false);
+			this.scheduledFlush = null;
+		}
+		if(this.pending.isEmpty())
+		{
+			// Only wait for a write that is still running; the result of an older one is irrelevant
+			return this.lastWrite.isDone()
+				? CompletableFuture.completedFuture(null)
+				: this.lastWrite;
+		}
+		
+		final Map<K, V> batch = Collections.unmodifiableMap(this.pending);
+		this.pending = new LinkedHashMap<>();
+		
+		// The executor is single threaded -> this completes after all previous batches
+		this.lastWrite = CompletableFuture.runAsync(() -> this.write(batch), this.executor);
+		return this.lastWrite;
+	}
+	
+	protected void write(final Map<K, V> batch)
+	{
+		try
+		{
+			this.sink.write(batch);
+		}
+		catch(final RuntimeException ex)
+		{
+			this.failedBatchHandler.accept(batch, ex);
+			throw ex;
+		}
+	}
+	
+	/**
+	 * @return the amount of values that were not yet passed to the sink
+	 */
+	public int getPendingCount()
+	{
+		this.checkLive();
+		this.lock.lock();
+		try
+		{
+			return this.pending.size();
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Writes all pending values and rejects further submissions.
+	 */
+	@Override
+	public void close()
+	{
+		this.checkLive();
+		LIVE_INSTANCES.remove(this.id);
+		if(this.name != null)
+		{
+			NAMED_INSTANCES.computeIfPresent(this.name, (n, ref) -> ref.get() == this ? null : ref);
+		}
+		
+		this.lock.lock();
+		try
+		{
+			this.flushLocked();
+			this.closed = true;
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+		
+		if(this.ownsExecutor)
+		{
+			// Already submitted writes are still executed
+			this.executor.shutdown();
+		}
+	}
+	
+	// region Serialization
+	
+	/**
+	 * @return <code>false</code> if this is a deserialized copy without a live coordinator
+	 */
+	public boolean isLive()
+	{
+		return this.sink != null;
+	}
+	
+	protected void checkLive()
+	{
+		if(!this.isLive())
+		{
+			throw new IllegalStateException(NOT_LIVE_MESSAGE);
+		}
+	}
+	
+	/**
+	 * @return this if it's live, otherwise the live coordinator with the same name on this node or
+	 * <code>null</code>
+	 */
+	@SuppressWarnings("unchecked")
+	protected WriteBehindCoordinator<K, V> resolveLive()
+	{
+		if(this.isLive())
+		{
+			return this;
+		}
+		return (WriteBehindCoordinator<K, V>)lookup(NAMED_INSTANCES, this.name);
+	}
+	
+	/**
+	 * Resolves to the live coordinator (if still present in this JVM) or to the coordinator with the same name.
+	 */
+	@Serial
+	protected Object readResolve()
+	{
+		final WriteBehindCoordinator<?, ?> live = lookup(LIVE_INSTANCES, this.id);
+		if(live != null)
+		{
+			return live;
+		}
+		final WriteBehindCoordinator<?, ?> named = lookup(NAMED_INSTANCES, this.name);
+		if(named != null)
+		{
+			return named;
+		}
+		getLogger().warn("Deserialized a coordinator without a live coordinator (name={})", this.name);
+		return this;
+	}
+	
+	protected static <T> WriteBehindCoordinator<?, ?> lookup(
+		final Map<T, WeakReference<WriteBehindCoordinator<?, ?>>> instances,
+		final T key)
+	{
+		if(key == null)
+		{
+			return null;
+		}
+		final WeakReference<WriteBehindCoordinator<?, ?>> ref = instances.get(key);
+		return ref != null ? ref.get() : null;
+	}
+	
+	// endregion
+	
+	protected static Logger getLogger()
+	{
+		return LoggerFactory.getLogger(WriteBehindCoordinator.class);
+	}
+	
+	protected static void reportUncaught(final Throwable throwable)
+	{
+		final Thread thread = Thread.currentThread();
+		thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+	}
+}
@@ -17,11 +17,15 @@ package software.xdev.vaadin.editable_label.predefined;
 
 import java.math.BigDecimal;
 import java.text.NumberFormat;
+import java.util.Locale;
 import java.util.function.Consumer;
 
 import com.vaadin.flow.component.textfield.BigDecimalField;
+import com.vaadin.flow.function.SerializableSupplier;
 
 import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+import software.xdev.vaadin.editable_label.format.FormatterRegistry;
+import software.xdev.vaadin.editable_label.format.PooledNumberFormat;
 
 
 /**
@@ -55,14 +59,47 @@ public class EditableLabelBigDecimalField
 		super(editor, additionalInitActions);
 	}
 	
+	/**
+	 * Creates a label with a lazy initialized editor.
+	 * <p/>
+	 * The editor is only created when it's required for the first time (e.g. when entering the edit mode).
+	 */
+	public EditableLabelBigDecimalField(
+		final SerializableSupplier<BigDecimalField> editorSupplier,
+		final Consumer<EditableLabelBigDecimalField> additionalInitActions)
+	{
+		super(editorSupplier, null, additionalInitActions);
+	}
+	
 	@Override
-	protected void initUI()
+	protected void initEditor()
 	{
-		super.initUI();
+		super.initEditor();
 		this.getEditor().setAutoselect(true);
 	}
 	
+	/**
+	 * Formats the label using the given format.
+	 * <p/>
+	 * As {@link NumberFormat} is not thread-safe the format is copied and shared with all labels using an equally
+	 * configured format.
+	 *
+	 * @see FormatterRegistry#numberFormat(NumberFormat)
+	 */
 	public EditableLabelBigDecimalField withNumberFormat(final NumberFormat format)
+	{
+		return this.withNumberFormat(FormatterRegistry.getDefault().numberFormat(format));
+	}
+	
+	/**
+	 * @see FormatterRegistry#numberFormat(String, Locale)
+	 */
+	public EditableLabelBigDecimalField withNumberFormat(final String pattern, final Locale locale)
+	{
+		return this.withNumberFormat(FormatterRegistry.getDefault().numberFormat(pattern, locale));
+	}
+	
+	public EditableLabelBigDecimalField withNumberFormat(final PooledNumberFormat format)
 	{
 		return this.withLabelGenerator(format::format);
 	}
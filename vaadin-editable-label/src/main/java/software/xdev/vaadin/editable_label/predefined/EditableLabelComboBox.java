@@ -16,6 +16,10 @@
 package software.xdev.vaadin.editable_label.predefined;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 
 import com.vaadin.flow.component.ItemLabelGenerator;
@@ -30,9 +34,21 @@ import com.vaadin.flow.data.provider.HasLazyDataView;
 import com.vaadin.flow.data.provider.HasListDataView;
 import com.vaadin.flow.data.provider.InMemoryDataProvider;
 import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.function.SerializableSupplier;
+import com.vaadin.flow.shared.Registration;
 
 import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+import software.xdev.vaadin.editable_label.cache.CacheSpec;
+import software.xdev.vaadin.editable_label.data.CachingDataProvider;
+import software.xdev.vaadin.editable_label.data.IndexedDataProvider;
+import software.xdev.vaadin.editable_label.data.PrefetchingDataProvider;
+import software.xdev.vaadin.editable_label.data.QueryCache;
+import software.xdev.vaadin.editable_label.data.SharedItems;
+import software.xdev.vaadin.editable_label.data.SharedItemsKey;
+import software.xdev.vaadin.editable_label.data.SharedItemsRegistry;
+import software.xdev.vaadin.editable_label.data.TrigramIndex;
 
 
 /**
@@ -41,6 +57,8 @@ import software.xdev.vaadin.editable_label.AbstractEditableLabel;
  * @author AB
  * @author JR
  */
+// Combines the configuration of the ComboBox with the item sources (lazy, cached, indexed, shared, deferred)
+@SuppressWarnings("PMD.GodClass")
 public class EditableLabelComboBox<T>
 	extends AbstractEditableLabel<EditableLabelComboBox<T>, ComboBox<T>, T>
 	implements
@@ -48,6 +66,59 @@ public class EditableLabelComboBox<T>
 	HasListDataView<T, ComboBoxListDataView<T>>,
 	HasLazyDataView<T, String, ComboBoxLazyDataView<T>>
 {
+	/**
+	 * Default page size of the {@link ComboBox}
+	 */
+	protected static final int DEFAULT_PREFETCH_SIZE = 50;
+	/**
+	 * Runs each prefetch of the {@link #deferredItems} in its own virtual thread.
+	 */
+	protected static final Executor PREFETCH_EXECUTOR =
+		Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("editable-label-prefetch-", 0).factory());
+	protected static final String PREFETCH_EVENT = "editable-label-prefetch";
+	/**
+	 * Dispatches the prefetch event once when the label is hovered or focused for the first time, so that the
+	 * browser only contacts the server once and only a single listener is registered on the server.
+	 * <p/>
+	 * Parameters: $0=prefetch event
+	 */
+	protected static final String PREFETCH_TRIGGER_JS = """
+		const element = this;
+		if(element.__editableLabelPrefetchTrigger) {
+			return;
+		}
+		element.__editableLabelPrefetchTrigger = true;
+		const trigger = () => {
+			element.removeEventListener('mouseenter', trigger);
+			element.removeEventListener('focusin', trigger);
+			element.dispatchEvent(new CustomEvent($0));
+		};
+		element.addEventListener('mouseenter', trigger);
+		element.addEventListener('focusin', trigger);
+		""";
+	/**
+	 * Key of the items in the editor configuration, see {@link #configureEditor(String, SerializableConsumer)}
+	 */
+	protected static final String ITEMS_CONFIGURATION = "items";
+	
+	/*
+	 * Deferred items
+	 * Not initialized here as initEditor might be called before the field initializers.
+	 */
+	protected BackEndDataProvider<T, String> deferredItems;
+	protected boolean deferredItemsApplied;
+	protected List<Registration> prefetchRegistrations;
+	/**
+	 * Is <code>null</code> when using the {@link #PREFETCH_EXECUTOR}, e.g. after deserialization.
+	 */
+	protected transient Executor prefetchExecutor;
+	
+	/*
+	 * Shared items
+	 */
+	protected SharedItems<T> sharedItems;
+	protected long sharedItemsVersion;
+	
 	public EditableLabelComboBox()
 	{
 		this(new ComboBox<>());
@@ -70,19 +141,59 @@ public class EditableLabelComboBox<T>
 		super(editor, additionalInitActions);
 	}
 	
+	/**
+	 * Creates a label with a lazy initialized editor.
+	 * <p/>
+	 * The editor is only created when it's required for the first time (e.g. when entering the edit mode).
+	 */
+	public EditableLabelComboBox(
+		final SerializableSupplier<ComboBox<T>> editorSupplier,
+		final Consumer<EditableLabelComboBox<T>> additionalInitActions)
+	{
+		super(editorSupplier, null, additionalInitActions);
+	}
+	
 	@Override
 	protected void initUI()
 	{
 		super.initUI();
 		// Open ComboBox when in edit mode
-		this.addEditModeChangedListener(ev -> this.getEditor().setOpened(ev.isEditModeEnabled()));
+		this.addEditModeChangedListener(ev -> {
+			if(ev.isEditModeEnabled())
+			{
+				this.applyDeferredItems();
+				this.refreshSharedItemsIfRequired();
+			}
+			
+			// Don't create a lazy editor only to close it
+			if(this.isEditorCreated())
+			{
+				this.getEditor().setOpened(ev.isEditModeEnabled());
+			}
+		});
+	}
+	
+	@Override
+	protected void initEditor()
+	{
+		super.initEditor();
+		// A (re)created editor has no deferred items yet
+		this.deferredItemsApplied = false;
+		// The editor might be (re)created after the label generator was set
+		if(this.nativeLabelGenerator != null)
+		{
+			this.getEditor().setItemLabelGenerator(this.nativeLabelGenerator);
+		}
 	}
 	
 	@Override
 	public EditableLabelComboBox<T> withNativeLabelGenerator(final ItemLabelGenerator<T> labelGenerator)
 	{
 		super.withNativeLabelGenerator(labelGenerator);
-		this.getEditor().setItemLabelGenerator(labelGenerator);
+		if(this.isEditorCreated())
+		{
+			this.getEditor().setItemLabelGenerator(labelGenerator);
+		}
 		return this.self();
 	}
 	
@@ -96,28 +207,325 @@ public class EditableLabelComboBox<T>
 		return this.withItems(DataProvider.ofCollection(items));
 	}
 	
+	/**
+	 * Sets the items.
+	 * <p/>
+	 * If the editor is lazy initialized the items are only passed to it once it's created.
+	 */
 	public EditableLabelComboBox<T> withItems(final ListDataProvider<T> items)
 	{
-		this.setItems(items);
+		this.resetItemSources();
+		this.configureEditor(ITEMS_CONFIGURATION, e -> e.setItems(items));
+		return this.self();
+	}
+	
+	/**
+	 * Sets the items.
+	 * <p/>
+	 * If the editor is lazy initialized the items are only passed to it once it's created.
+	 *
+	 * @see #withDeferredItems(BackEndDataProvider)
+	 */
+	public EditableLabelComboBox<T> withItems(final BackEndDataProvider<T, String> dataProvider)
+	{
+		this.resetItemSources();
+		this.configureEditor(ITEMS_CONFIGURATION, e -> e.setItems(dataProvider));
 		return this.self();
 	}
 	
+	/**
+	 * Sets the items and caches the results of the data provider.
+	 * <p/>
+	 * The cache is only used by this label. To share it with other labels (or sessions) create a {@link QueryCache}
+	 * once and use {@link #withCachedItems(QueryCache)}.
+	 *
+	 * @see CachingDataProvider
+	 */
+	public EditableLabelComboBox<T> withCachedItems(
+		final BackEndDataProvider<T, String> dataProvider,
+		final CacheSpec cacheSpec)
+	{
+		return this.withItems(new CachingDataProvider<>(dataProvider, cacheSpec));
+	}
+	
+	/**
+	 * Sets the items, which are read from the given (e.g. shared) cache.
+	 * <p/>
+	 * The label uses its own {@link CachingDataProvider}, so that refreshing it only affects this label.
+	 *
+	 * @see QueryCache
+	 */
+	public EditableLabelComboBox<T> withCachedItems(final QueryCache<T> cache)
+	{
+		return this.withItems(new CachingDataProvider<>(cache));
+	}
+	
+	/**
+	 * Sets the items and indexes them by their label, so that filtering doesn't require scanning all items.
+	 * <p/>
+	 * Recommended for large item lists. The label generator is also used for displaying the label.
+	 * <p/>
+	 * The index is only used by this label. To share it with other labels (or sessions) create a
+	 * {@link TrigramIndex} once and use {@link #withIndexedItems(TrigramIndex)}.
+	 *
+	 * @see IndexedDataProvider
+	 */
+	public EditableLabelComboBox<T> withIndexedItems(
+		final Collection<T> items,
+		final ItemLabelGenerator<T> labelGenerator)
+	{
+		this.withLabelGenerator(labelGenerator);
+		return this.withItems(new IndexedDataProvider<>(items, labelGenerator));
+	}
+	
+	/**
+	 * Sets the items of the given (e.g. shared) index, which is filtered by the labels of the index.
+	 * <p/>
+	 * The label uses its own {@link IndexedDataProvider} and is refreshed when the index changes. The label generator
+	 * of the index is also used for displaying the label.
+	 *
+	 * @see TrigramIndex
+	 */
+	public EditableLabelComboBox<T> withIndexedItems(final TrigramIndex<T> index)
+	{
+		this.withLabelGenerator(index.getLabelGenerator());
+		return this.withItems(new IndexedDataProvider<>(index));
+	}
+	
+	// region Shared items
+	
+	/**
+	 * Uses the items that are registered with the key in the {@link SharedItemsRegistry} (or registers them).
+	 * <p/>
+	 * In contrast to {@link #withItems(Object[])} the items are not copied for each label: All labels (across all
+	 * sessions) using the same key share a single immutable item list.
+	 *
+	 * @throws IllegalArgumentException if the name of the key is already registered for another item type
+	 * @see #withSharedItems(SharedItemsKey, SerializableSupplier, ItemLabelGenerator)
+	 */
+	public EditableLabelComboBox<T> withSharedItems(
+		final SharedItemsKey<T> key,
+		final SerializableSupplier<? extends Collection<T>> supplier)
+	{
+		return this.withSharedItems(SharedItemsRegistry.getDefault().getOrRegister(key, supplier, null));
+	}
+	
+	/**
+	 * Same as {@link #withSharedItems(SharedItemsKey, SerializableSupplier)} but the label generator is also used for
+	 * displaying the label.
+	 * <p/>
+	 * The labels of the items are generated once (when the items are loaded) by the label generator that registered
+	 * the key. They are only used if this label uses the same (or an equal) generator - e.g. a shared constant.
+	 * Otherwise the given generator is applied to the items of this label.
+	 *
+	 * @throws IllegalArgumentException if the name of the key is already registered for another item type
+	 */
+	public EditableLabelComboBox<T> withSharedItems(
+		final SharedItemsKey<T> key,
+		final SerializableSupplier<? extends Collection<T>> supplier,
+		final ItemLabelGenerator<T> labelGenerator)
+	{
+		Objects.requireNonNull(labelGenerator);
+		final SharedItems<T> items = SharedItemsRegistry.getDefault().getOrRegister(key, supplier, labelGenerator);
+		this.withLabelGenerator(
+			labelGenerator.equals(items.getLabelGenerator()) ? items::getLabel : labelGenerator);
+		return this.withSharedItems(items);
+	}
+	
+	/**
+	 * Uses the given shared items.
+	 * <p/>
+	 * After the items were {@link SharedItems#refresh() refreshed} the label shows the new items when the edit mode
+	 * is entered the next time.
+	 */
+	public EditableLabelComboBox<T> withSharedItems(final SharedItems<T> items)
+	{
+		Objects.requireNonNull(items);
+		this.resetItemSources();
+		this.sharedItems = items;
+		this.sharedItemsVersion = items.getVersion();
+		// Only the (tiny) data provider is created per label; it reads the items of the current snapshot
+		this.configureEditor(ITEMS_CONFIGURATION, e -> e.setItems(new ListDataProvider<>(items.asCollection())));
+		return this.self();
+	}
+	
+	protected void refreshSharedItemsIfRequired()
+	{
+		if(this.sharedItems != null && this.sharedItemsVersion != this.sharedItems.getVersion())
+		{
+			this.sharedItemsVersion = this.sharedItems.getVersion();
+			this.getEditor().getGenericDataView().refreshAll();
+		}
+	}
+	
+	// endregion
+	
+	// region Deferred items
+	
+	/**
+	 * Sets the items, but only passes them to the editor when the edit mode is entered.
+	 * <p/>
+	 * Displaying the label only requires the value and the label generator. This way labels that are never edited
+	 * don't cause any queries.
+	 *
+	 * @see #withDeferredItems(BackEndDataProvider, boolean)
+	 */
+	public EditableLabelComboBox<T> withDeferredItems(final BackEndDataProvider<T, String> dataProvider)
+	{
+		return this.withDeferredItems(dataProvider, false);
+	}
+	
+	/**
+	 * Same as {@link #withDeferredItems(BackEndDataProvider)}.
+	 * <p/>
+	 * If {@code prefetchOnHoverOrFocus} is set the first page is fetched in the background as soon as the label is
+	 * hovered or focused for the first time. The dropdown is therefore already populated when it's opened.<br/>
+	 * The prefetched page is kept until the data provider is refreshed or replaced.
+	 * <p/>
+	 * The prefetch runs on a virtual thread without the session lock, so the data provider can't rely on
+	 * {@link com.vaadin.flow.server.VaadinSession#getCurrent()} or thread-bound contexts (e.g. a security context).
+	 * Use {@link #withPrefetchExecutor(Executor)} to propagate such contexts.
+	 *
+	 * @see PrefetchingDataProvider
+	 */
+	public EditableLabelComboBox<T> withDeferredItems(
+		final BackEndDataProvider<T, String> dataProvider,
+		final boolean prefetchOnHoverOrFocus)
+	{
+		Objects.requireNonNull(dataProvider);
+		this.resetItemSources();
+		
+		if(prefetchOnHoverOrFocus)
+		{
+			final PrefetchingDataProvider<T> prefetching =
+				new PrefetchingDataProvider<>(dataProvider, DEFAULT_PREFETCH_SIZE);
+			this.deferredItems = prefetching;
+			this.prefetchRegistrations = List.of(
+				this.getElement().addEventListener(PREFETCH_EVENT, ev -> this.prefetchDeferredItems()),
+				this.addAttachListener(ev -> this.installPrefetchTrigger()));
+			if(this.isAttached())
+			{
+				this.installPrefetchTrigger();
+			}
+		}
+		else
+		{
+			this.deferredItems = dataProvider;
+		}
+		
+		if(this.isEditMode())
+		{
+			this.applyDeferredItems();
+		}
+		return this.self();
+	}
+	
+	/**
+	 * Sets the executor that runs the prefetch of the deferred items.
+	 * <p/>
+	 * A custom executor can e.g. propagate a security context to the prefetching thread. It's not serialized; after
+	 * deserialization the default executor is used.
+	 *
+	 * @see #withDeferredItems(BackEndDataProvider, boolean)
+	 */
+	public EditableLabelComboBox<T> withPrefetchExecutor(final Executor executor)
+	{
+		this.prefetchExecutor = Objects.requireNonNull(executor);
+		return this.self();
+	}
+	
+	protected void installPrefetchTrigger()
+	{
+		this.getElement().executeJs(PREFETCH_TRIGGER_JS, PREFETCH_EVENT);
+	}
+	
+	protected void prefetchDeferredItems()
+	{
+		// The browser only triggers once, however the label might have been reattached in the meantime
+		this.removePrefetchTriggers();
+		if(!this.isEditMode() && this.deferredItems instanceof final PrefetchingDataProvider<T> prefetching)
+		{
+			prefetching.prefetch(Objects.requireNonNullElse(this.prefetchExecutor, PREFETCH_EXECUTOR));
+		}
+	}
+	
+	protected void removePrefetchTriggers()
+	{
+		if(this.prefetchRegistrations != null)
+		{
+			this.prefetchRegistrations.forEach(Registration::remove);
+			this.prefetchRegistrations = null;
+		}
+	}
+	
+	protected void applyDeferredItems()
+	{
+		if(this.deferredItems != null && !this.deferredItemsApplied)
+		{
+			this.getEditor().setItems(this.deferredItems);
+			this.deferredItemsApplied = true;
+			// Prefetching is pointless once the editor has the items
+			this.removePrefetchTriggers();
+		}
+	}
+	
+	/**
+	 * Removes previously set, deferred and shared items, so that they don't interfere with newly set items.
+	 */
+	protected void resetItemSources()
+	{
+		if(this.editorConfigurations != null)
+		{
+			this.editorConfigurations.remove(ITEMS_CONFIGURATION);
+		}
+		this.sharedItems = null;
+		this.deferredItems = null;
+		this.deferredItemsApplied = false;
+		this.removePrefetchTriggers();
+	}
+	
+	// endregion
+	
+	// region HasDataView
+	
+	/**
+	 * Sets the items like {@link #withItems(ListDataProvider)}.
+	 * <p/>
+	 * As the data view belongs to the editor, a lazy initialized editor is created.
+	 *
+	 * @throws IllegalStateException when the editor is shared, see {@link #getEditorForDataView()}
+	 */
 	@Override
 	public ComboBoxListDataView<T> setItems(final ListDataProvider<T> dataProvider)
 	{
-		return this.getEditor().setItems(dataProvider);
+		this.checkDataViewAccessible();
+		this.withItems(dataProvider);
+		return this.getEditorForDataView().getListDataView();
 	}
 	
+	/**
+	 * @throws IllegalStateException when the editor is shared, see {@link #getEditorForDataView()}
+	 */
 	@Override
 	public ComboBoxListDataView<T> getListDataView()
 	{
-		return this.getEditor().getListDataView();
+		return this.getEditorForDataView().getListDataView();
 	}
 	
+	/**
+	 * Sets the items like {@link #withItems(BackEndDataProvider)}.
+	 * <p/>
+	 * As the data view belongs to the editor, a lazy initialized editor is created.
+	 *
+	 * @throws IllegalStateException when the editor is shared, see {@link #getEditorForDataView()}
+	 */
 	@Override
 	public ComboBoxDataView<T> setItems(final DataProvider<T, String> dataProvider)
 	{
-		return this.getEditor().setItems(dataProvider);
+		this.checkDataViewAccessible();
+		this.resetItemSources();
+		this.configureEditor(ITEMS_CONFIGURATION, e -> e.setItems(dataProvider));
+		return this.getEditorForDataView().getGenericDataView();
 	}
 	
 	/**
@@ -128,24 +536,69 @@ public class EditableLabelComboBox<T>
 	@Override
 	public ComboBoxDataView<T> setItems(final InMemoryDataProvider<T> dataProvider)
 	{
-		return this.getEditor().setItems(dataProvider);
+		this.checkDataViewAccessible();
+		this.resetItemSources();
+		this.configureEditor(ITEMS_CONFIGURATION, e -> e.setItems(dataProvider));
+		return this.getEditorForDataView().getGenericDataView();
 	}
 	
+	/**
+	 * @throws IllegalStateException when the editor is shared, see {@link #getEditorForDataView()}
+	 */
 	@Override
 	public ComboBoxDataView<T> getGenericDataView()
 	{
-		return this.getEditor().getGenericDataView();
+		return this.getEditorForDataView().getGenericDataView();
 	}
 	
+	/**
+	 * Sets the items like {@link #withItems(BackEndDataProvider)}.
+	 * <p/>
+	 * As the data view belongs to the editor, a lazy initialized editor is created.
+	 *
+	 * @throws IllegalStateException when the editor is shared, see {@link #getEditorForDataView()}
+	 */
 	@Override
 	public ComboBoxLazyDataView<T> setItems(final BackEndDataProvider<T, String> dataProvider)
 	{
-		return this.getEditor().setItems(dataProvider);
+		this.checkDataViewAccessible();
+		this.withItems(dataProvider);
+		return this.getEditorForDataView().getLazyDataView();
 	}
 	
+	/**
+	 * @throws IllegalStateException when the editor is shared, see {@link #getEditorForDataView()}
+	 */
 	@Override
 	public ComboBoxLazyDataView<T> getLazyDataView()
 	{
-		return this.getEditor().getLazyDataView();
+		return this.getEditorForDataView().getLazyDataView();
+	}
+	
+	/**
+	 * Returns the editor that provides the data views. Lazy initialized editors are created.
+	 * <p/>
+	 * A shared editor (see {@link software.xdev.vaadin.editable_label.EditableLabelGroup}) is moved between the
+	 * labels of the group and is configured by whichever label currently owns it. Its data views therefore don't
+	 * belong to a single label; use {@link #withItems(ListDataProvider)} or the group's editor instead.
+	 *
+	 * @throws IllegalStateException when the editor is shared
+	 */
+	protected ComboBox<T> getEditorForDataView()
+	{
+		this.checkDataViewAccessible();
+		return this.getEditor();
 	}
+	
+	protected void checkDataViewAccessible()
+	{
+		if(this.sharedEditor)
+		{
+			throw new IllegalStateException(
+				"The data views of a shared editor (EditableLabelGroup) are not bound to a label - "
+					+ "use withItems or the editor of the group");
+		}
+	}
+	
+	// endregion
 }
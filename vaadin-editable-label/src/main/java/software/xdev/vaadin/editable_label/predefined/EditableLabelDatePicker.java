@@ -15,16 +15,28 @@
  */
 package software.xdev.vaadin.editable_label.predefined;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
 import java.time.LocalDate;
+import java.time.chrono.IsoChronology;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.FormatStyle;
 import java.util.Collections;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.WeakHashMap;
 import java.util.function.Consumer;
 
+import com.vaadin.flow.component.ItemLabelGenerator;
 import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.function.SerializableSupplier;
 
 import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+import software.xdev.vaadin.editable_label.format.FormatterRegistry;
 
 
 /**
@@ -36,7 +48,15 @@ import software.xdev.vaadin.editable_label.AbstractEditableLabel;
 public class EditableLabelDatePicker
 	extends AbstractEditableLabel<EditableLabelDatePicker, DatePicker, LocalDate>
 {
+	/**
+	 * @deprecated No longer used, formatters are shared using the {@link FormatterRegistry}
+	 */
+	@Deprecated(forRemoval = true)
 	protected static final Map<String, DateTimeFormatter> CACHE_DTF = Collections.synchronizedMap(new WeakHashMap<>());
+	/**
+	 * Key of the i18n format in the editor configuration, see {@link #configureEditor(String, SerializableConsumer)}
+	 */
+	protected static final String I18N_FORMAT_CONFIGURATION = "i18nFormat";
 	
 	public EditableLabelDatePicker()
 	{
@@ -60,15 +80,134 @@ public class EditableLabelDatePicker
 		super(editor, additionalInitActions);
 	}
 	
+	/**
+	 * Creates a label with a lazy initialized editor.
+	 * <p/>
+	 * The editor is only created when it's required for the first time (e.g. when entering the edit mode).
+	 */
+	public EditableLabelDatePicker(
+		final SerializableSupplier<DatePicker> editorSupplier,
+		final Consumer<EditableLabelDatePicker> additionalInitActions)
+	{
+		super(editorSupplier, null, additionalInitActions);
+	}
+	
+	/**
+	 * Uses the first date format of the editor's {@link DatePicker.DatePickerI18n} (if present) for the label.
+	 * <p/>
+	 * The formatter is shared with all other labels using the same pattern and locale.<br/>
+	 * A lazy initialized editor is not created by this: Until it's created (and its i18n is known) the label uses the
+	 * short date format of the label's locale, see {@link #withLocalizedDateFormat(Locale)}.
+	 * Use {@link #withTryUseI18NFormat(DatePicker.DatePickerI18n)} to format the label correctly right from the start.
+	 *
+	 * @see FormatterRegistry#dateTimeFormatter(String, Locale)
+	 */
 	public EditableLabelDatePicker withTryUseI18NFormat()
 	{
-		final DatePicker.DatePickerI18n i18n = this.editor.getI18n();
-		if(i18n != null && !i18n.getDateFormats().isEmpty())
+		if(!this.isEditorCreated())
 		{
-			final DateTimeFormatter dtf =
-				CACHE_DTF.computeIfAbsent(i18n.getDateFormats().get(0), DateTimeFormatter::ofPattern);
-			this.withLabelGenerator(dtf::format);
+			this.withLocalizedDateFormat(this.getLocale());
 		}
+		this.configureEditor(I18N_FORMAT_CONFIGURATION, this::tryUseI18NFormat);
 		return this.self();
 	}
+	
+	/**
+	 * Sets the i18n of the editor and uses its first date format (if present) for the label.
+	 * <p/>
+	 * In contrast to {@link #withTryUseI18NFormat()} the label is formatted correctly even if a lazy initialized
+	 * editor was not created yet.
+	 */
+	public EditableLabelDatePicker withTryUseI18NFormat(final DatePicker.DatePickerI18n i18n)
+	{
+		Objects.requireNonNull(i18n);
+		this.configureEditor(I18N_FORMAT_CONFIGURATION, datePicker -> {
+			datePicker.setI18n(i18n);
+			this.tryUseI18NFormat(datePicker);
+		});
+		if(!this.isEditorCreated())
+		{
+			this.tryUseI18NFormat(i18n, this.getLocale());
+		}
+		return this.self();
+	}
+	
+	protected void tryUseI18NFormat(final DatePicker datePicker)
+	{
+		this.tryUseI18NFormat(
+			datePicker.getI18n(),
+			Objects.requireNonNullElseGet(datePicker.getLocale(), Locale::getDefault));
+	}
+	
+	protected void tryUseI18NFormat(final DatePicker.DatePickerI18n i18n, final Locale locale)
+	{
+		if(i18n != null && i18n.getDateFormats() != null && !i18n.getDateFormats().isEmpty())
+		{
+			this.withDateFormat(i18n.getDateFormats().get(0), locale);
+		}
+	}
+	
+	/**
+	 * Formats the label using the short date format of the given locale - with a 4-digit year like the
+	 * {@link DatePicker} displays dates without an i18n date format.
+	 *
+	 * @see FormatStyle#SHORT
+	 */
+	public EditableLabelDatePicker withLocalizedDateFormat(final Locale locale)
+	{
+		Objects.requireNonNull(locale);
+		final String pattern = DateTimeFormatterBuilder.getLocalizedDateTimePattern(
+			FormatStyle.SHORT,
+			null,
+			IsoChronology.INSTANCE,
+			locale);
+		return this.withDateFormat(
+			pattern.contains("yyyy") ? pattern : pattern.replace("yy", "yyyy"),
+			locale);
+	}
+	
+	/**
+	 * Formats the label using the given pattern.
+	 *
+	 * @see DateTimeFormatter#ofPattern(String, Locale)
+	 */
+	public EditableLabelDatePicker withDateFormat(final String pattern, final Locale locale)
+	{
+		return this.withLabelGenerator(new DateFormatLabelGenerator(pattern, locale));
+	}
+	
+	/**
+	 * Formats dates using a formatter from the {@link FormatterRegistry}.
+	 * <p/>
+	 * The formatter is resolved once and not serialized (as {@link DateTimeFormatter} is not serializable); it's
+	 * resolved again after deserialization.
+	 */
+	protected static class DateFormatLabelGenerator implements ItemLabelGenerator<LocalDate>
+	{
+		protected final String pattern;
+		protected final Locale locale;
+		// Not recreated: Resolved from the shared registry
+		@SuppressWarnings("PMD.AvoidRecreatingDateTimeFormatter")
+		protected transient DateTimeFormatter formatter;
+		
+		protected DateFormatLabelGenerator(final String pattern, final Locale locale)
+		{
+			this.pattern = Objects.requireNonNull(pattern);
+			this.locale = Objects.requireNonNull(locale);
+			this.formatter = FormatterRegistry.getDefault().dateTimeFormatter(pattern, locale);
+		}
+		
+		@Override
+		public String apply(final LocalDate date)
+		{
+			return this.formatter.format(date);
+		}
+		
+		@Serial
+		private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.defaultReadObject();
+			this.formatter = FormatterRegistry.getDefault().dateTimeFormatter(this.pattern, this.locale);
+		}
+	}
 }
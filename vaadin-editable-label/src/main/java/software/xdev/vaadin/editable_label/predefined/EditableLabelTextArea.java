@@ -19,6 +19,7 @@ import java.util.function.Consumer;
 
 import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextAreaVariant;
+import com.vaadin.flow.function.SerializableSupplier;
 
 import software.xdev.vaadin.editable_label.AbstractEditableLabel;
 
@@ -54,10 +55,22 @@ public class EditableLabelTextArea
 		super(editor, additionalInitActions);
 	}
 	
+	/**
+	 * Creates a label with a lazy initialized editor.
+	 * <p/>
+	 * The editor is only created when it's required for the first time (e.g. when entering the edit mode).
+	 */
+	public EditableLabelTextArea(
+		final SerializableSupplier<TextArea> editorSupplier,
+		final Consumer<EditableLabelTextArea> additionalInitActions)
+	{
+		super(editorSupplier, "", additionalInitActions);
+	}
+	
 	@Override
-	protected void initUI()
+	protected void initEditor()
 	{
-		super.initUI();
+		super.initEditor();
 		this.getEditor().setAutoselect(true);
 		this.getEditor().addThemeVariants(TextAreaVariant.LUMO_SMALL);
 	}
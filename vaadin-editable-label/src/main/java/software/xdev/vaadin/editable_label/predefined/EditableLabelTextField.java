@@ -19,6 +19,7 @@ import java.util.function.Consumer;
 
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.component.textfield.TextFieldVariant;
+import com.vaadin.flow.function.SerializableSupplier;
 
 import software.xdev.vaadin.editable_label.AbstractEditableLabel;
 
@@ -54,10 +55,22 @@ public class EditableLabelTextField
 		super(editor, additionalInitActions);
 	}
 	
+	/**
+	 * Creates a label with a lazy initialized editor.
+	 * <p/>
+	 * The editor is only created when it's required for the first time (e.g. when entering the edit mode).
+	 */
+	public EditableLabelTextField(
+		final SerializableSupplier<TextField> editorSupplier,
+		final Consumer<EditableLabelTextField> additionalInitActions)
+	{
+		super(editorSupplier, "", additionalInitActions);
+	}
+	
 	@Override
-	protected void initUI()
+	protected void initEditor()
 	{
-		super.initUI();
+		super.initEditor();
 		this.getEditor().setAutoselect(true);
 		this.getEditor().addThemeVariants(TextFieldVariant.LUMO_SMALL);
 	}
@@ -0,0 +1,149 @@
+import { css, html, LitElement } from 'lit';
+import '@vaadin/button';
+import '@vaadin/icon';
+import '@vaadin/icons';
+
+/**
+ * A label that can be edited.
+ *
+ * Renders the label text and the edit/save/close controls on its own.
+ * Only the editor is supplied by the server (slot "editor").
+ *
+ * Fires:
+ * - "edit-mode-changed" when the edit mode was changed by the user
+ * - "save" when the user wants to save the value of the editor
+ */
+class EditableLabel extends LitElement {
+	static get is() {
+		return 'editable-label';
+	}
+
+	static get properties() {
+		return {
+			label: { type: String },
+			editMode: { type: Boolean, reflect: true, attribute: 'edit-mode' },
+			readonly: { type: Boolean, reflect: true },
+			editIcon: { type: String, attribute: 'edit-icon' },
+			saveIcon: { type: String, attribute: 'save-icon' },
+			closeIcon: { type: String, attribute: 'close-icon' },
+		};
+	}
+
+	static get styles() {
+		return css`
+			:host {
+				display: flex;
+				align-items: center;
+			}
+
+			:host([hidden]) {
+				display: none !important;
+			}
+
+			[part~='button'] {
+				margin: 0;
+				padding: 0;
+				cursor: pointer;
+			}
+
+			[part~='edit-button'] {
+				display: none;
+				height: var(--lumo-size-xs);
+				width: var(--lumo-size-xs);
+			}
+
+			:host(:hover) [part~='edit-button'],
+			[part~='edit-button'].always-visible {
+				display: block;
+			}
+
+			::slotted([slot='editor']) {
+				width: 100%;
+			}
+		`;
+	}
+
+	constructor() {
+		super();
+		this.label = '';
+		this.editMode = false;
+		this.readonly = false;
+		this.editIcon = 'vaadin:pencil';
+		this.saveIcon = 'vaadin:check';
+		this.closeIcon = 'vaadin:close';
+		this.addEventListener('keydown', (e) => this._onKeyDown(e));
+	}
+
+	render() {
+		if (this.editMode) {
+			return html`
+				<slot name="editor"></slot>
+				<vaadin-button part="button save-button" theme="small tertiary" @click=${this._save}>
+					<vaadin-icon icon=${this.saveIcon}></vaadin-icon>
+				</vaadin-button>
+				<vaadin-button part="button close-button" theme="small tertiary" @click=${this._close}>
+					<vaadin-icon icon=${this.closeIcon}></vaadin-icon>
+				</vaadin-button>
+			`;
+		}
+		// The edit button would not be displayed if nothing is visible
+		const alwaysVisible = !this.label || !this.label.trim();
+		return html`
+			<span part="label">${this.label}</span>
+			<vaadin-button
+				part="button edit-button"
+				class=${alwaysVisible ? 'always-visible' : ''}
+				theme="small tertiary"
+				?disabled=${this.readonly}
+				@click=${this._edit}>
+				<vaadin-icon icon=${this.editIcon}></vaadin-icon>
+			</vaadin-button>
+		`;
+	}
+
+	updated(changedProperties) {
+		if (changedProperties.has('editMode') && this.editMode) {
+			const editor = this.querySelector(':scope > [slot="editor"]');
+			if (editor && editor.focus) {
+				editor.focus();
+			}
+		}
+	}
+
+	_setEditMode(enabled) {
+		if (this.editMode === enabled) {
+			return;
+		}
+		this.editMode = enabled;
+		this.dispatchEvent(new CustomEvent('edit-mode-changed'));
+	}
+
+	_edit() {
+		if (!this.readonly) {
+			this._setEditMode(true);
+		}
+	}
+
+	_close() {
+		this._setEditMode(false);
+	}
+
+	_save() {
+		this.dispatchEvent(new CustomEvent('save'));
+	}
+
+	_onKeyDown(e) {
+		if (!this.editMode) {
+			return;
+		}
+		if (e.key === 'Escape') {
+			e.stopPropagation();
+			this._close();
+		} else if (e.key === 'Enter') {
+			// Let the editor synchronize its value first
+			setTimeout(() => this._save());
+		}
+	}
+}
+
+customElements.define(EditableLabel.is, EditableLabel);
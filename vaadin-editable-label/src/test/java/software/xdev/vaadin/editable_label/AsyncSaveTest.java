@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.textfield.TextField;
+
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextField;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+import software.xdev.vaadin.editable_label.testing.PredefinedLabelType;
+
+
+class AsyncSaveTest
+{
+	private final List<String> savedValues = new ArrayList<>();
+	private final List<String> valueChanges = new ArrayList<>();
+	private final List<Throwable> errors = new ArrayList<>();
+	
+	private BrowserlessUI ui;
+	private CompletableFuture<Void> backend;
+	private EditableLabelTextField label;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.ui = new BrowserlessUI();
+		UI.setCurrent(this.ui);
+		this.backend = new CompletableFuture<>();
+		
+		this.label = new EditableLabelTextField(TextField::new, null)
+			.withValue("A")
+			// Execute the handler directly, so that the test controls when saving completes
+			.withAsyncSaveHandler(
+				value -> {
+					this.savedValues.add(value);
+					return this.backend;
+				},
+				Runnable::run)
+			.withAsyncSaveErrorHandler(this.errors::add);
+		this.label.addValueChangeListener(ev -> this.valueChanges.add(ev.getValue()));
+		this.ui.add(this.label);
+		this.ui.flushResponse();
+	}
+	
+	@AfterEach
+	void clearCurrentUI()
+	{
+		UI.setCurrent(null);
+	}
+	
+	private void save(final String value)
+	{
+		this.label.setEditMode(true);
+		this.label.getEditor().setValue(value);
+		PredefinedLabelType.clickButton(this.label, EditableLabelStyles.SAVE_BUTTON);
+	}
+	
+	@Test
+	void labelIsPendingWhileSaving()
+	{
+		this.save("B");
+		
+		assertEquals(List.of("B"), this.savedValues);
+		assertTrue(this.label.isSavePending());
+		assertTrue(this.label.hasClassName(EditableLabelStyles.SAVE_PENDING));
+		assertFalse(this.label.btnSave.isEnabled());
+		assertTrue(this.label.isEditMode());
+		assertEquals("A", this.label.getValue());
+		
+		// Saving again while pending is ignored
+		PredefinedLabelType.clickButton(this.label, EditableLabelStyles.SAVE_BUTTON);
+		assertEquals(List.of("B"), this.savedValues);
+	}
+	
+	@Test
+	void valueIsAppliedOnceSaved()
+	{
+		this.save("B");
+		this.backend.complete(null);
+		// The result is applied while holding the session lock
+		assertEquals("A", this.label.getValue());
+		assertEquals(1, this.ui.runPendingAccessTasks());
+		
+		assertEquals("B", this.label.getValue());
+		assertEquals(List.of("B"), this.valueChanges);
+		assertFalse(this.label.isEditMode());
+		assertFalse(this.label.isSavePending());
+		assertFalse(this.label.hasClassName(EditableLabelStyles.SAVE_PENDING));
+		assertTrue(this.label.btnSave.isEnabled());
+		assertTrue(this.errors.isEmpty());
+	}
+	
+	@Test
+	void failedSaveStaysInEditMode()
+	{
+		final IllegalStateException failure = new IllegalStateException("Backend unavailable");
+		
+		this.save("B");
+		this.backend.completeExceptionally(failure);
+		this.ui.runPendingAccessTasks();
+		
+		assertEquals("A", this.label.getValue());
+		assertTrue(this.valueChanges.isEmpty());
+		assertTrue(this.label.isEditMode());
+		assertFalse(this.label.isSavePending());
+		// The input is not lost and the error is displayed
+		assertEquals("B", this.label.getEditor().getValue());
+		assertTrue(this.label.getEditor().isInvalid());
+		assertEquals("Backend unavailable", this.label.getEditor().getErrorMessage());
+		assertEquals(1, this.errors.size());
+		assertSame(failure, this.errors.get(0));
+		
+		// The error is cleared when trying again
+		this.backend = new CompletableFuture<>();
+		PredefinedLabelType.clickButton(this.label, EditableLabelStyles.SAVE_BUTTON);
+		assertFalse(this.label.getEditor().isInvalid());
+	}
+	
+	@Test
+	void unchangedValueIsNotSaved()
+	{
+		this.save("A");
+		
+		assertTrue(this.savedValues.isEmpty());
+		assertFalse(this.label.isEditMode());
+		assertFalse(this.label.isSavePending());
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.AbstractField.ComponentValueChangeEvent;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.value.ValueChangeMode;
+
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextField;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+
+
+class AutoSaveTest
+{
+	private static final Duration DEBOUNCE = Duration.ofMillis(50);
+	private static final long WAIT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+	
+	private final List<String> valueChanges = new ArrayList<>();
+	private final List<Boolean> fromClient = new ArrayList<>();
+	
+	private BrowserlessUI ui;
+	private EditableLabelTextField label;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.ui = new BrowserlessUI();
+		UI.setCurrent(this.ui);
+		
+		this.label = new EditableLabelTextField(TextField::new, null).withValue("A");
+		this.label.addValueChangeListener(ev -> {
+			this.valueChanges.add(ev.getValue());
+			this.fromClient.add(ev.isFromClient());
+		});
+		this.ui.add(this.label);
+		this.ui.flushResponse();
+	}
+	
+	@AfterEach
+	void clearCurrentUI()
+	{
+		UI.setCurrent(null);
+	}
+	
+	/**
+	 * Simulates the user typing into the editor - which results in a value change that originates from the client.
+	 */
+	private void typeFromClient(final String value)
+	{
+		final TextField editor = this.label.getEditor();
+		final String oldValue = editor.getValue();
+		editor.setValue(value);
+		ComponentUtil.fireEvent(editor, new ComponentValueChangeEvent<>(editor, editor, oldValue, true));
+	}
+	
+	private int awaitPendingAccessTasks()
+	{
+		final long deadline = System.nanoTime() + WAIT_TIMEOUT_NANOS;
+		int executed;
+		while((executed = this.ui.runPendingAccessTasks()) == 0)
+		{
+			if(System.nanoTime() - deadline > 0)
+			{
+				fail("The debounced auto save was not executed in time");
+			}
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+		}
+		return executed;
+	}
+	
+	@Test
+	void editorIsConfiguredForMode()
+	{
+		this.label.withAutoSave(AutoSaveMode.CLIENT_DEBOUNCE, DEBOUNCE);
+		assertEquals(ValueChangeMode.LAZY, this.label.getEditor().getValueChangeMode());
+		assertEquals((int)DEBOUNCE.toMillis(), this.label.getEditor().getValueChangeTimeout());
+		
+		this.label.withAutoSaveOnBlur();
+		assertEquals(ValueChangeMode.ON_BLUR, this.label.getEditor().getValueChangeMode());
+		
+		this.label.withAutoSave(AutoSaveMode.SERVER_DEBOUNCE, DEBOUNCE);
+		assertEquals(ValueChangeMode.EAGER, this.label.getEditor().getValueChangeMode());
+	}
+	
+	@Test
+	void clientDebounceCommitsImmediately()
+	{
+		this.label.withAutoSave(DEBOUNCE);
+		this.label.setEditMode(true);
+		
+		this.typeFromClient("B");
+		
+		assertEquals("B", this.label.getValue());
+		assertEquals(List.of("B"), this.valueChanges);
+		assertEquals(List.of(true), this.fromClient);
+		// Auto save doesn't interrupt editing
+		assertTrue(this.label.isEditMode());
+	}
+	
+	@Test
+	void onBlurCommitsImmediately()
+	{
+		this.label.withAutoSaveOnBlur();
+		this.label.setEditMode(true);
+		
+		this.typeFromClient("B");
+		this.typeFromClient("C");
+		
+		assertEquals("C", this.label.getValue());
+		assertEquals(List.of("B", "C"), this.valueChanges);
+		assertTrue(this.label.isEditMode());
+	}
+	
+	@Test
+	void serverDebounceCoalescesBurst()
+	{
+		this.label.withAutoSave(AutoSaveMode.SERVER_DEBOUNCE, DEBOUNCE);
+		this.label.setEditMode(true);
+		
+		this.typeFromClient("B");
+		this.typeFromClient("BC");
+		this.typeFromClient("BCD");
+		// Nothing is committed before the debounce expired
+		assertEquals("A", this.label.getValue());
+		assertTrue(this.valueChanges.isEmpty());
+		
+		// Every change schedules a task, however only the one of the last change commits
+		int executed = 0;
+		while(executed < 3)
+		{
+			executed += this.awaitPendingAccessTasks();
+		}
+		
+		assertEquals("BCD", this.label.getValue());
+		assertEquals(List.of("BCD"), this.valueChanges);
+		assertEquals(List.of(true), this.fromClient);
+		assertTrue(this.label.isEditMode());
+	}
+	
+	@Test
+	void serverDebounceIsDroppedWhenLeavingEditMode()
+	{
+		this.label.withAutoSave(AutoSaveMode.SERVER_DEBOUNCE, DEBOUNCE);
+		this.label.setEditMode(true);
+		
+		this.typeFromClient("B");
+		this.label.setEditMode(false);
+		this.awaitPendingAccessTasks();
+		
+		assertEquals("A", this.label.getValue());
+		assertTrue(this.valueChanges.isEmpty());
+	}
+	
+	@Test
+	void serverSideChangesAreIgnored()
+	{
+		this.label.withAutoSave(DEBOUNCE);
+		this.label.setEditMode(true);
+		
+		this.label.getEditor().setValue("B");
+		
+		assertEquals("A", this.label.getValue());
+		assertTrue(this.valueChanges.isEmpty());
+	}
+	
+	@Test
+	void changesOutsideEditModeAreIgnored()
+	{
+		this.label.withAutoSave(DEBOUNCE);
+		
+		this.typeFromClient("B");
+		
+		assertEquals("A", this.label.getValue());
+		assertTrue(this.valueChanges.isEmpty());
+		assertFalse(this.label.isEditMode());
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
+import com.vaadin.flow.internal.nodefeature.PropertyChangeDeniedException;
+
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextField;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+import software.xdev.vaadin.editable_label.testing.PredefinedLabelType;
+
+
+class ClientSideEditModeTest
+{
+	private EditableLabelTextField label;
+	private final List<Boolean> editModeChanges = new ArrayList<>();
+	
+	@BeforeEach
+	void setUp()
+	{
+		final BrowserlessUI ui = new BrowserlessUI();
+		UI.setCurrent(ui);
+		this.label = new EditableLabelTextField(TextField::new, null)
+			.withValue("A")
+			.withClientSideEditMode();
+		this.label.addEditModeChangedListener(ev -> this.editModeChanges.add(ev.isEditModeEnabled()));
+		ui.add(this.label);
+		ui.flushResponse();
+	}
+	
+	@AfterEach
+	void clearCurrentUI()
+	{
+		UI.setCurrent(null);
+	}
+	
+	/**
+	 * Simulates that the edit mode was toggled in the browser.
+	 */
+	private void toggleInBrowser(final boolean editMode)
+	{
+		try
+		{
+			this.label.getContent().getElement().getNode()
+				.getFeature(ElementPropertyMap.class)
+				.deferredUpdateFromClient(AbstractEditableLabel.CLIENT_SIDE_EDIT_MODE_PROPERTY, editMode)
+				.run();
+		}
+		catch(final PropertyChangeDeniedException ex)
+		{
+			throw new IllegalStateException("The edit mode is not synchronized with the browser", ex);
+		}
+	}
+	
+	private boolean isEditModeInBrowser()
+	{
+		return this.label.getContent().getElement()
+			.getProperty(AbstractEditableLabel.CLIENT_SIDE_EDIT_MODE_PROPERTY, false);
+	}
+	
+	@Test
+	void everythingIsPresentInTheBrowser()
+	{
+		assertTrue(this.label.isEditorCreated());
+		assertTrue(this.label.hasClassName(EditableLabelStyles.CLIENT_SIDE_EDIT_MODE));
+		assertTrue(this.label.getEditor().isVisible());
+		assertTrue(this.label.isSaveButtonAttached());
+		assertEquals("A", this.label.getEditor().getValue());
+	}
+	
+	@Test
+	void keysAreHandledByTheBrowser()
+	{
+		this.toggleInBrowser(true);
+		
+		assertNull(this.label.saveShortcutRegistration);
+		assertNull(this.label.closeShortcutRegistration);
+	}
+	
+	@Test
+	void editModeToggledInTheBrowserIsSynchronized()
+	{
+		this.toggleInBrowser(true);
+		assertTrue(this.label.isEditMode());
+		assertTrue(this.label.getContent().hasClassName(EditableLabelStyles.EDIT_MODE));
+		
+		this.label.getEditor().setValue("B");
+		this.toggleInBrowser(false);
+		assertFalse(this.label.isEditMode());
+		// Closing discards the changes
+		assertEquals("A", this.label.getValue());
+		assertEquals("A", this.label.getEditor().getValue());
+		
+		assertEquals(List.of(true, false), this.editModeChanges);
+	}
+	
+	@Test
+	void savingLeavesTheEditModeInTheBrowser()
+	{
+		this.toggleInBrowser(true);
+		this.label.getEditor().setValue("B");
+		PredefinedLabelType.clickButton(this.label, EditableLabelStyles.SAVE_BUTTON);
+		
+		assertEquals("B", this.label.getValue());
+		assertFalse(this.label.isEditMode());
+		assertFalse(this.isEditModeInBrowser());
+		assertFalse(this.label.getContent().hasClassName(EditableLabelStyles.EDIT_MODE));
+	}
+	
+	@Test
+	void serverSideChangesAreSentToTheBrowser()
+	{
+		this.label.setEditMode(true);
+		assertTrue(this.isEditModeInBrowser());
+		
+		this.label.setValue("C");
+		this.label.setEditMode(false);
+		assertFalse(this.isEditModeInBrowser());
+		assertEquals("C", this.label.getEditor().getValue());
+	}
+	
+	@Test
+	void editModeIsRevertedWhenRejectedByTheServer()
+	{
+		this.label.setReadOnly(true);
+		this.toggleInBrowser(true);
+		
+		assertFalse(this.label.isEditMode());
+		assertFalse(this.isEditModeInBrowser());
+		assertTrue(this.editModeChanges.isEmpty());
+	}
+	
+	@Test
+	void sharedEditorIsNotSupported()
+	{
+		final EditableLabelGroup<TextField, String> group = new EditableLabelGroup<>(new TextField());
+		final EditableLabelTextField groupLabel = group.add(new EditableLabelTextField(TextField::new, null));
+		
+		assertThrows(IllegalStateException.class, groupLabel::withClientSideEditMode);
+		assertThrows(IllegalArgumentException.class, () -> group.add(this.label));
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.Key;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.textfield.TextField;
+
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextField;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+
+
+class EditModeShortcutTest
+{
+	private BrowserlessUI ui;
+	private EditableLabelTextField label;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.ui = new BrowserlessUI();
+		UI.setCurrent(this.ui);
+		this.label = new EditableLabelTextField(TextField::new, null).withValue("A");
+		this.ui.add(this.label);
+		this.ui.flushResponse();
+	}
+	
+	@AfterEach
+	void clearCurrentUI()
+	{
+		UI.setCurrent(null);
+	}
+	
+	@Test
+	void shortcutsAreOnlyRegisteredInEditMode()
+	{
+		assertNull(this.label.saveShortcutRegistration);
+		assertNull(this.label.closeShortcutRegistration);
+		
+		this.label.setEditMode(true);
+		// The shortcuts are set up in the browser when the response is written
+		this.ui.flushResponse();
+		assertEquals(Key.ENTER.getKeys(), this.label.saveShortcutRegistration.getKey().getKeys());
+		assertTrue(this.label.saveShortcutRegistration.isShortcutActive());
+		assertEquals(Key.ESCAPE.getKeys(), this.label.closeShortcutRegistration.getKey().getKeys());
+		assertTrue(this.label.closeShortcutRegistration.isShortcutActive());
+		
+		this.label.setEditMode(false);
+		assertNull(this.label.saveShortcutRegistration);
+		assertNull(this.label.closeShortcutRegistration);
+	}
+	
+	@Test
+	void shortcutsAreRemovedWhenSwitchingToClientSideEditMode()
+	{
+		this.label.setEditMode(true);
+		this.label.withClientSideEditMode();
+		
+		assertTrue(this.label.isEditMode());
+		assertNull(this.label.saveShortcutRegistration);
+		assertNull(this.label.closeShortcutRegistration);
+		
+		// Toggling on the server doesn't register them again
+		this.label.setEditMode(false);
+		this.label.setEditMode(true);
+		assertNull(this.label.saveShortcutRegistration);
+	}
+}
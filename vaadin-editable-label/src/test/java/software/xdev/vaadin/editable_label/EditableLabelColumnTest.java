@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.textfield.TextField;
+
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+
+
+class EditableLabelColumnTest
+{
+	private final List<Person> setterCalls = new ArrayList<>();
+	
+	private BrowserlessUI ui;
+	private Grid<Person> grid;
+	private Person alice;
+	private Person bob;
+	private EditableLabelColumn<Person, TextField, String> nameColumn;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.ui = new BrowserlessUI();
+		UI.setCurrent(this.ui);
+		
+		this.alice = new Person("Alice", "Engineer");
+		this.bob = new Person("Bob", "");
+		this.grid = new Grid<>();
+		this.grid.setItems(this.alice, this.bob);
+		this.nameColumn = new EditableLabelColumn<>(
+			this.grid,
+			Person::getName,
+			(person, name) -> {
+				this.setterCalls.add(person);
+				person.setName(name);
+			},
+			new TextField());
+		this.ui.add(this.grid);
+		this.ui.flushResponse();
+	}
+	
+	@AfterEach
+	void clearCurrentUI()
+	{
+		UI.setCurrent(null);
+	}
+	
+	@Test
+	void labelsAreGeneratedFromTheValue()
+	{
+		final EditableLabelColumn<Person, TextField, String> jobColumn = new EditableLabelColumn<>(
+			this.grid,
+			Person::getJob,
+			Person::setJob,
+			new TextField())
+			.withEmptyLabelValue("unemployed")
+			.withLabelGenerator(String::toUpperCase);
+		
+		assertEquals("ENGINEER", jobColumn.renderLabel(this.alice));
+		assertEquals("unemployed", jobColumn.renderLabel(this.bob));
+	}
+	
+	@Test
+	void saveWritesTheEditorValueIntoTheItem()
+	{
+		this.nameColumn.edit(this.alice);
+		this.ui.flushResponse();
+		assertTrue(this.grid.getEditor().isOpen());
+		assertSame(this.alice, this.nameColumn.getEditedItem());
+		assertEquals("Alice", this.nameColumn.getEditor().getValue());
+		assertSame(this.nameColumn.editorContainer, this.nameColumn.getColumn().getEditorComponent());
+		
+		this.nameColumn.getEditor().setValue("Alicia");
+		this.nameColumn.save();
+		
+		assertEquals("Alicia", this.alice.getName());
+		assertEquals(List.of(this.alice), this.setterCalls);
+		assertNull(this.nameColumn.getEditedItem());
+		assertNull(this.nameColumn.getColumn().getEditorComponent());
+		assertFalse(this.grid.getEditor().isOpen());
+	}
+	
+	@Test
+	void unchangedValueIsNotWritten()
+	{
+		this.nameColumn.edit(this.alice);
+		this.nameColumn.save();
+		
+		assertTrue(this.setterCalls.isEmpty());
+		assertNull(this.nameColumn.getEditedItem());
+	}
+	
+	@Test
+	void closeDiscardsTheEditorValue()
+	{
+		this.nameColumn.edit(this.alice);
+		this.nameColumn.getEditor().setValue("Alicia");
+		this.nameColumn.close();
+		
+		assertEquals("Alice", this.alice.getName());
+		assertTrue(this.setterCalls.isEmpty());
+		assertNull(this.nameColumn.getEditedItem());
+	}
+	
+	@Test
+	void editingAnotherRowSwitchesTheEditedItem()
+	{
+		this.nameColumn.edit(this.alice);
+		this.ui.flushResponse();
+		this.nameColumn.getEditor().setValue("Alicia");
+		this.nameColumn.edit(this.bob);
+		this.ui.flushResponse();
+		
+		assertSame(this.bob, this.nameColumn.getEditedItem());
+		assertEquals("Bob", this.nameColumn.getEditor().getValue());
+		assertEquals("Alice", this.alice.getName());
+	}
+	
+	@Test
+	void editingAnotherColumnClosesTheEditor()
+	{
+		final EditableLabelColumn<Person, TextField, String> jobColumn = new EditableLabelColumn<>(
+			this.grid,
+			Person::getJob,
+			Person::setJob,
+			new TextField());
+		
+		this.nameColumn.edit(this.alice);
+		// The grid editor is opened when the response is written
+		this.ui.flushResponse();
+		jobColumn.edit(this.alice);
+		this.ui.flushResponse();
+		
+		assertNull(this.nameColumn.getEditedItem());
+		assertNull(this.nameColumn.getColumn().getEditorComponent());
+		assertSame(this.alice, jobColumn.getEditedItem());
+		assertSame(jobColumn.editorContainer, jobColumn.getColumn().getEditorComponent());
+		
+		// Saving the closed column does nothing
+		this.nameColumn.save();
+		assertTrue(this.setterCalls.isEmpty());
+	}
+	
+	static class Person
+	{
+		private String name;
+		private String job;
+		
+		Person(final String name, final String job)
+		{
+			this.name = name;
+			this.job = job;
+		}
+		
+		String getName()
+		{
+			return this.name;
+		}
+		
+		void setName(final String name)
+		{
+			this.name = name;
+		}
+		
+		String getJob()
+		{
+			return this.job;
+		}
+		
+		void setJob(final String job)
+		{
+			this.job = job;
+		}
+	}
+}
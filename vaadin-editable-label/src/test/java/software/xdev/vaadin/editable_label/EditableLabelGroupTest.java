@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.textfield.TextField;
+
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextField;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+
+
+class EditableLabelGroupTest
+{
+	private BrowserlessUI ui;
+	private EditableLabelGroup<TextField, String> group;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.ui = new BrowserlessUI();
+		UI.setCurrent(this.ui);
+		this.group = new EditableLabelGroup<>(new TextField());
+	}
+	
+	@AfterEach
+	void clearCurrentUI()
+	{
+		UI.setCurrent(null);
+	}
+	
+	private EditableLabelTextField addLabel()
+	{
+		final EditableLabelTextField label = this.group.add(new EditableLabelTextField(TextField::new, null));
+		this.ui.add(label);
+		return label;
+	}
+	
+	@Test
+	void editorIsOnlyCheckedOutWhenEnteringEditMode()
+	{
+		final EditableLabelTextField first = this.addLabel();
+		final EditableLabelTextField second = this.addLabel();
+		
+		first.setEditMode(true);
+		assertSame(this.group.getEditor(), first.getEditor());
+		
+		// Accessing the editor of another label must not steal it
+		assertThrows(IllegalStateException.class, second::getEditor);
+		assertTrue(first.isEditMode());
+		assertSame(first, this.group.getActiveLabel());
+		
+		second.setEditMode(true);
+		assertFalse(first.isEditMode());
+		assertFalse(first.isEditorCreated());
+		assertSame(this.group.getEditor(), second.getEditor());
+		assertSame(second, this.group.getActiveLabel());
+	}
+	
+	@Test
+	void labelsOfAnotherUIAreRejected()
+	{
+		this.addLabel();
+		
+		final BrowserlessUI otherUI = new BrowserlessUI();
+		final EditableLabelTextField foreignLabel = new EditableLabelTextField(TextField::new, null);
+		otherUI.add(foreignLabel);
+		
+		assertThrows(IllegalArgumentException.class, () -> this.group.add(foreignLabel));
+	}
+}
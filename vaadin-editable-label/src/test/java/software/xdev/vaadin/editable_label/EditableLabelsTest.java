@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.textfield.NumberField;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.binder.Binder;
+
+import software.xdev.vaadin.editable_label.EditableLabels.BulkValueChangeEvent;
+import software.xdev.vaadin.editable_label.EditableLabels.ValueChange;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelNumberField;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextField;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+
+
+class EditableLabelsTest
+{
+	private final List<BulkValueChangeEvent> bulkEvents = new ArrayList<>();
+	private final List<Object> labelEvents = new ArrayList<>();
+	
+	private BrowserlessUI ui;
+	private EditableLabelTextField name;
+	private EditableLabelNumberField age;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.ui = new BrowserlessUI();
+		UI.setCurrent(this.ui);
+		EditableLabels.addBulkValueChangeListener(this.ui, this.bulkEvents::add);
+		
+		this.name = new EditableLabelTextField(TextField::new, null).withValue("A");
+		this.age = new EditableLabelNumberField(NumberField::new, null).withValue(1.0);
+		this.name.addValueChangeListener(ev -> this.labelEvents.add(ev.getValue()));
+		this.age.addValueChangeListener(ev -> this.labelEvents.add(ev.getValue()));
+		this.ui.add(this.name, this.age);
+	}
+	
+	@AfterEach
+	void clearCurrentUI()
+	{
+		UI.setCurrent(null);
+	}
+	
+	@Test
+	void firesSingleBulkEvent()
+	{
+		final Map<AbstractEditableLabel<?, ?, ?>, ValueChange> changes = EditableLabels.updateAll(List.of(
+			EditableLabels.update(this.name, "B"),
+			EditableLabels.update(this.age, 1.0)));
+		
+		assertEquals(Map.of(this.name, new ValueChange("A", "B")), changes);
+		assertEquals("B", this.name.getValue());
+		assertEquals(1, this.bulkEvents.size());
+		assertEquals(changes, this.bulkEvents.get(0).getChanges());
+		assertTrue(this.labelEvents.isEmpty());
+	}
+	
+	@Test
+	void firesLabelEventsAfterBulkEvent()
+	{
+		final List<String> order = new ArrayList<>();
+		EditableLabels.addBulkValueChangeListener(this.ui, ev -> order.add("bulk"));
+		this.name.addValueChangeListener(ev -> order.add("name=" + ev.getValue()));
+		this.age.addValueChangeListener(ev ->
+			order.add("age=" + this.age.getValue() + ",name=" + this.name.getValue()));
+		
+		EditableLabels.updateAll(
+			List.of(EditableLabels.update(this.name, "B"), EditableLabels.update(this.age, 2.0)),
+			true);
+		
+		// Listeners observe the final values of all labels
+		assertEquals(List.of("bulk", "name=B", "age=2.0,name=B"), order);
+		assertEquals(List.of("B", 2.0), this.labelEvents);
+	}
+	
+	@Test
+	void keepsBinderInSync()
+	{
+		final Person person = new Person();
+		final Binder<Person> binder = new Binder<>();
+		binder.forField(this.name).bind(Person::getName, Person::setName);
+		binder.setBean(person);
+		
+		EditableLabels.updateAll(List.of(EditableLabels.update(this.name, "C")), true);
+		
+		assertEquals("C", person.getName());
+	}
+	
+	@Test
+	void rejectsLabelsOfDifferentUIs()
+	{
+		final EditableLabelTextField other = new EditableLabelTextField(TextField::new, null).withValue("X");
+		new BrowserlessUI().add(other);
+		
+		assertThrows(IllegalArgumentException.class, () -> EditableLabels.updateAll(List.of(
+			EditableLabels.update(this.name, "B"),
+			EditableLabels.update(other, "Y"))));
+		
+		// Nothing was modified
+		assertEquals("A", this.name.getValue());
+		assertEquals("X", other.getValue());
+		assertTrue(this.bulkEvents.isEmpty());
+	}
+	
+	@Test
+	void detachedLabelsFireNoBulkEvent()
+	{
+		final EditableLabelTextField detached = new EditableLabelTextField(TextField::new, null).withValue("X");
+		
+		EditableLabels.updateAll(List.of(EditableLabels.update(detached, "Y")));
+		
+		assertEquals("Y", detached.getValue());
+		assertTrue(this.bulkEvents.isEmpty());
+	}
+	
+	static class Person
+	{
+		private String name = "A";
+		
+		String getName()
+		{
+			return this.name;
+		}
+		
+		void setName(final String name)
+		{
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.combobox.ComboBox;
+
+import software.xdev.vaadin.editable_label.predefined.EditableLabelComboBox;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+
+
+/**
+ * Checks that configurations of a lazy initialized editor are applied once it's created.
+ */
+class EditorConfigurationTest
+{
+	@BeforeEach
+	void setCurrentUI()
+	{
+		UI.setCurrent(new BrowserlessUI());
+	}
+	
+	@AfterEach
+	void clearCurrentUI()
+	{
+		UI.setCurrent(null);
+	}
+	
+	@Test
+	void laterItemsReplaceEarlierItems()
+	{
+		final EditableLabelComboBox<String> label = new EditableLabelComboBox<>(ComboBox::new, null);
+		label.withItems("A", "B");
+		label.withItems("C");
+		assertFalse(label.isEditorCreated());
+		
+		label.setEditMode(true);
+		
+		assertEquals(List.of("C"), label.getEditor().getListDataView().getItems().toList());
+	}
+	
+	@Test
+	void dataViewItemsAreKeptWhenEditorIsRecreated()
+	{
+		final EditableLabelComboBox<String> label = new EditableLabelComboBox<>(ComboBox::new, null);
+		label.withItems("A");
+		label.setItems("B", "C");
+		assertTrue(label.isEditorCreated());
+		
+		label.releaseEditor();
+		label.setEditMode(true);
+		
+		assertEquals(List.of("B", "C"), label.getEditor().getListDataView().getItems().toList());
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openjdk.jol.info.GraphLayout;
+
+import com.sun.management.ThreadMXBean;
+import com.vaadin.flow.component.UI;
+
+import software.xdev.vaadin.editable_label.testing.Budgets;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+import software.xdev.vaadin.editable_label.testing.PredefinedLabelType;
+
+
+/**
+ * Checks the memory consumption of the predefined labels against <code>memory-budgets.properties</code>.
+ * <p/>
+ * Measures for each predefined label (with an eager and lazy initialized editor):
+ * <ul>
+ *     <li><code>retainedBytes</code> - the retained heap of a label attached to an UI</li>
+ *     <li><code>serializedBytes</code> - the size of a label in the serialized form of its UI (e.g. when the session
+ *     is replicated)</li>
+ *     <li><code>setValueAllocatedBytes</code> - the bytes allocated by a <code>setValue</code> cycle</li>
+ *     <li><code>editModeAllocatedBytes</code> - the bytes allocated by a <code>setEditMode(true/false)</code>
+ *     cycle</li>
+ * </ul>
+ * A cycle includes simulating the response to the client.
+ *
+ * @see Budgets
+ */
+class MemoryBudgetTest
+{
+	private static final Budgets BUDGETS = new Budgets("memory-budgets.properties", "Memory budgets in bytes");
+	
+	private static final int RETAINED_SAMPLE_SIZE = 10;
+	private static final int WARMUP_CYCLES = 2_000;
+	private static final int MEASURED_CYCLES = 1_000;
+	
+	static Stream<Arguments> labelTypes()
+	{
+		return Arrays.stream(PredefinedLabelType.values())
+			.flatMap(type -> Stream.of(Arguments.of(type, false), Arguments.of(type, true)));
+	}
+	
+	@AfterAll
+	static void writeRecordedBudgets() throws IOException
+	{
+		BUDGETS.writeIfRecording();
+	}
+	
+	/**
+	 * Measures the retained heap per label by comparing the graph of an UI before and after adding further labels.
+	 * This way objects that are shared between all labels are not counted.
+	 */
+	@ParameterizedTest(name = "{0} lazy={1}")
+	@MethodSource("labelTypes")
+	void retainedBytes(final PredefinedLabelType type, final boolean lazyEditor)
+	{
+		this.checkPerLabel(type, lazyEditor, "retainedBytes", ui -> GraphLayout.parseInstance(ui).totalSize());
+	}
+	
+	/**
+	 * Measures the serialized size per label in the same way as {@link #retainedBytes(PredefinedLabelType, boolean)}
+	 * so that the UI itself is not counted.
+	 */
+	@ParameterizedTest(name = "{0} lazy={1}")
+	@MethodSource("labelTypes")
+	void serializedBytes(final PredefinedLabelType type, final boolean lazyEditor)
+	{
+		this.checkPerLabel(type, lazyEditor, "serializedBytes", MemoryBudgetTest::serializedSize);
+	}
+	
+	@ParameterizedTest(name = "{0} lazy={1}")
+	@MethodSource("labelTypes")
+	void setValueAllocatedBytes(final PredefinedLabelType type, final boolean lazyEditor)
+	{
+		this.checkAllocated(type, lazyEditor, "setValueAllocatedBytes", new Consumer<>()
+		{
+			private boolean toggle;
+			
+			@Override
+			public void accept(final AbstractEditableLabel<?, ?, ?> label)
+			{
+				this.toggle = !this.toggle;
+				PredefinedLabelType.setValue(label, this.toggle ? type.getValueB() : type.getValueA());
+			}
+		});
+	}
+	
+	@ParameterizedTest(name = "{0} lazy={1}")
+	@MethodSource("labelTypes")
+	void editModeAllocatedBytes(final PredefinedLabelType type, final boolean lazyEditor)
+	{
+		this.checkAllocated(type, lazyEditor, "editModeAllocatedBytes", label -> {
+			label.setEditMode(true);
+			label.setEditMode(false);
+		});
+	}
+	
+	private void checkPerLabel(
+		final PredefinedLabelType type,
+		final boolean lazyEditor,
+		final String metric,
+		final ToLongFunction<UI> measure)
+	{
+		final BrowserlessUI ui = new BrowserlessUI();
+		UI.setCurrent(ui);
+		try
+		{
+			addLabels(ui, type, lazyEditor);
+			final long before = measure.applyAsLong(ui);
+			
+			addLabels(ui, type, lazyEditor);
+			final long after = measure.applyAsLong(ui);
+			
+			BUDGETS.check(key(type, lazyEditor, metric), (after - before) / RETAINED_SAMPLE_SIZE);
+		}
+		finally
+		{
+			UI.setCurrent(null);
+		}
+	}
+	
+	private void checkAllocated(
+		final PredefinedLabelType type,
+		final boolean lazyEditor,
+		final String metric,
+		final Consumer<AbstractEditableLabel<?, ?, ?>> cycle)
+	{
+		final ThreadMXBean threadMXBean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+		
+		final BrowserlessUI ui = new BrowserlessUI();
+		UI.setCurrent(ui);
+		try
+		{
+			final AbstractEditableLabel<?, ?, ?> label = type.create(lazyEditor);
+			ui.add(label);
+			ui.flushResponse();
+			
+			for(int i = 0; i < WARMUP_CYCLES; i++)
+			{
+				cycle.accept(label);
+				ui.flushResponse();
+			}
+			
+			final long before = threadMXBean.getCurrentThreadAllocatedBytes();
+			for(int i = 0; i < MEASURED_CYCLES; i++)
+			{
+				cycle.accept(label);
+				ui.flushResponse();
+			}
+			final long allocated = (threadMXBean.getCurrentThreadAllocatedBytes() - before) / MEASURED_CYCLES;
+			
+			BUDGETS.check(key(type, lazyEditor, metric), allocated);
+		}
+		finally
+		{
+			UI.setCurrent(null);
+		}
+	}
+	
+	private static String key(final PredefinedLabelType type, final boolean lazyEditor, final String metric)
+	{
+		return type.key() + "." + (lazyEditor ? "lazy" : "eager") + "." + metric;
+	}
+	
+	private static void addLabels(final BrowserlessUI ui, final PredefinedLabelType type, final boolean lazyEditor)
+	{
+		for(int i = 0; i < RETAINED_SAMPLE_SIZE; i++)
+		{
+			final AbstractEditableLabel<?, ?, ?> label = type.create(lazyEditor);
+			PredefinedLabelType.setValue(label, type.getValueA());
+			ui.add(label);
+		}
+		ui.flushResponse();
+	}
+	
+	// Only counts the written bytes - nothing is deserialized
+	@SuppressWarnings("PMD.JavaObjectSerializationIsUnsafe")
+	static long serializedSize(final Object obj)
+	{
+		final CountingOutputStream counter = new CountingOutputStream();
+		try(final ObjectOutputStream out = new ObjectOutputStream(counter))
+		{
+			out.writeObject(obj);
+		}
+		catch(final IOException ioe)
+		{
+			throw new UncheckedIOException(ioe);
+		}
+		return counter.count;
+	}
+	
+	static final class CountingOutputStream extends OutputStream
+	{
+		private long count;
+		
+		@Override
+		public void write(final int b)
+		{
+			this.count++;
+		}
+		
+		@Override
+		public void write(final byte[] b, final int off, final int len)
+		{
+			this.count += len;
+		}
+	}
+}
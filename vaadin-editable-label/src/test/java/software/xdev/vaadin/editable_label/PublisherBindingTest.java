@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.textfield.TextField;
+
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextField;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+import software.xdev.vaadin.editable_label.testing.PredefinedLabelType;
+import software.xdev.vaadin.editable_label.testing.Serialization;
+
+
+class PublisherBindingTest
+{
+	private static final long WAIT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+	
+	private final List<String> valueChanges = new ArrayList<>();
+	
+	private BrowserlessUI ui;
+	private EditableLabelTextField label;
+	private ManualPublisher publisher;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.ui = new BrowserlessUI();
+		UI.setCurrent(this.ui);
+		this.publisher = new ManualPublisher();
+		
+		this.label = new EditableLabelTextField(TextField::new, null).withValue("A");
+		// Doesn't capture the (not serializable) test
+		final List<String> changes = this.valueChanges;
+		this.label.addValueChangeListener(ev -> changes.add(ev.getValue()));
+		this.label.bindPublisher(this.publisher, Duration.ZERO);
+		this.ui.add(this.label);
+	}
+	
+	@AfterEach
+	void clearCurrentUI()
+	{
+		UI.setCurrent(null);
+	}
+	
+	/**
+	 * Publishes the value and waits until it was delivered to the UI.
+	 */
+	private void publish(final String value)
+	{
+		assertNotNull(this.publisher.subscriber, "Subscribed");
+		this.publisher.subscriber.onNext(value);
+		
+		final long deadline = System.nanoTime() + WAIT_TIMEOUT_NANOS;
+		while(this.ui.runPendingAccessTasks() == 0)
+		{
+			if(System.nanoTime() - deadline > 0)
+			{
+				fail("The published value was not delivered in time");
+			}
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+		}
+	}
+	
+	@Test
+	void publishedValueIsDisplayed()
+	{
+		this.publish("P");
+		
+		assertEquals("P", this.label.getValue());
+		assertEquals(List.of("P"), this.valueChanges);
+	}
+	
+	@Test
+	void savedValueIsNotOverwrittenByPausedValue()
+	{
+		this.label.setEditMode(true);
+		this.publish("P");
+		// Paused while editing
+		assertEquals("A", this.label.getValue());
+		
+		this.label.getEditor().setValue("U");
+		PredefinedLabelType.clickButton(this.label, EditableLabelStyles.SAVE_BUTTON);
+		
+		assertFalse(this.label.isEditMode());
+		assertEquals("U", this.label.getValue());
+		assertEquals(List.of("U"), this.valueChanges);
+	}
+	
+	@Test
+	void pausedValueIsAppliedOnCancel()
+	{
+		this.label.setEditMode(true);
+		this.publish("P");
+		this.publish("Q");
+		
+		PredefinedLabelType.clickButton(this.label, EditableLabelStyles.CLOSE_BUTTON);
+		
+		assertEquals("Q", this.label.getValue());
+		assertEquals(List.of("Q"), this.valueChanges);
+	}
+	
+	@Test
+	void deserializedBindingIsInert()
+	{
+		this.publish("P");
+		
+		final BrowserlessUI uiCopy = Serialization.roundTrip(this.ui);
+		final EditableLabelTextField copy =
+			(EditableLabelTextField)uiCopy.getChildren().findFirst().orElseThrow();
+		// Attaching again must not fail - the binding can't subscribe again
+		uiCopy.remove(copy);
+		uiCopy.add(copy);
+		
+		assertEquals("P", copy.getValue());
+		assertEquals(0, uiCopy.runPendingAccessTasks());
+		// Editing still works
+		copy.setEditMode(true);
+		copy.getEditor().setValue("U");
+		PredefinedLabelType.clickButton(copy, EditableLabelStyles.SAVE_BUTTON);
+		assertEquals("U", copy.getValue());
+	}
+	
+	/**
+	 * Publisher that is controlled by the test. Not serializable - like most real publishers.
+	 */
+	static class ManualPublisher implements Flow.Publisher<String>
+	{
+		Flow.Subscriber<? super String> subscriber;
+		boolean cancelled;
+		
+		@Override
+		public void subscribe(final Flow.Subscriber<? super String> newSubscriber)
+		{
+			this.subscriber = newSubscriber;
+			this.cancelled = false;
+			newSubscriber.onSubscribe(new Flow.Subscription()
+			{
+				@Override
+				public void request(final long n)
+				{
+					// Values are pushed by the test
+				}
+				
+				@Override
+				public void cancel()
+				{
+					ManualPublisher.this.cancelled = true;
+				}
+			});
+		}
+	}
+}
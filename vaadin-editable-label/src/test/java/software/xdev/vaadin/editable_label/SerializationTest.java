@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.icon.VaadinIcon;
+
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+import software.xdev.vaadin.editable_label.testing.PredefinedLabelType;
+import software.xdev.vaadin.editable_label.testing.Serialization;
+
+
+/**
+ * Checks the serialized form of the predefined labels (e.g. when the session is replicated).
+ * <p/>
+ * The serialized size per label is checked by {@link MemoryBudgetTest}.
+ */
+class SerializationTest
+{
+	private static final AtomicInteger CLOSE_CLICKS = new AtomicInteger();
+	
+	@AfterEach
+	void clearCurrentUI()
+	{
+		UI.setCurrent(null);
+	}
+	
+	@ParameterizedTest(name = "{0} lazy={1}")
+	@MethodSource("software.xdev.vaadin.editable_label.MemoryBudgetTest#labelTypes")
+	void editAfterDeserialization(final PredefinedLabelType type, final boolean lazyEditor)
+	{
+		final BrowserlessUI ui = new BrowserlessUI();
+		UI.setCurrent(ui);
+		final AbstractEditableLabel<?, ?, ?> label = type.create(lazyEditor);
+		PredefinedLabelType.setValue(label, type.getValueA());
+		ui.add(label);
+		ui.flushResponse();
+		
+		final BrowserlessUI copy = Serialization.roundTrip(ui);
+		UI.setCurrent(copy);
+		final AbstractEditableLabel<?, ?, ?> labelCopy = (AbstractEditableLabel<?, ?, ?>)copy.getChildren()
+			.findFirst()
+			.orElseThrow();
+		assertEquals(type.getValueA(), labelCopy.getValue());
+		
+		labelCopy.setEditMode(true);
+		PredefinedLabelType.setEditorValue(labelCopy, type.getValueB());
+		PredefinedLabelType.clickButton(labelCopy, EditableLabelStyles.SAVE_BUTTON);
+		assertFalse(labelCopy.isEditMode());
+		assertEquals(type.getValueB(), labelCopy.getValue());
+		
+		labelCopy.setEditMode(true);
+		PredefinedLabelType.clickButton(labelCopy, EditableLabelStyles.CLOSE_BUTTON);
+		assertFalse(labelCopy.isEditMode());
+		assertEquals(type.getValueB(), labelCopy.getValue());
+	}
+	
+	@ParameterizedTest(name = "{0} lazy={1}")
+	@MethodSource("software.xdev.vaadin.editable_label.MemoryBudgetTest#labelTypes")
+	void editButtonsOnlySerializedInEditMode(final PredefinedLabelType type, final boolean lazyEditor)
+	{
+		final BrowserlessUI ui = new BrowserlessUI();
+		UI.setCurrent(ui);
+		final AbstractEditableLabel<?, ?, ?> label = type.create(lazyEditor);
+		PredefinedLabelType.setValue(label, type.getValueA());
+		ui.add(label);
+		ui.flushResponse();
+		assertFalse(areEditButtonsSerialized(label), "Before edit mode");
+		
+		label.setEditMode(true);
+		ui.flushResponse();
+		assertTrue(areEditButtonsSerialized(label), "In edit mode");
+		
+		label.setEditMode(false);
+		ui.flushResponse();
+		assertFalse(areEditButtonsSerialized(label), "After edit mode");
+	}
+	
+	static boolean areEditButtonsSerialized(final AbstractEditableLabel<?, ?, ?> label)
+	{
+		return isWritten(label, label.btnSave) && isWritten(label, label.btnClose);
+	}
+	
+	/**
+	 * @return if the candidate is written when serializing the root object
+	 */
+	// Nothing is deserialized
+	@SuppressWarnings("PMD.JavaObjectSerializationIsUnsafe")
+	static boolean isWritten(final Object root, final Object candidate)
+	{
+		final boolean[] written = {false};
+		try(final ObjectOutputStream out = new ObjectOutputStream(OutputStream.nullOutputStream())
+		{
+			{
+				this.enableReplaceObject(true);
+			}
+			
+			@Override
+			protected Object replaceObject(final Object obj)
+			{
+				written[0] |= obj == candidate;
+				return obj;
+			}
+		})
+		{
+			out.writeObject(root);
+		}
+		catch(final IOException ioe)
+		{
+			throw new UncheckedIOException(ioe);
+		}
+		return written[0];
+	}
+	
+	@ParameterizedTest(name = "{0} lazy={1}")
+	@MethodSource("software.xdev.vaadin.editable_label.MemoryBudgetTest#labelTypes")
+	void customizedEditButtonsAreKept(final PredefinedLabelType type, final boolean lazyEditor)
+	{
+		final BrowserlessUI ui = new BrowserlessUI();
+		UI.setCurrent(ui);
+		final AbstractEditableLabel<?, ?, ?> label = type.create(lazyEditor);
+		label.withSaveIcon(VaadinIcon.DISC.create());
+		ui.add(label);
+		ui.flushResponse();
+		
+		final BrowserlessUI copy = Serialization.roundTrip(ui);
+		UI.setCurrent(copy);
+		final AbstractEditableLabel<?, ?, ?> labelCopy = (AbstractEditableLabel<?, ?, ?>)copy.getChildren()
+			.findFirst()
+			.orElseThrow();
+		
+		assertEquals("vaadin:disc", labelCopy.btnSave.getIcon().getElement().getAttribute("icon"));
+	}
+	
+	@ParameterizedTest(name = "{0} lazy={1}")
+	@MethodSource("software.xdev.vaadin.editable_label.MemoryBudgetTest#labelTypes")
+	void customizersAreReappliedToRecreatedButtons(final PredefinedLabelType type, final boolean lazyEditor)
+	{
+		final BrowserlessUI ui = new BrowserlessUI();
+		UI.setCurrent(ui);
+		final AbstractEditableLabel<?, ?, ?> label = type.create(lazyEditor)
+			.withSaveButtonCustomizer(btn -> {
+				btn.setTooltipText("Save changes");
+				btn.setAriaLabel("Save");
+				btn.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+			})
+			.withCloseButtonCustomizer(btn -> btn.addClickListener(ev -> CLOSE_CLICKS.incrementAndGet()));
+		ui.add(label);
+		ui.flushResponse();
+		assertFalse(areEditButtonsSerialized(label));
+		
+		final BrowserlessUI copy = Serialization.roundTrip(ui);
+		UI.setCurrent(copy);
+		final AbstractEditableLabel<?, ?, ?> labelCopy = (AbstractEditableLabel<?, ?, ?>)copy.getChildren()
+			.findFirst()
+			.orElseThrow();
+		
+		assertEquals("Save changes", labelCopy.btnSave.getTooltip().getText());
+		assertEquals("Save", labelCopy.btnSave.getAriaLabel().orElseThrow());
+		assertTrue(labelCopy.btnSave.getThemeNames().contains(ButtonVariant.LUMO_PRIMARY.getVariantName()));
+		
+		final int closeClicks = CLOSE_CLICKS.get();
+		labelCopy.setEditMode(true);
+		PredefinedLabelType.clickButton(labelCopy, EditableLabelStyles.CLOSE_BUTTON);
+		assertEquals(closeClicks + 1, CLOSE_CLICKS.get());
+		assertFalse(labelCopy.isEditMode());
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.vaadin.flow.component.UI;
+
+import software.xdev.vaadin.editable_label.testing.Budgets;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI.UidlPayload;
+import software.xdev.vaadin.editable_label.testing.PredefinedLabelType;
+
+
+/**
+ * Checks the payload that is sent to the client for the interactions with the predefined labels against
+ * <code>uidl-budgets.properties</code>.
+ * <p/>
+ * Measures for each predefined label (with an eager and lazy initialized editor) and each interaction:
+ * <ul>
+ *     <li><code>changes</code> - the amount of state tree changes</li>
+ *     <li><code>bytes</code> - the size of the encoded UIDL changes and JavaScript invocations</li>
+ * </ul>
+ * Interactions (executed in this order on the same label):
+ * <ul>
+ *     <li><code>attach</code> - attaching a label with a value</li>
+ *     <li><code>setValue</code> - changing the value from the server</li>
+ *     <li><code>enterEdit</code> - entering the edit mode for the first time</li>
+ *     <li><code>save</code> - clicking the save button after the editor value was changed</li>
+ *     <li><code>cancel</code> - clicking the close button</li>
+ *     <li><code>setReadOnly</code> - making the label read only</li>
+ * </ul>
+ * Changes that would be caused by the browser itself (e.g. the user typing into the editor) are not counted.
+ *
+ * @see Budgets
+ */
+class UidlBudgetTest
+{
+	private static final Budgets BUDGETS =
+		new Budgets("uidl-budgets.properties", "UIDL payload budgets per interaction (changes and bytes)");
+	
+	@AfterAll
+	static void writeRecordedBudgets() throws IOException
+	{
+		BUDGETS.writeIfRecording();
+	}
+	
+	@ParameterizedTest(name = "{0} lazy={1}")
+	@MethodSource("software.xdev.vaadin.editable_label.MemoryBudgetTest#labelTypes")
+	void interactions(final PredefinedLabelType type, final boolean lazyEditor)
+	{
+		final String prefix = type.key() + "." + (lazyEditor ? "lazy" : "eager") + ".";
+		measureInteractions(type, lazyEditor).forEach((interaction, payload) -> {
+			BUDGETS.check(prefix + interaction + ".changes", payload.changes());
+			BUDGETS.check(prefix + interaction + ".bytes", payload.bytes());
+		});
+	}
+	
+	static Map<String, UidlPayload> measureInteractions(final PredefinedLabelType type, final boolean lazyEditor)
+	{
+		final Map<String, UidlPayload> payloads = new LinkedHashMap<>();
+		
+		final BrowserlessUI ui = new BrowserlessUI();
+		UI.setCurrent(ui);
+		try
+		{
+			final AbstractEditableLabel<?, ?, ?> label = type.create(lazyEditor);
+			// The label is configured before it's attached - this is already part of the initial response
+			PredefinedLabelType.setValue(label, type.getValueA());
+			ui.flushResponse();
+			
+			payloads.put("attach", measure(ui, () -> ui.add(label)));
+			payloads.put("setValue", measure(ui, () -> PredefinedLabelType.setValue(label, type.getValueB())));
+			payloads.put("enterEdit", measure(ui, () -> label.setEditMode(true)));
+			
+			// Typed by the user - already known by the browser
+			PredefinedLabelType.setEditorValue(label, type.getValueA());
+			ui.flushResponse();
+			payloads.put(
+				"save",
+				measure(ui, () -> PredefinedLabelType.clickButton(label, EditableLabelStyles.SAVE_BUTTON)));
+			
+			label.setEditMode(true);
+			ui.flushResponse();
+			payloads.put(
+				"cancel",
+				measure(ui, () -> PredefinedLabelType.clickButton(label, EditableLabelStyles.CLOSE_BUTTON)));
+			
+			payloads.put("setReadOnly", measure(ui, () -> label.setReadOnly(true)));
+		}
+		finally
+		{
+			UI.setCurrent(null);
+		}
+		return payloads;
+	}
+	
+	private static UidlPayload measure(final BrowserlessUI ui, final Runnable interaction)
+	{
+		interaction.run();
+		return ui.flushResponseAsUidl();
+	}
+}
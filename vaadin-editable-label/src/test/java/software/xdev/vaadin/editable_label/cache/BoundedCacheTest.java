@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import software.xdev.vaadin.editable_label.testing.Serialization;
+
+
+class BoundedCacheTest
+{
+	@Test
+	void leastRecentlyUsedEntryIsEvicted()
+	{
+		// 16 segments with 2 entries each; small integers are assigned to segment (key % 16)
+		final BoundedCache<Integer, String> cache = new BoundedCache<>(CacheSpec.maximumSize(32));
+		cache.put(0, "0");
+		cache.put(16, "16");
+		// Access 0 so that 16 is the least recently used entry of the segment
+		cache.getIfPresent(0);
+		cache.put(32, "32");
+		
+		assertEquals("0", cache.getIfPresent(0));
+		assertNull(cache.getIfPresent(16));
+		assertEquals("32", cache.getIfPresent(32));
+		assertEquals(1, cache.getStats().evictionCount());
+	}
+	
+	@Test
+	void maximumSizeIsNeverExceeded()
+	{
+		final BoundedCache<Integer, Integer> cache = new BoundedCache<>(CacheSpec.maximumSize(20));
+		for(int i = 0; i < 1_000; i++)
+		{
+			cache.put(i, i);
+		}
+		
+		final CacheStats stats = cache.getStats();
+		assertEquals(20, stats.size());
+		assertEquals(1_000 - 20, stats.evictionCount());
+	}
+	
+	@Test
+	void entriesExpireAfterWrite() throws InterruptedException
+	{
+		final BoundedCache<String, String> cache = new BoundedCache<>(
+			CacheSpec.defaults().withExpireAfterWrite(Duration.ofMillis(20)));
+		final BoundedCache<String, String> longLivedCache = new BoundedCache<>(
+			CacheSpec.defaults().withExpireAfterWrite(Duration.ofHours(1)));
+		cache.put("key", "value");
+		longLivedCache.put("key", "value");
+		
+		Thread.sleep(50);
+		
+		assertNull(cache.getIfPresent("key"));
+		assertEquals(1, cache.getStats().evictionCount());
+		assertEquals(0, cache.getStats().size());
+		assertEquals("value", longLivedCache.getIfPresent("key"));
+	}
+	
+	@Test
+	void loadedValuesAreCached()
+	{
+		final BoundedCache<String, String> cache = new BoundedCache<>(CacheSpec.defaults());
+		final AtomicInteger loads = new AtomicInteger();
+		
+		assertEquals("A", cache.get("a", k -> {
+			loads.incrementAndGet();
+			return k.toUpperCase();
+		}));
+		assertEquals("A", cache.get("a", k -> {
+			loads.incrementAndGet();
+			return k.toUpperCase();
+		}));
+		// null is not cached
+		assertNull(cache.get("b", k -> null));
+		assertNull(cache.getIfPresent("b"));
+		
+		assertEquals(1, loads.get());
+		final CacheStats stats = cache.getStats();
+		assertEquals(1, stats.hitCount());
+		assertEquals(3, stats.missCount());
+		assertEquals(0.25, stats.hitRate());
+	}
+	
+	@Test
+	void hitRateWithoutRequestsIsZero()
+	{
+		assertEquals(0.0, new BoundedCache<>(CacheSpec.defaults()).getStats().hitRate());
+	}
+	
+	@Test
+	void invalidation()
+	{
+		final BoundedCache<Integer, Integer> cache = new BoundedCache<>(CacheSpec.defaults());
+		for(int i = 0; i < 10; i++)
+		{
+			cache.put(i, i);
+		}
+		
+		cache.invalidate(0);
+		cache.invalidateIf(k -> k % 2 == 1);
+		assertNull(cache.getIfPresent(0));
+		assertNull(cache.getIfPresent(1));
+		assertEquals(2, cache.getIfPresent(2));
+		assertEquals(4, cache.getStats().size());
+		
+		cache.invalidateAll();
+		assertEquals(0, cache.getStats().size());
+	}
+	
+	@Test
+	void concurrentAccess() throws Exception
+	{
+		final int maximumSize = 100;
+		final int threads = 8;
+		final int requestsPerThread = 10_000;
+		final BoundedCache<Integer, Integer> cache = new BoundedCache<>(CacheSpec.maximumSize(maximumSize));
+		
+		final List<Future<Boolean>> results = new ArrayList<>();
+		try(final ExecutorService executor = Executors.newFixedThreadPool(threads))
+		{
+			for(int t = 0; t < threads; t++)
+			{
+				results.add(executor.submit(() -> {
+					boolean allCorrect = true;
+					for(int i = 0; i < requestsPerThread; i++)
+					{
+						final int key = ThreadLocalRandom.current().nextInt(2 * maximumSize);
+						allCorrect &= cache.get(key, k -> k * 2) == key * 2;
+					}
+					return allCorrect;
+				}));
+			}
+		}
+		
+		for(final Future<Boolean> result : results)
+		{
+			assertTrue(result.get(1, TimeUnit.MINUTES));
+		}
+		final CacheStats stats = cache.getStats();
+		assertEquals((long)threads * requestsPerThread, stats.requestCount());
+		assertTrue(stats.size() <= maximumSize, "size=" + stats.size());
+	}
+	
+	@Test
+	void entriesAreNotSerialized()
+	{
+		final BoundedCache<String, String> cache = new BoundedCache<>(CacheSpec.maximumSize(5));
+		cache.put("key", "value");
+		
+		final BoundedCache<String, String> copy = Serialization.roundTrip(cache);
+		
+		assertNull(copy.getIfPresent("key"));
+		assertEquals(5, copy.getSpec().getMaximumSize());
+		copy.put("key", "value");
+		assertEquals("value", copy.getIfPresent("key"));
+	}
+}
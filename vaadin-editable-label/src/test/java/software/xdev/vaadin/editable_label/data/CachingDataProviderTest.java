@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+
+import software.xdev.vaadin.editable_label.cache.CacheSpec;
+
+
+class CachingDataProviderTest
+{
+	private static final int PAGE_SIZE = 5;
+	private static final List<String> ITEMS = IntStream.range(0, 12).mapToObj(i -> "Item " + i).toList();
+	
+	private final AtomicInteger fetches = new AtomicInteger();
+	private final AtomicInteger counts = new AtomicInteger();
+	
+	private QueryCache<String> createCache()
+	{
+		final AtomicInteger fetchCounter = this.fetches;
+		final AtomicInteger countCounter = this.counts;
+		return new QueryCache<>(
+			DataProvider.fromFilteringCallbacks(
+				query -> {
+					fetchCounter.incrementAndGet();
+					return filter(query).skip(query.getOffset()).limit(query.getLimit());
+				},
+				query -> {
+					countCounter.incrementAndGet();
+					return (int)filter(query).count();
+				}),
+			CacheSpec.defaults());
+	}
+	
+	private static Stream<String> filter(final Query<String, String> query)
+	{
+		final String filter = query.getFilter().orElse("");
+		return ITEMS.stream().filter(item -> item.contains(filter));
+	}
+	
+	private static List<String> fetch(final CachingDataProvider<String> provider, final String filter)
+	{
+		return provider.fetch(new Query<>(0, PAGE_SIZE, List.of(), null, filter)).toList();
+	}
+	
+	private static int size(final CachingDataProvider<String> provider, final String filter)
+	{
+		return provider.size(new Query<>(0, PAGE_SIZE, List.of(), null, filter));
+	}
+	
+	@Test
+	void sharedCacheServesAllProviders()
+	{
+		final QueryCache<String> cache = this.createCache();
+		final CachingDataProvider<String> first = new CachingDataProvider<>(cache);
+		final CachingDataProvider<String> second = new CachingDataProvider<>(cache);
+		
+		assertEquals(ITEMS.subList(0, PAGE_SIZE), fetch(first, ""));
+		assertEquals(ITEMS.subList(0, PAGE_SIZE), fetch(second, ""));
+		assertEquals(ITEMS.size(), size(first, ""));
+		assertEquals(ITEMS.size(), size(second, ""));
+		
+		assertEquals(1, this.fetches.get());
+		assertEquals(1, this.counts.get());
+		assertEquals(1, cache.getFetchStats().hitCount());
+		assertEquals(1, second.getCountStats().hitCount());
+	}
+	
+	@Test
+	void refreshOnlyNotifiesOwnListeners()
+	{
+		final QueryCache<String> cache = this.createCache();
+		final CachingDataProvider<String> first = new CachingDataProvider<>(cache);
+		final CachingDataProvider<String> second = new CachingDataProvider<>(cache);
+		final AtomicInteger firstRefreshes = new AtomicInteger();
+		final AtomicInteger secondRefreshes = new AtomicInteger();
+		first.addDataProviderListener(ev -> firstRefreshes.incrementAndGet());
+		second.addDataProviderListener(ev -> secondRefreshes.incrementAndGet());
+		fetch(first, "");
+		
+		first.refreshAll();
+		
+		assertEquals(1, firstRefreshes.get());
+		assertEquals(0, secondRefreshes.get());
+		// The shared results were invalidated nevertheless
+		fetch(second, "");
+		assertEquals(2, this.fetches.get());
+	}
+	
+	@Test
+	void invalidateOnlyRemovesResultsOfFilter()
+	{
+		final CachingDataProvider<String> provider = new CachingDataProvider<>(this.createCache());
+		assertEquals(List.of("Item 1", "Item 10", "Item 11"), fetch(provider, "1"));
+		assertEquals(3, size(provider, "1"));
+		fetch(provider, "2");
+		size(provider, "2");
+		
+		provider.invalidate("1");
+		fetch(provider, "1");
+		size(provider, "1");
+		fetch(provider, "2");
+		size(provider, "2");
+		
+		assertEquals(3, this.fetches.get());
+		assertEquals(3, this.counts.get());
+	}
+	
+	@Test
+	void sortedQueriesAreNotCached()
+	{
+		final CachingDataProvider<String> provider = new CachingDataProvider<>(this.createCache());
+		final Query<String, String> sorted =
+			new Query<>(0, PAGE_SIZE, QuerySortOrder.asc("name").build(), null, "");
+		
+		assertEquals(ITEMS.subList(0, PAGE_SIZE), provider.fetch(sorted).toList());
+		assertEquals(ITEMS.subList(0, PAGE_SIZE), provider.fetch(sorted).toList());
+		
+		assertEquals(2, this.fetches.get());
+		assertEquals(0, provider.getFetchStats().requestCount());
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.data.provider.DataChangeEvent;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.shared.Registration;
+
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+import software.xdev.vaadin.editable_label.testing.Serialization;
+
+
+class IndexedDataProviderTest
+{
+	private final TrigramIndex<String> index =
+		new TrigramIndex<>(List.of("Berlin", "Bern", "Ulm"), String::valueOf);
+	
+	@AfterEach
+	void clearCurrentUI()
+	{
+		UI.setCurrent(null);
+	}
+	
+	private static List<DataChangeEvent<String>> listen(final IndexedDataProvider<String> provider, final UI ui)
+	{
+		UI.setCurrent(ui);
+		final List<DataChangeEvent<String>> events = new ArrayList<>();
+		provider.addDataProviderListener(events::add);
+		UI.setCurrent(null);
+		return events;
+	}
+	
+	@Test
+	void queriesTheIndex()
+	{
+		final IndexedDataProvider<String> provider = new IndexedDataProvider<>(this.index);
+		
+		assertEquals(List.of("Bern"), provider.fetch(new Query<>(1, 5, List.of(), null, "ber")).toList());
+		assertEquals(2, provider.size(new Query<>(0, 5, List.of(), null, "ber")));
+	}
+	
+	@Test
+	void changesAreDeliveredInTheUIOfEachProvider()
+	{
+		final BrowserlessUI firstUI = new BrowserlessUI();
+		final BrowserlessUI secondUI = new BrowserlessUI();
+		final List<DataChangeEvent<String>> firstEvents = listen(new IndexedDataProvider<>(this.index), firstUI);
+		final List<DataChangeEvent<String>> secondEvents = listen(new IndexedDataProvider<>(this.index), secondUI);
+		
+		// e.g. from a background thread
+		this.index.addItems(List.of("Bergen"));
+		
+		assertTrue(firstEvents.isEmpty());
+		assertTrue(secondEvents.isEmpty());
+		
+		firstUI.runPendingAccessTasks();
+		assertEquals(1, firstEvents.size());
+		assertTrue(secondEvents.isEmpty());
+		
+		secondUI.runPendingAccessTasks();
+		assertEquals(1, secondEvents.size());
+	}
+	
+	@Test
+	void refreshedItemsAreForwarded()
+	{
+		final IndexedDataProvider<String> provider = new IndexedDataProvider<>(this.index);
+		final List<DataChangeEvent<String>> events = listen(provider, null);
+		
+		provider.refreshItem("Ulm");
+		
+		final DataChangeEvent.DataRefreshEvent<String> event =
+			assertInstanceOf(DataChangeEvent.DataRefreshEvent.class, events.get(0));
+		assertEquals("Ulm", event.getItem());
+		assertEquals(provider, event.getSource());
+	}
+	
+	@Test
+	void onlyListensToTheIndexWhileHavingListeners()
+	{
+		final IndexedDataProvider<String> provider = new IndexedDataProvider<>(this.index);
+		
+		UI.setCurrent(new BrowserlessUI());
+		final Registration first = provider.addDataProviderListener(event -> {
+		});
+		final Registration second = provider.addDataProviderListener(event -> {
+		});
+		assertEquals(1, this.index.changeListeners.size());
+		
+		first.remove();
+		first.remove();
+		assertEquals(1, this.index.changeListeners.size());
+		second.remove();
+		assertTrue(this.index.changeListeners.isEmpty());
+	}
+	
+	@Test
+	void deserializedProviderListensToItsIndex()
+	{
+		final IndexedDataProvider<String> provider = new IndexedDataProvider<>(this.index);
+		listen(provider, null);
+		
+		final IndexedDataProvider<String> copy = Serialization.roundTrip(provider);
+		
+		assertEquals(1, copy.getIndex().changeListeners.size());
+		assertEquals(this.index.getItems(), copy.getItems());
+	}
+}
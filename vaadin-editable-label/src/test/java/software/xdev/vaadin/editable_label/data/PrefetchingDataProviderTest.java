@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.Query;
+
+import software.xdev.vaadin.editable_label.testing.Serialization;
+
+
+class PrefetchingDataProviderTest
+{
+	private static final int PAGE_SIZE = 5;
+	private static final List<String> ITEMS = IntStream.range(0, 12).mapToObj(i -> "Item " + i).toList();
+	
+	private final AtomicInteger fetches = new AtomicInteger();
+	private final AtomicBoolean failing = new AtomicBoolean();
+	private final List<Runnable> executedPrefetches = new ArrayList<>();
+	
+	private PrefetchingDataProvider<String> createProvider()
+	{
+		final AtomicInteger counter = this.fetches;
+		final AtomicBoolean fail = this.failing;
+		return new PrefetchingDataProvider<>(
+			DataProvider.fromFilteringCallbacks(
+				query -> {
+					counter.incrementAndGet();
+					if(fail.get())
+					{
+						throw new IllegalStateException("Backend unavailable");
+					}
+					return ITEMS.stream().skip(query.getOffset()).limit(query.getLimit());
+				},
+				query -> ITEMS.size()),
+			PAGE_SIZE);
+	}
+	
+	private static List<String> fetchFirstPage(final PrefetchingDataProvider<String> provider)
+	{
+		return provider.fetch(new Query<>(0, PAGE_SIZE, List.of(), null, null)).toList();
+	}
+	
+	@Test
+	void firstPageIsServedFromPrefetch()
+	{
+		final PrefetchingDataProvider<String> provider = this.createProvider();
+		
+		final CompletableFuture<List<String>> prefetch = provider.prefetch(this.executedPrefetches::add);
+		// Prefetching again while running doesn't query twice
+		assertSame(prefetch, provider.prefetch(this.executedPrefetches::add));
+		assertEquals(1, this.executedPrefetches.size());
+		this.executedPrefetches.forEach(Runnable::run);
+		
+		assertTrue(provider.isPrefetched());
+		assertEquals(ITEMS.subList(0, PAGE_SIZE), fetchFirstPage(provider));
+		assertEquals(1, this.fetches.get());
+		
+		// Other pages are queried
+		assertEquals(
+			ITEMS.subList(PAGE_SIZE, 2 * PAGE_SIZE),
+			provider.fetch(new Query<>(PAGE_SIZE, PAGE_SIZE, List.of(), null, null)).toList());
+		assertEquals(2, this.fetches.get());
+	}
+	
+	@Test
+	void failedPrefetchFallsBackToQuery()
+	{
+		final PrefetchingDataProvider<String> provider = this.createProvider();
+		this.failing.set(true);
+		provider.prefetch(Runnable::run);
+		assertFalse(provider.isPrefetched());
+		
+		this.failing.set(false);
+		assertEquals(ITEMS.subList(0, PAGE_SIZE), fetchFirstPage(provider));
+		
+		// Can be prefetched again
+		provider.prefetch(Runnable::run);
+		assertTrue(provider.isPrefetched());
+	}
+	
+	@Test
+	void refreshDiscardsPrefetch()
+	{
+		final PrefetchingDataProvider<String> provider = this.createProvider();
+		provider.prefetch(Runnable::run);
+		
+		provider.refreshAll();
+		
+		assertFalse(provider.isPrefetched());
+		fetchFirstPage(provider);
+		assertEquals(2, this.fetches.get());
+	}
+	
+	@Test
+	void prefetchIsNotSerialized()
+	{
+		final PrefetchingDataProvider<String> provider = this.createProvider();
+		provider.prefetch(Runnable::run);
+		
+		final PrefetchingDataProvider<String> copy = Serialization.roundTrip(provider);
+		
+		assertFalse(copy.isPrefetched());
+		copy.prefetch(Runnable::run);
+		assertTrue(copy.isPrefetched());
+	}
+}
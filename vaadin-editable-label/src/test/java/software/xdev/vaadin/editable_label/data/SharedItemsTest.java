@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.function.SerializableSupplier;
+
+import software.xdev.vaadin.editable_label.testing.Serialization;
+
+
+class SharedItemsTest
+{
+	private static final String NAME = "shared-items-test";
+	private static final SharedItemsKey<String> KEY = SharedItemsKey.of(NAME, String.class);
+	
+	private final SharedItemsRegistry registry = SharedItemsRegistry.getDefault();
+	
+	@AfterEach
+	void removeItems()
+	{
+		this.registry.remove(NAME);
+	}
+	
+	@Test
+	void itemsAreLoadedOnceUntilRefreshed()
+	{
+		final AtomicInteger loads = new AtomicInteger();
+		final SharedItems<String> items = this.registry.getOrRegister(
+			KEY,
+			() -> List.of("Item " + loads.incrementAndGet()),
+			String::toUpperCase);
+		
+		assertEquals(List.of("Item 1"), items.getItems());
+		assertEquals("ITEM 1", items.getLabel("Item 1"));
+		assertSame(items, this.registry.getOrRegister(KEY, List::of, null));
+		assertEquals(1, loads.get());
+		final long version = items.getVersion();
+		
+		this.registry.refresh(NAME);
+		
+		assertEquals(List.of("Item 2"), items.getItems());
+		assertEquals(version + 1, items.getVersion());
+		// Unknown items are labelled on demand
+		assertEquals("ITEM 1", items.getLabel("Item 1"));
+	}
+	
+	@Test
+	void nameCanOnlyBeRegisteredForOneType()
+	{
+		this.registry.getOrRegister(KEY, () -> List.of("a"), null);
+		final SharedItemsKey<Integer> otherType = SharedItemsKey.of(NAME, Integer.class);
+		
+		assertThrows(
+			IllegalArgumentException.class,
+			() -> this.registry.getOrRegister(otherType, () -> List.of(1), null));
+		assertThrows(IllegalArgumentException.class, () -> this.registry.get(otherType));
+		assertNull(this.registry.get(SharedItemsKey.of("unknown", String.class)));
+	}
+	
+	@Test
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	void itemsOfOtherTypesFailWhenLoaded()
+	{
+		// e.g. a raw supplier
+		final SerializableSupplier supplier = () -> new ArrayList<>(List.of(1));
+		final SharedItems<String> items = this.registry.getOrRegister(KEY, supplier, null);
+		
+		assertThrows(ClassCastException.class, items::getItems);
+	}
+	
+	@Test
+	void deserializedItemsResolveToTheRegisteredInstance()
+	{
+		final SharedItems<String> items = this.registry.getOrRegister(KEY, () -> List.of("a"), null);
+		
+		assertSame(items, Serialization.roundTrip(items));
+		
+		this.registry.remove(NAME);
+		final SharedItems<String> copy = Serialization.roundTrip(items);
+		assertEquals(List.of("a"), copy.getItems());
+	}
+}
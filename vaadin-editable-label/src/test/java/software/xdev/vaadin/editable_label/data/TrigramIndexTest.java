@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import software.xdev.vaadin.editable_label.testing.Serialization;
+
+
+class TrigramIndexTest
+{
+	private static final List<String> CITIES = List.of("Berlin", "Bern", "Ulm", "Rom", "Regensburg");
+	
+	private static TrigramIndex<String> index(final List<String> items)
+	{
+		return new TrigramIndex<>(items, String::valueOf);
+	}
+	
+	private static List<String> search(final TrigramIndex<String> index, final String filter)
+	{
+		return index.fetch(filter, 0, Integer.MAX_VALUE);
+	}
+	
+	@Test
+	void gramsAreIntersectedAndVerified()
+	{
+		// All contain the grams "abc" and "bcd", but only one contains "abcd"
+		final TrigramIndex<String> index = index(List.of("abcXbcd", "xABCDx", "bcdabc"));
+		
+		assertEquals(List.of("xABCDx"), search(index, "abcd"));
+		assertEquals(List.of("xABCDx"), search(index, "ABCD"));
+		assertEquals(List.of("abcXbcd", "xABCDx", "bcdabc"), search(index, "bcd"));
+		assertEquals(List.of(), search(index, "abcde"));
+		assertEquals(1, index.count("abcd"));
+	}
+	
+	@Test
+	void shortFiltersMatchAnywhere()
+	{
+		final TrigramIndex<String> index = index(CITIES);
+		
+		assertEquals(List.of("Berlin", "Bern", "Regensburg"), search(index, "b"));
+		// Padded end
+		assertEquals(List.of("Ulm", "Rom"), search(index, "m"));
+		assertEquals(List.of("Berlin"), search(index, "rl"));
+		assertEquals(List.of("Berlin", "Bern"), search(index, "ER"));
+		assertEquals(List.of("Regensburg"), search(index, "g"));
+		assertEquals(CITIES, search(index, ""));
+		assertEquals(CITIES, search(index, null));
+	}
+	
+	@Test
+	void fetchesPages()
+	{
+		final TrigramIndex<String> index = index(CITIES);
+		
+		assertEquals(List.of("Bern", "Rom"), index.fetch("r", 1, 2));
+		assertEquals(List.of(), index.fetch("r", 5, 2));
+	}
+	
+	@Test
+	void removalUnindexesAndCompacts()
+	{
+		final List<String> items = IntStream.range(0, 10).mapToObj(i -> "Item " + i).toList();
+		final TrigramIndex<String> index = index(items);
+		
+		index.removeItems(List.of("Item 1", "Item 2", "Item 3"));
+		
+		assertEquals(List.of(), search(index, "item 2"));
+		assertEquals(7, index.count("item"));
+		// Removed ids are only marked
+		assertEquals(10, index.itemsById.size());
+		assertFalse(index.postings.containsKey(" 2" + TrigramIndex.LABEL_END));
+		
+		index.removeItems(List.of("Item 4", "Item 5", "Item 6", "unknown"));
+		
+		// More items were removed than remain -> compacted
+		assertEquals(List.of("Item 0", "Item 7", "Item 8", "Item 9"), index.getItems());
+		assertEquals(4, index.itemsById.size());
+		assertEquals(0, index.removedCount);
+		assertEquals(List.of("Item 8"), search(index, "item 8"));
+		assertEquals(List.of("Item 9"), search(index, "em 9"));
+		
+		// Removed items can be added again
+		index.addItems(List.of("Item 2", "Item 0"));
+		assertEquals(List.of("Item 0", "Item 7", "Item 8", "Item 9", "Item 2"), search(index, "item"));
+	}
+	
+	@Test
+	void resultCacheIsInvalidatedOnChange()
+	{
+		final City bern = new City("Bern");
+		final TrigramIndex<City> index = new TrigramIndex<>(List.of(new City("Berlin"), bern), City::getName);
+		
+		assertEquals(2, index.count("ber"));
+		assertTrue(index.resultCache.containsKey("ber"));
+		
+		index.addItems(List.of(new City("Bergen")));
+		assertFalse(index.resultCache.containsKey("ber"));
+		assertEquals(3, index.count("ber"));
+		
+		bern.setName("Basel");
+		// Not refreshed yet
+		assertEquals(3, index.count("ber"));
+		index.refreshItem(bern);
+		assertEquals(2, index.count("ber"));
+		assertEquals(List.of(bern), index.fetch("basel", 0, 1));
+		
+		index.setItems(List.of(bern));
+		assertEquals(0, index.count("ber"));
+	}
+	
+	@Test
+	void changeListenersAreNotifiedAndNotSerialized()
+	{
+		final TrigramIndex<String> index = index(CITIES);
+		final List<String> changes = new ArrayList<>();
+		index.addChangeListener(item -> changes.add(String.valueOf(item)));
+		
+		index.addItems(List.of("Hamburg"));
+		index.refreshItem("Ulm");
+		
+		assertEquals(List.of("null", "Ulm"), changes);
+		assertTrue(Serialization.roundTrip(index).changeListeners.isEmpty());
+		assertEquals(List.of("Regensburg", "Hamburg"), search(Serialization.roundTrip(index), "burg"));
+	}
+	
+	static class City implements Serializable
+	{
+		private String name;
+		
+		City(final String name)
+		{
+			this.name = name;
+		}
+		
+		String getName()
+		{
+			return this.name;
+		}
+		
+		void setName(final String name)
+		{
+			this.name = name;
+		}
+	}
+}
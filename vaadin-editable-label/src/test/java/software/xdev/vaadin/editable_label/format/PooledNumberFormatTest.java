@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import software.xdev.vaadin.editable_label.testing.Serialization;
+
+
+class PooledNumberFormatTest
+{
+	@Test
+	void defaultFormatIsRestoredAfterDeserialization()
+	{
+		final PooledNumberFormat format = FormatterRegistry.getDefault()
+			.numberFormat(new DecimalFormat("#,##0.00", DecimalFormatSymbols.getInstance(Locale.GERMANY)));
+		
+		final PooledNumberFormat copy = Serialization.roundTrip(format);
+		assertEquals(PooledNumberFormat.DEFAULT_MAXIMUM_POOL_SIZE, copy.getMaximumPoolSize());
+		assertEquals("1.234,50", copy.format(new BigDecimal("1234.5")));
+	}
+	
+	@Test
+	void maximumPoolSizeIsKeptAfterDeserialization()
+	{
+		final PooledNumberFormat format = new PooledNumberFormat(
+			new DecimalFormat("0.0", DecimalFormatSymbols.getInstance(Locale.US)),
+			2);
+		
+		final PooledNumberFormat copy = Serialization.roundTrip(format);
+		assertEquals(2, copy.getMaximumPoolSize());
+		assertEquals("1.5", copy.format(new BigDecimal("1.54")));
+	}
+}
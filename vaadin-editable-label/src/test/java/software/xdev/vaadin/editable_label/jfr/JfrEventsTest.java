@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.textfield.TextField;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import software.xdev.vaadin.editable_label.EditableLabelStyles;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextField;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+import software.xdev.vaadin.editable_label.testing.PredefinedLabelType;
+
+
+/**
+ * Checks that the JFR events of the labels are emitted by recording a typical interaction and reading the recording
+ * back.
+ * <p/>
+ * Interaction: attach a label with a lazy editor, enter the edit mode, save a new value, enter the edit mode again
+ * and cancel it.
+ */
+class JfrEventsTest
+{
+	private static final String LABEL_ID = "jfr-test-label";
+	private static final String NEW_VALUE = "Changed value";
+	
+	@Test
+	void eventsEmitted(@TempDir final Path tempDir) throws IOException
+	{
+		final Path recordingFile = tempDir.resolve("editable-label.jfr");
+		record(recordingFile);
+		
+		final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+		
+		expect(events, EditorCreated.NAME, 1, e -> true);
+		expect(events, EditModeChanged.NAME, 2, e -> e.getBoolean("editMode"));
+		expect(events, EditModeChanged.NAME, 2, e -> !e.getBoolean("editMode"));
+		expect(events, ValueCommitted.NAME, 1, e -> e.getBoolean("valueChanged"));
+		expect(events, LabelRendered.NAME, 1, e -> e.getInt("textLength") == NEW_VALUE.length());
+	}
+	
+	private static void record(final Path recordingFile) throws IOException
+	{
+		try(final Recording recording = new Recording())
+		{
+			recording.enable(EditorCreated.class).withoutThreshold();
+			recording.enable(EditModeChanged.class);
+			recording.enable(ValueCommitted.class).withoutThreshold();
+			recording.enable(LabelRendered.class).withoutThreshold();
+			recording.start();
+			
+			final BrowserlessUI ui = new BrowserlessUI();
+			UI.setCurrent(ui);
+			try
+			{
+				final EditableLabelTextField label = new EditableLabelTextField(TextField::new, null);
+				label.setId(LABEL_ID);
+				ui.add(label);
+				ui.flushResponse();
+				
+				label.setEditMode(true);
+				label.getEditor().setValue(NEW_VALUE);
+				PredefinedLabelType.clickButton(label, EditableLabelStyles.SAVE_BUTTON);
+				ui.flushResponse();
+				
+				label.setEditMode(true);
+				PredefinedLabelType.clickButton(label, EditableLabelStyles.CLOSE_BUTTON);
+				ui.flushResponse();
+			}
+			finally
+			{
+				UI.setCurrent(null);
+			}
+			
+			recording.stop();
+			recording.dump(recordingFile);
+		}
+	}
+	
+	private static void expect(
+		final List<RecordedEvent> events,
+		final String eventName,
+		final int minCount,
+		final Predicate<RecordedEvent> condition)
+	{
+		final long count = events.stream()
+			.filter(e -> eventName.equals(e.getEventType().getName()))
+			.filter(e -> LABEL_ID.equals(e.getString("labelId")))
+			.filter(condition)
+			.count();
+		assertTrue(
+			count >= minCount,
+			() -> eventName + ": expected at least " + minCount + " but recorded " + count);
+	}
+}
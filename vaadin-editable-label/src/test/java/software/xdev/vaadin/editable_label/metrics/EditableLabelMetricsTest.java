@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.UI;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import software.xdev.vaadin.editable_label.EditableLabelStyles;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextField;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+import software.xdev.vaadin.editable_label.testing.PredefinedLabelType;
+
+
+class EditableLabelMetricsTest
+{
+	private static final String TYPE = "EditableLabelTextField";
+	
+	private SimpleMeterRegistry registry;
+	private EditableLabelMetrics metrics;
+	private BrowserlessUI ui;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.registry = new SimpleMeterRegistry();
+		this.metrics = new EditableLabelMetrics(Tags.of("app", "test"));
+		this.metrics.bindTo(this.registry);
+		
+		this.ui = new BrowserlessUI();
+		UI.setCurrent(this.ui);
+	}
+	
+	@AfterEach
+	void tearDown()
+	{
+		this.metrics.close();
+		UI.setCurrent(null);
+	}
+	
+	@Test
+	void countersAndTimers()
+	{
+		final EditableLabelTextField label = new EditableLabelTextField();
+		label.setValue("A");
+		this.ui.add(label);
+		this.ui.flushResponse();
+		
+		// Save with a changed value
+		label.setEditMode(true);
+		PredefinedLabelType.setEditorValue(label, "B");
+		PredefinedLabelType.clickButton(label, EditableLabelStyles.SAVE_BUTTON);
+		
+		// Save without a change
+		label.setEditMode(true);
+		PredefinedLabelType.clickButton(label, EditableLabelStyles.SAVE_BUTTON);
+		
+		// Cancel
+		label.setEditMode(true);
+		PredefinedLabelType.setEditorValue(label, "C");
+		PredefinedLabelType.clickButton(label, EditableLabelStyles.CLOSE_BUTTON);
+		this.ui.flushResponse();
+		
+		assertEquals(3, this.counter("editable.label.edit"));
+		assertEquals(2, this.counter("editable.label.save"));
+		assertEquals(1, this.counter("editable.label.save.noop"));
+		assertEquals(1, this.counter("editable.label.cancel"));
+		assertEquals("B", label.getValue());
+		
+		assertEquals(2, this.registry.get("editable.label.save.listeners").tags("type", TYPE).timer().count());
+		assertTrue(this.registry.get("editable.label.render").tags("type", TYPE).timer().count() > 0);
+		
+		// Additional tags are applied to all meters
+		assertEquals(3, this.registry.get("editable.label.edit").tags("app", "test").counter().count());
+	}
+	
+	@Test
+	void gauges()
+	{
+		final EditableLabelTextField label1 = new EditableLabelTextField();
+		final EditableLabelTextField label2 = new EditableLabelTextField();
+		assertEquals(0, this.gauge("editable.label.live"));
+		
+		this.ui.add(label1, label2);
+		assertEquals(2, this.gauge("editable.label.live"));
+		assertEquals(0, this.gauge("editable.label.edit.mode"));
+		
+		label1.setEditMode(true);
+		label2.setEditMode(true);
+		assertEquals(2, this.gauge("editable.label.edit.mode"));
+		assertEquals(2, this.gauge("editable.label.edit.mode.ui.max"));
+		assertEquals(2, this.metrics.getEditModeCount(this.ui));
+		
+		this.ui.remove(label2);
+		assertEquals(1, this.gauge("editable.label.live"));
+		assertEquals(1, this.gauge("editable.label.edit.mode"));
+		
+		label1.setEditMode(false);
+		assertEquals(0, this.gauge("editable.label.edit.mode"));
+		assertEquals(0, this.gauge("editable.label.edit.mode.ui.max"));
+		
+		this.metrics.close();
+		assertEquals(0, this.gauge("editable.label.live"));
+	}
+	
+	private double counter(final String name)
+	{
+		return this.registry.get(name).tags("type", TYPE).counter().count();
+	}
+	
+	private double gauge(final String name)
+	{
+		return this.registry.get(name).gauge().value();
+	}
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.textfield.TextField;
+
+import software.xdev.vaadin.editable_label.EditableLabelStyles;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextField;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+import software.xdev.vaadin.editable_label.testing.PredefinedLabelType;
+import software.xdev.vaadin.editable_label.testing.Serialization;
+
+
+class WriteBehindCoordinatorTest
+{
+	private static final Duration NEVER = Duration.ofHours(1);
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+	
+	private final List<WriteBehindCoordinator<String, String>> coordinators = new ArrayList<>();
+	private final InMemoryBatchSink<String, String> sink = new InMemoryBatchSink<>();
+	
+	@AfterEach
+	void tearDown()
+	{
+		this.coordinators.stream()
+			.filter(WriteBehindCoordinator::isLive)
+			.forEach(WriteBehindCoordinator::close);
+		UI.setCurrent(null);
+	}
+	
+	private WriteBehindCoordinator<String, String> coordinator(
+		final BatchSink<String, String> batchSink,
+		final int maxBatchSize,
+		final Duration maxDelay)
+	{
+		final WriteBehindCoordinator<String, String> coordinator =
+			new WriteBehindCoordinator<>(batchSink, maxBatchSize, maxDelay);
+		this.coordinators.add(coordinator);
+		return coordinator;
+	}
+	
+	@Test
+	void batchIsWrittenWhenFull() throws Exception
+	{
+		final WriteBehindCoordinator<String, String> coordinator = this.coordinator(this.sink, 3, NEVER);
+		coordinator.submit("a", "1");
+		coordinator.submit("b", "1");
+		assertEquals(2, coordinator.getPendingCount());
+		
+		coordinator.submit("c", "1");
+		assertEquals(0, coordinator.getPendingCount());
+		coordinator.flushAndAwait(TIMEOUT);
+		
+		assertEquals(List.of(Map.of("a", "1", "b", "1", "c", "1")), this.sink.getBatches());
+	}
+	
+	@Test
+	void onlyTheLastValuePerKeyIsWritten() throws Exception
+	{
+		final WriteBehindCoordinator<String, String> coordinator = this.coordinator(this.sink, 10, NEVER);
+		coordinator.submit("a", "1");
+		coordinator.submit("b", "1");
+		coordinator.submit("a", "2");
+		coordinator.flushAndAwait(TIMEOUT);
+		
+		assertEquals(1, this.sink.getBatches().size());
+		final Map<String, String> batch = this.sink.getBatches().get(0);
+		// Ordered by the last submission
+		assertEquals(List.of("b", "a"), List.copyOf(batch.keySet()));
+		assertEquals("2", batch.get("a"));
+	}
+	
+	@Test
+	void batchIsWrittenAfterTheMaximumDelay() throws Exception
+	{
+		final CompletableFuture<Map<String, String>> written = new CompletableFuture<>();
+		final WriteBehindCoordinator<String, String> coordinator =
+			this.coordinator(written::complete, 10, Duration.ofMillis(10));
+		coordinator.submit("a", "1");
+		
+		assertEquals(Map.of("a", "1"), written.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+	}
+	
+	@Test
+	void batchesAreWrittenInSubmissionOrder() throws Exception
+	{
+		final List<Map<String, String>> batches = new CopyOnWriteArrayList<>();
+		final WriteBehindCoordinator<String, String> coordinator = this.coordinator(
+			batch -> {
+				// Slow writes must not be overtaken by later batches
+				if(batch.containsKey("1"))
+				{
+					sleep(50);
+				}
+				batches.add(batch);
+			},
+			10,
+			NEVER);
+		
+		for(int i = 1; i <= 5; i++)
+		{
+			coordinator.submit(String.valueOf(i), "v");
+			coordinator.flush();
+		}
+		coordinator.flushAndAwait(TIMEOUT);
+		
+		assertEquals(
+			List.of("1", "2", "3", "4", "5"),
+			batches.stream().flatMap(batch -> batch.keySet().stream()).toList());
+	}
+	
+	@Test
+	void failedBatchesAreReported() throws Exception
+	{
+		final List<Map<String, String>> failedBatches = new CopyOnWriteArrayList<>();
+		final WriteBehindCoordinator<String, String> coordinator = this.coordinator(
+			batch -> {
+				if(batch.containsKey("bad"))
+				{
+					throw new IllegalStateException("Constraint violated");
+				}
+				this.sink.write(batch);
+			},
+			10,
+			NEVER)
+			.withFailedBatchHandler((batch, throwable) -> failedBatches.add(batch));
+		
+		coordinator.submit("bad", "1");
+		final ExecutionException ex = assertThrows(ExecutionException.class, () -> coordinator.flushAndAwait(TIMEOUT));
+		assertInstanceOf(IllegalStateException.class, ex.getCause());
+		assertEquals(List.of(Map.of("bad", "1")), failedBatches);
+		
+		// Further batches are still written
+		coordinator.submit("good", "1");
+		coordinator.flushAndAwait(TIMEOUT);
+		assertEquals(Map.of("good", "1"), this.sink.getValues());
+	}
+	
+	@Test
+	void namedCoordinatorIsUsedAfterFailover() throws Exception
+	{
+		final WriteBehindCoordinator<String, String> original =
+			this.coordinator(new InMemoryBatchSink<>(), 10, NEVER).withName("names");
+		final BrowserlessUI ui = this.uiWithRegisteredLabel(original);
+		
+		final byte[] serialized = Serialization.serialize(ui);
+		// Simulate another node
+		original.close();
+		final WriteBehindCoordinator<String, String> replacement =
+			this.coordinator(this.sink, 10, NEVER).withName("names");
+		
+		saveFromClient(Serialization.deserialize(serialized, BrowserlessUI.class), "B");
+		replacement.flushAndAwait(TIMEOUT);
+		
+		assertEquals(Map.of("person-1.name", "B"), this.sink.getValues());
+	}
+	
+	@Test
+	void valuesAreDroppedWithoutLiveCoordinator() throws Exception
+	{
+		final WriteBehindCoordinator<String, String> original = this.coordinator(this.sink, 10, NEVER);
+		final BrowserlessUI ui = this.uiWithRegisteredLabel(original);
+		
+		final byte[] serialized = Serialization.serialize(ui);
+		original.close();
+		
+		final EditableLabelTextField label =
+			saveFromClient(Serialization.deserialize(serialized, BrowserlessUI.class), "B");
+		
+		// The label is not broken
+		assertEquals("B", label.getValue());
+		assertFalse(label.isEditMode());
+		assertTrue(this.sink.getBatches().isEmpty());
+	}
+	
+	private BrowserlessUI uiWithRegisteredLabel(final WriteBehindCoordinator<String, String> coordinator)
+	{
+		final BrowserlessUI ui = new BrowserlessUI();
+		UI.setCurrent(ui);
+		final EditableLabelTextField label = new EditableLabelTextField(TextField::new, null).withValue("A");
+		coordinator.register(label, "person-1.name");
+		ui.add(label);
+		ui.flushResponse();
+		return ui;
+	}
+	
+	private static EditableLabelTextField saveFromClient(final BrowserlessUI ui, final String value)
+	{
+		UI.setCurrent(ui);
+		final EditableLabelTextField label = (EditableLabelTextField)ui.getChildren().findFirst().orElseThrow();
+		label.setEditMode(true);
+		label.getEditor().setValue(value);
+		PredefinedLabelType.clickButtonFromClient(label, EditableLabelStyles.SAVE_BUTTON);
+		return label;
+	}
+	
+	private static void sleep(final long millis)
+	{
+		try
+		{
+			Thread.sleep(millis);
+		}
+		catch(final InterruptedException iex)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+}
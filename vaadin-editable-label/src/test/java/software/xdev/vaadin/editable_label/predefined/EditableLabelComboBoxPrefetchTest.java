@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.predefined;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
+import com.vaadin.flow.data.provider.BackEndDataProvider;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+
+import software.xdev.vaadin.editable_label.data.PrefetchingDataProvider;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+
+
+class EditableLabelComboBoxPrefetchTest
+{
+	private final AtomicInteger fetches = new AtomicInteger();
+	private final List<Runnable> executedPrefetches = new ArrayList<>();
+	
+	private BrowserlessUI ui;
+	private EditableLabelComboBox<String> label;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.ui = new BrowserlessUI();
+		UI.setCurrent(this.ui);
+		
+		final List<String> items = IntStream.range(0, 10).mapToObj(i -> "Item " + i).toList();
+		final BackEndDataProvider<String, String> backend = DataProvider.fromFilteringCallbacks(
+			query -> {
+				this.fetches.incrementAndGet();
+				return items.stream().skip(query.getOffset()).limit(query.getLimit());
+			},
+			query -> items.size());
+		
+		this.label = new EditableLabelComboBox<String>(ComboBox::new, null)
+			.withDeferredItems(backend, true)
+			// Executed directly when the test decides to
+			.withPrefetchExecutor(this.executedPrefetches::add);
+		this.ui.add(this.label);
+	}
+	
+	@AfterEach
+	void clearCurrentUI()
+	{
+		UI.setCurrent(null);
+	}
+	
+	private void fireFromBrowser(final String event)
+	{
+		final Element element = this.label.getElement();
+		element.getNode()
+			.getFeature(ElementListenerMap.class)
+			.fireEvent(new DomEvent(element, event, JacksonUtils.createObjectNode()));
+	}
+	
+	@Test
+	void triggerIsInstalledInTheBrowser()
+	{
+		this.ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+		final List<PendingJavaScriptInvocation> invocations =
+			this.ui.getInternals().dumpPendingJavaScriptInvocations();
+		
+		assertEquals(1, invocations.stream()
+			.filter(i -> i.getInvocation().getParameters().contains(EditableLabelComboBox.PREFETCH_EVENT))
+			.count());
+	}
+	
+	@Test
+	void prefetchesOnceWhenTriggered()
+	{
+		this.ui.flushResponse();
+		
+		this.fireFromBrowser(EditableLabelComboBox.PREFETCH_EVENT);
+		assertEquals(1, this.executedPrefetches.size());
+		this.executedPrefetches.forEach(Runnable::run);
+		assertEquals(1, this.fetches.get());
+		
+		// The listener was removed - later events are ignored
+		this.fireFromBrowser(EditableLabelComboBox.PREFETCH_EVENT);
+		assertEquals(1, this.executedPrefetches.size());
+		
+		final PrefetchingDataProvider<?> prefetching = (PrefetchingDataProvider<?>)this.label.deferredItems;
+		assertTrue(prefetching.isPrefetched());
+	}
+	
+	@Test
+	void noPrefetchWhenAlreadyEditing()
+	{
+		this.ui.flushResponse();
+		this.label.setEditMode(true);
+		
+		this.fireFromBrowser(EditableLabelComboBox.PREFETCH_EVENT);
+		
+		assertTrue(this.executedPrefetches.isEmpty());
+		assertFalse(((PrefetchingDataProvider<?>)this.label.deferredItems).isPrefetched());
+	}
+}
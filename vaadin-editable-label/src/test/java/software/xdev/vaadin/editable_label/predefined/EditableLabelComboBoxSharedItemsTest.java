@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.predefined;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ItemLabelGenerator;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.html.Span;
+
+import software.xdev.vaadin.editable_label.data.SharedItemsKey;
+import software.xdev.vaadin.editable_label.data.SharedItemsRegistry;
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+
+
+class EditableLabelComboBoxSharedItemsTest
+{
+	private static final SharedItemsKey<String> KEY = SharedItemsKey.of("combo-box-shared-items-test", String.class);
+	private static final List<String> ITEMS = List.of("berlin", "bern");
+	
+	private final AtomicInteger generatedLabels = new AtomicInteger();
+	private final ItemLabelGenerator<String> upperCase = this::toUpperCase;
+	
+	private BrowserlessUI ui;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.ui = new BrowserlessUI();
+		UI.setCurrent(this.ui);
+	}
+	
+	@AfterEach
+	void cleanUp()
+	{
+		UI.setCurrent(null);
+		SharedItemsRegistry.getDefault().remove(KEY.name());
+	}
+	
+	private String toUpperCase(final String item)
+	{
+		this.generatedLabels.incrementAndGet();
+		return item.toUpperCase();
+	}
+	
+	private String renderedLabel(final EditableLabelComboBox<String> label)
+	{
+		this.ui.add(label);
+		this.ui.flushResponse();
+		return label.getChildren()
+			.flatMap(Component::getChildren)
+			.filter(Span.class::isInstance)
+			.map(Span.class::cast)
+			.findFirst()
+			.orElseThrow()
+			.getText();
+	}
+	
+	@Test
+	void preGeneratedLabelsAreUsedForTheSameGenerator()
+	{
+		final EditableLabelComboBox<String> first = new EditableLabelComboBox<String>(ComboBox::new, null)
+			.withSharedItems(KEY, () -> ITEMS, this.upperCase)
+			.withValue("bern");
+		final EditableLabelComboBox<String> second = new EditableLabelComboBox<String>(ComboBox::new, null)
+			.withSharedItems(KEY, () -> ITEMS, this.upperCase)
+			.withValue("berlin");
+		
+		assertEquals("BERN", this.renderedLabel(first));
+		assertEquals("BERLIN", this.renderedLabel(second));
+		// Only generated when the items were loaded
+		assertEquals(ITEMS.size(), this.generatedLabels.get());
+	}
+	
+	@Test
+	void otherGeneratorsAreAppliedPerLabel()
+	{
+		final EditableLabelComboBox<String> upperCaseLabel = new EditableLabelComboBox<String>(ComboBox::new, null)
+			.withSharedItems(KEY, () -> ITEMS, this.upperCase)
+			.withValue("bern");
+		final EditableLabelComboBox<String> abbreviatedLabel = new EditableLabelComboBox<String>(ComboBox::new, null)
+			.withSharedItems(KEY, () -> ITEMS, item -> item.substring(0, 2))
+			.withValue("bern");
+		
+		assertEquals("BERN", this.renderedLabel(upperCaseLabel));
+		assertEquals("be", this.renderedLabel(abbreviatedLabel));
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.predefined;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.html.Span;
+
+import software.xdev.vaadin.editable_label.testing.BrowserlessUI;
+
+
+class EditableLabelDatePickerTest
+{
+	private static final LocalDate DATE = LocalDate.of(2024, 1, 31);
+	
+	private BrowserlessUI ui;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.ui = new BrowserlessUI();
+		this.ui.setLocale(Locale.GERMANY);
+		UI.setCurrent(this.ui);
+	}
+	
+	@AfterEach
+	void clearCurrentUI()
+	{
+		UI.setCurrent(null);
+	}
+	
+	private String renderedLabel(final EditableLabelDatePicker label)
+	{
+		this.ui.add(label);
+		return this.labelText(label);
+	}
+	
+	private String labelText(final EditableLabelDatePicker label)
+	{
+		this.ui.flushResponse();
+		return label.getChildren()
+			.flatMap(Component::getChildren)
+			.filter(Span.class::isInstance)
+			.map(Span.class::cast)
+			.findFirst()
+			.orElseThrow()
+			.getText();
+	}
+	
+	private static DatePicker.DatePickerI18n i18n(final String dateFormat)
+	{
+		return new DatePicker.DatePickerI18n().setDateFormat(dateFormat);
+	}
+	
+	@Test
+	void lazyLabelUsesTheLocaleUntilTheEditorIsCreated()
+	{
+		final EditableLabelDatePicker label = new EditableLabelDatePicker(
+			() -> {
+				final DatePicker datePicker = new DatePicker();
+				datePicker.setI18n(i18n("yyyy/MM/dd"));
+				return datePicker;
+			},
+			null)
+			.withValue(DATE)
+			.withTryUseI18NFormat();
+		
+		assertEquals("31.01.2024", this.renderedLabel(label));
+		assertFalse(label.isEditorCreated());
+		
+		label.setEditMode(true);
+		label.setEditMode(false);
+		assertEquals("2024/01/31", this.labelText(label));
+	}
+	
+	@Test
+	void lazyLabelUsesTheGivenI18NRightAway()
+	{
+		final EditableLabelDatePicker label = new EditableLabelDatePicker(DatePicker::new, null)
+			.withValue(DATE)
+			.withTryUseI18NFormat(i18n("dd/MM/yyyy"));
+		
+		assertEquals("31/01/2024", this.renderedLabel(label));
+		assertFalse(label.isEditorCreated());
+		
+		label.setEditMode(true);
+		assertEquals(List.of("dd/MM/yyyy"), label.getEditor().getI18n().getDateFormats());
+	}
+	
+	@Test
+	void eagerLabelUsesTheI18NOfTheEditor()
+	{
+		final DatePicker datePicker = new DatePicker();
+		datePicker.setI18n(i18n("yyyy-MM-dd (EEE)"));
+		datePicker.setLocale(Locale.US);
+		final EditableLabelDatePicker label = new EditableLabelDatePicker(datePicker)
+			.withValue(DATE)
+			.withTryUseI18NFormat();
+		
+		assertEquals("2024-01-31 (Wed)", this.renderedLabel(label));
+	}
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.testing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.DeploymentConfiguration;
+import com.vaadin.flow.internal.ConstantPool;
+import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.internal.change.NodeChange;
+import com.vaadin.flow.server.Command;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.shared.communication.PushMode;
+
+
+/**
+ * A {@link UI} that is not connected to a browser.
+ * <p/>
+ * It's possible to simulate the writing of a response using {@link #flushResponse()} so that collected changes and
+ * pending JavaScript invocations don't pile up.
+ * <p/>
+ * The UI belongs to a session without a service which is always locked by the current thread and runs in
+ * production mode. Tasks passed to {@link #access(Command)} are collected until {@link #runPendingAccessTasks()} is
+ * called.
+ */
+public class BrowserlessUI extends UI
+{
+	public BrowserlessUI()
+	{
+		this.getInternals().setSession(new AlwaysLockedSession());
+	}
+	
+	/**
+	 * Does the same with the state of the UI as it would be done when writing a response to the client.
+	 *
+	 * @return the changes that would have been sent to the client
+	 */
+	public List<NodeChange> flushResponse()
+	{
+		final StateTree stateTree = this.getInternals().getStateTree();
+		stateTree.runExecutionsBeforeClientResponse();
+		
+		final List<NodeChange> changes = new ArrayList<>();
+		stateTree.collectChanges(changes::add);
+		
+		this.getInternals().dumpPendingJavaScriptInvocations();
+		return changes;
+	}
+	
+	/**
+	 * Runs the tasks that were passed to {@link #access(Command)} - e.g. by background threads
+	 * - like the session would do once it's unlocked.
+	 *
+	 * @return the amount of executed tasks
+	 */
+	public int runPendingAccessTasks()
+	{
+		return ((AlwaysLockedSession)this.getSession()).runPendingAccessTasks();
+	}
+	
+	/**
+	 * Same as {@link #flushResponse()} but also encodes the changes and JavaScript invocations like they would be
+	 * written into the UIDL response.
+	 * <p/>
+	 * The size of JavaScript invocations is approximated: Parameters are encoded using their string representation,
+	 * elements are encoded as node references.
+	 */
+	public UidlPayload flushResponseAsUidl()
+	{
+		final StateTree stateTree = this.getInternals().getStateTree();
+		stateTree.runExecutionsBeforeClientResponse();
+		
+		final ConstantPool constantPool = new ConstantPool();
+		final List<String> fragments = new ArrayList<>();
+		final int[] changeCount = {0};
+		stateTree.collectChanges(change -> {
+			changeCount[0]++;
+			fragments.add(change.toJson(constantPool) + ",");
+		});
+		if(constantPool.hasNewConstants())
+		{
+			fragments.add(constantPool.dumpConstants() + ",");
+		}
+		
+		final List<PendingJavaScriptInvocation> invocations = this.getInternals().dumpPendingJavaScriptInvocations();
+		for(final PendingJavaScriptInvocation invocation : invocations)
+		{
+			fragments.add(invocation.getInvocation().getExpression());
+			for(final Object parameter : invocation.getInvocation().getParameters())
+			{
+				fragments.add("," + (parameter instanceof final Element element
+					? "{\"@v-node\":" + element.getNode().getId() + "}"
+					: parameter));
+			}
+		}
+		
+		return new UidlPayload(
+			changeCount[0],
+			invocations.size(),
+			String.join("", fragments).getBytes(StandardCharsets.UTF_8).length);
+	}
+	
+	/**
+	 * A session that is always locked and not backed by a service.
+	 */
+	static class AlwaysLockedSession extends VaadinSession
+	{
+		private static final DeploymentConfiguration CONFIGURATION = new ProductionDeploymentConfiguration();
+		
+		private final Queue<FutureTask<Void>> pendingAccessTasks = new ConcurrentLinkedQueue<>();
+		
+		AlwaysLockedSession()
+		{
+			super(null);
+		}
+		
+		@Override
+		public DeploymentConfiguration getConfiguration()
+		{
+			return CONFIGURATION;
+		}
+		
+		@Override
+		public boolean hasLock()
+		{
+			return true;
+		}
+		
+		@Override
+		public void lock()
+		{
+			// Always locked
+		}
+		
+		@Override
+		public void unlock()
+		{
+			// Always locked
+		}
+		
+		/**
+		 * Collects the task - there is no service that executes it.
+		 *
+		 * @see #runPendingAccessTasks()
+		 */
+		@Override
+		public Future<Void> access(final Command command)
+		{
+			final FutureTask<Void> task = new FutureTask<>(command::execute, null);
+			this.pendingAccessTasks.add(task);
+			return task;
+		}
+		
+		int runPendingAccessTasks()
+		{
+			int count = 0;
+			FutureTask<Void> task;
+			while((task = this.pendingAccessTasks.poll()) != null)
+			{
+				task.run();
+				count++;
+			}
+			return count;
+		}
+	}
+	
+	/**
+	 * A production mode configuration that uses the defaults for everything else.
+	 */
+	static class ProductionDeploymentConfiguration implements DeploymentConfiguration
+	{
+		@Override
+		public boolean isProductionMode()
+		{
+			return true;
+		}
+		
+		@Override
+		public String getStringProperty(final String name, final String defaultValue)
+		{
+			return defaultValue;
+		}
+		
+		@Override
+		public boolean getBooleanProperty(final String name, final boolean defaultValue)
+		{
+			return defaultValue;
+		}
+		
+		@Override
+		public <T> T getApplicationOrSystemProperty(
+			final String propertyName,
+			final T defaultValue,
+			final Function<String, T> converter)
+		{
+			return defaultValue;
+		}
+		
+		@Override
+		public Properties getInitParameters()
+		{
+			return new Properties();
+		}
+		
+		@Override
+		public boolean isRequestTiming()
+		{
+			return false;
+		}
+		
+		@Override
+		public boolean isSyncIdCheckEnabled()
+		{
+			return true;
+		}
+		
+		@Override
+		public int getHeartbeatInterval()
+		{
+			return 300;
+		}
+		
+		@Override
+		public int getMaxMessageSuspendTimeout()
+		{
+			return 5000;
+		}
+		
+		@Override
+		public int getWebComponentDisconnect()
+		{
+			return 300;
+		}
+		
+		@Override
+		public boolean isSendUrlsAsParameters()
+		{
+			return true;
+		}
+		
+		@Override
+		public boolean isCloseIdleSessions()
+		{
+			return false;
+		}
+		
+		@Override
+		public PushMode getPushMode()
+		{
+			return PushMode.DISABLED;
+		}
+		
+		@Override
+		public String getUIClassName()
+		{
+			return BrowserlessUI.class.getName();
+		}
+		
+		@Override
+		public String getClassLoaderName()
+		{
+			return null;
+		}
+		
+		@Override
+		public boolean isDevModeLiveReloadEnabled()
+		{
+			return false;
+		}
+		
+		@Override
+		public boolean isDevToolsEnabled()
+		{
+			return false;
+		}
+	}
+	
+	/**
+	 * @param changes     the amount of state tree changes
+	 * @param invocations the amount of JavaScript invocations
+	 * @param bytes       the (approximated) size of the payload
+	 */
+	public record UidlPayload(int changes, int invocations, long bytes)
+	{
+	}
+}
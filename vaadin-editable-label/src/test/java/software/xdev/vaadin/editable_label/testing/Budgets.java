@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.testing;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+
+/**
+ * Budgets for measured values (e.g. bytes) that are stored in a properties file of the test resources.
+ * <p/>
+ * A value may exceed its budget by {@link #TOLERANCE} to compensate for small differences between JVMs.
+ * <p/>
+ * When running with <code>-Dbudgets.record=true</code> nothing is checked. Instead, the measured values are written
+ * into the budget file (located in the directory <code>budgets.directory</code>) once {@link #writeIfRecording()} is
+ * called.
+ */
+public final class Budgets
+{
+	public static final double TOLERANCE = 0.1;
+	
+	private final String fileName;
+	private final String header;
+	private final Properties budgets = new Properties();
+	private final Map<String, Long> recorded = new TreeMap<>();
+	
+	/**
+	 * @param fileName the name of the budget file in the test resources
+	 * @param header   describes the budgets; written as comment into the file
+	 */
+	public Budgets(final String fileName, final String header)
+	{
+		this.fileName = fileName;
+		this.header = header;
+		
+		try(final InputStream in = Budgets.class.getResourceAsStream("/" + fileName))
+		{
+			if(in != null)
+			{
+				try(final Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+				{
+					this.budgets.load(reader);
+				}
+			}
+		}
+		catch(final IOException ioe)
+		{
+			throw new UncheckedIOException(ioe);
+		}
+	}
+	
+	public static boolean isRecording()
+	{
+		return Boolean.getBoolean("budgets.record");
+	}
+	
+	/**
+	 * Checks that the measured value doesn't exceed its budget (plus {@link #TOLERANCE}).
+	 */
+	public synchronized void check(final String key, final long measured)
+	{
+		if(isRecording())
+		{
+			this.recorded.put(key, measured);
+			return;
+		}
+		
+		final String budget = this.budgets.getProperty(key);
+		assertNotNull(budget, () -> key + ": No budget defined in " + this.fileName + " - record it first");
+		
+		final long limit = (long)Math.ceil(Long.parseLong(budget.trim()) * (1 + TOLERANCE));
+		assertTrue(
+			measured <= limit,
+			() -> key + ": " + measured + " exceeds the budget of " + budget.trim() + " (limit incl. tolerance: "
+				+ limit + ")");
+	}
+	
+	/**
+	 * Writes the recorded values into the budget file. Budgets that were not measured are kept.
+	 */
+	public synchronized void writeIfRecording() throws IOException
+	{
+		if(!isRecording() || this.recorded.isEmpty())
+		{
+			return;
+		}
+		
+		final Map<String, String> merged = new TreeMap<>();
+		this.budgets.forEach((key, value) -> merged.put((String)key, ((String)value).trim()));
+		this.recorded.forEach((key, value) -> merged.put(key, String.valueOf(value)));
+		
+		final List<String> lines = new ArrayList<>();
+		lines.add("# " + this.header);
+		lines.add("# Values may exceed their budget by " + Math.round(TOLERANCE * 100) + "%");
+		lines.add("# Regenerate using: mvn test -pl vaadin-editable-label -Dbudgets.record=true");
+		merged.forEach((key, value) -> lines.add(key + "=" + value));
+		
+		final Path file = Path.of(System.getProperty("budgets.directory", "src/test/resources"), this.fileName);
+		Files.write(file, lines, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.testing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.vaadin.flow.component.ClickEvent;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.HasValue;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.textfield.BigDecimalField;
+import com.vaadin.flow.component.textfield.NumberField;
+import com.vaadin.flow.component.textfield.TextArea;
+import com.vaadin.flow.component.textfield.TextField;
+
+import software.xdev.vaadin.editable_label.AbstractEditableLabel;
+import software.xdev.vaadin.editable_label.EditableLabelStyles;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelBigDecimalField;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelComboBox;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelDatePicker;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelNumberField;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextArea;
+import software.xdev.vaadin.editable_label.predefined.EditableLabelTextField;
+
+
+/**
+ * The predefined labels together with two distinct sample values.
+ */
+public enum PredefinedLabelType
+{
+	TEXT_FIELD(
+		EditableLabelTextField::new,
+		() -> new EditableLabelTextField(TextField::new, null),
+		"Some text",
+		"Some other text"),
+	TEXT_AREA(
+		EditableLabelTextArea::new,
+		() -> new EditableLabelTextArea(TextArea::new, null),
+		"Some text",
+		"Some other text"),
+	NUMBER_FIELD(
+		EditableLabelNumberField::new,
+		() -> new EditableLabelNumberField(NumberField::new, null),
+		1.5,
+		2.5),
+	BIG_DECIMAL_FIELD(
+		EditableLabelBigDecimalField::new,
+		() -> new EditableLabelBigDecimalField(BigDecimalField::new, null),
+		BigDecimal.ONE,
+		BigDecimal.TEN),
+	DATE_PICKER(
+		EditableLabelDatePicker::new,
+		() -> new EditableLabelDatePicker(DatePicker::new, null),
+		LocalDate.of(2000, 1, 1),
+		LocalDate.of(2001, 1, 1)),
+	COMBO_BOX(
+		() -> new EditableLabelComboBox<String>().withItems(List.of("A", "B")),
+		() -> new EditableLabelComboBox<String>(ComboBox::new, null).withItems(List.of("A", "B")),
+		"A",
+		"B");
+	
+	private final Supplier<AbstractEditableLabel<?, ?, ?>> eagerFactory;
+	private final Supplier<AbstractEditableLabel<?, ?, ?>> lazyFactory;
+	private final Object valueA;
+	private final Object valueB;
+	
+	PredefinedLabelType(
+		final Supplier<AbstractEditableLabel<?, ?, ?>> eagerFactory,
+		final Supplier<AbstractEditableLabel<?, ?, ?>> lazyFactory,
+		final Object valueA,
+		final Object valueB)
+	{
+		this.eagerFactory = eagerFactory;
+		this.lazyFactory = lazyFactory;
+		this.valueA = valueA;
+		this.valueB = valueB;
+	}
+	
+	/**
+	 * @param lazyEditor if the label should be created with a lazy initialized editor
+	 */
+	public AbstractEditableLabel<?, ?, ?> create(final boolean lazyEditor)
+	{
+		return lazyEditor ? this.lazyFactory.get() : this.eagerFactory.get();
+	}
+	
+	public Object getValueA()
+	{
+		return this.valueA;
+	}
+	
+	public Object getValueB()
+	{
+		return this.valueB;
+	}
+	
+	/**
+	 * @return the name in camelCase, e.g. <code>textField</code>
+	 */
+	public String key()
+	{
+		final String[] words = this.name().toLowerCase(Locale.ENGLISH).split("_");
+		return words[0] + Arrays.stream(words, 1, words.length)
+			.map(word -> Character.toUpperCase(word.charAt(0)) + word.substring(1))
+			.collect(Collectors.joining());
+	}
+	
+	/**
+	 * Sets a value that is not type checked at compile time.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static void setValue(final AbstractEditableLabel label, final Object value)
+	{
+		label.setValue(value);
+	}
+	
+	/**
+	 * Sets the value of the editor of the label.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static void setEditorValue(final AbstractEditableLabel label, final Object value)
+	{
+		((HasValue)label.getEditor()).setValue(value);
+	}
+	
+	/**
+	 * Clicks a button of the label, e.g. the save button, like a user would do.
+	 *
+	 * @param className the class name of the button, e.g. {@link EditableLabelStyles#SAVE_BUTTON}
+	 */
+	public static void clickButton(final AbstractEditableLabel<?, ?, ?> label, final String className)
+	{
+		findButton(label, className).click();
+	}
+	
+	/**
+	 * Same as {@link #clickButton(AbstractEditableLabel, String)} but the click originates from the client.
+	 */
+	public static void clickButtonFromClient(final AbstractEditableLabel<?, ?, ?> label, final String className)
+	{
+		final Button button = findButton(label, className);
+		ComponentUtil.fireEvent(button, new ClickEvent<>(button, true, 0, 0, 0, 0, 1, 0, false, false, false, false));
+	}
+	
+	static Button findButton(final AbstractEditableLabel<?, ?, ?> label, final String className)
+	{
+		return label.getChildren()
+			.flatMap(Component::getChildren)
+			.filter(Button.class::isInstance)
+			.map(Button.class::cast)
+			.filter(btn -> btn.hasClassName(className))
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException("No button with class " + className));
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2023 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.vaadin.editable_label.testing;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+
+
+/**
+ * Serializes objects the same way a servlet container does when persisting or replicating sessions.
+ * <p/>
+ * Only objects created by the tests themselves are deserialized, so unsafe input is not a concern.
+ */
+@SuppressWarnings("PMD.JavaObjectSerializationIsUnsafe")
+public final class Serialization
+{
+	private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+	
+	private Serialization()
+	{
+	}
+	
+	public static byte[] serialize(final Object obj)
+	{
+		final ByteArrayOutputStream bos = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+		try(final ObjectOutputStream out = new ObjectOutputStream(bos))
+		{
+			out.writeObject(obj);
+		}
+		catch(final IOException ioe)
+		{
+			throw new UncheckedIOException(ioe);
+		}
+		return bos.toByteArray();
+	}
+	
+	public static <T> T deserialize(final byte[] bytes, final Class<T> clazz)
+	{
+		try(final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes)))
+		{
+			return clazz.cast(in.readObject());
+		}
+		catch(final IOException ioe)
+		{
+			throw new UncheckedIOException(ioe);
+		}
+		catch(final ClassNotFoundException cnfe)
+		{
+			throw new IllegalStateException(cnfe);
+		}
+	}
+	
+	/**
+	 * @return a deserialized copy of the given object
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T roundTrip(final T obj)
+	{
+		return deserialize(serialize(obj), (Class<T>)obj.getClass());
+	}
+}